@@ -0,0 +1,13 @@
+package com.coopcredit.credit_application_reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class CreditApplicationReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(CreditApplicationReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,41 @@
+package com.coopcredit.credit_application_reactive.application.service;
+
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveAffiliateRepository;
+import com.coopcredit.credit_application_service.application.dto.AffiliateMapper;
+import com.coopcredit.credit_application_service.application.dto.CreateAffiliateRequest;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Application Service: ReactiveAffiliateService
+ * Non-blocking affiliate registration and lookups
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveAffiliateService {
+
+    private final ReactiveAffiliateRepository affiliateRepository;
+    private final AffiliateMapper affiliateMapper;
+
+    /**
+     * Register an affiliate.
+     * Business rule: there must not be an existing affiliate with the same document.
+     */
+    public Mono<Affiliate> create(CreateAffiliateRequest request) {
+        return affiliateRepository.existsByDocument(request.document())
+                .flatMap(exists -> exists
+                        ? Mono.error(new DomainException("El afiliado con este documento ya existe", "AFFILIATE_DUPLICATE"))
+                        : affiliateRepository.save(affiliateMapper.toDomain(request)));
+    }
+
+    public Mono<Affiliate> getById(Long id) {
+        return affiliateRepository.findById(id);
+    }
+
+    public Mono<Affiliate> getByDocument(String document) {
+        return affiliateRepository.findByDocument(document);
+    }
+}
@@ -0,0 +1,127 @@
+package com.coopcredit.credit_application_reactive.application.service;
+
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveAffiliateRepository;
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveCreditApplicationRepository;
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveRiskCentralPort;
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapper;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
+import com.coopcredit.credit_application_service.application.service.ApprovalRuleEngine;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.exception.AffiliateNotFoundException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Application Service: ReactiveCreditApplicationService
+ * Non-blocking version of the credit application flow: same domain entity and approval
+ * rule engine as CreditApplicationService, composed over the reactive ports. No transaction spans
+ * the risk call; the decided application is written with a single insert.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveCreditApplicationService {
+
+    private final ReactiveAffiliateRepository affiliateRepository;
+    private final ReactiveCreditApplicationRepository creditApplicationRepository;
+    private final ReactiveRiskCentralPort riskCentralPort;
+    private final CreditApplicationMapper creditApplicationMapper;
+    private final ApprovalRuleEngine approvalRuleEngine;
+    private final Clock clock;
+
+    /**
+     * Create a credit application with automatic risk evaluation and approval/rejection decision
+     */
+    public Mono<CreditApplicationResponse> create(CreateCreditApplicationRequest request) {
+        return affiliateRepository.findById(request.affiliateId())
+                .switchIfEmpty(Mono.error(() -> new AffiliateNotFoundException(
+                        "El afiliado con ID " + request.affiliateId() + " no fue encontrado"
+                )))
+                .flatMap(affiliate -> {
+                    if (affiliate.getStatus() != Affiliate.AffiliateStatus.ACTIVE) {
+                        return Mono.error(new AffiliateNotFoundException(
+                                "El afiliado con ID " + request.affiliateId() + " no está activo"
+                        ));
+                    }
+                    log.info("Creating credit application for affiliate ID: {}, amount: {}, term: {}",
+                            request.affiliateId(), request.amount(), request.term());
+
+                    Money amount = Money.ofNullable(request.amount());
+                    LocalDateTime now = LocalDateTime.now(clock);
+                    CreditApplication creditApp = CreditApplication.create(
+                            request.affiliateId(),
+                            amount,
+                            request.term(),
+                            now
+                    );
+                    return riskCentralPort.evaluateRisk(
+                                    affiliate.getDocument(),
+                                    amount,
+                                    request.term())
+                            .doOnError(e -> log.error("Risk evaluation failed for affiliate ID: {}",
+                                    request.affiliateId(), e))
+                            .map(riskEvaluation -> decide(creditApp, affiliate, riskEvaluation, now));
+                })
+                .flatMap(creditApplicationRepository::save)
+                .map(creditApplicationMapper::toResponse);
+    }
+
+    /**
+     * Get a credit application by ID
+     */
+    public Mono<CreditApplicationResponse> getById(Long id) {
+        return creditApplicationRepository.findById(id)
+                .map(creditApplicationMapper::toResponse)
+                .switchIfEmpty(Mono.error(() -> new DomainException(
+                        "Solicitud de crédito no encontrada",
+                        "CREDIT_APPLICATION_NOT_FOUND"
+                )));
+    }
+
+    /**
+     * Get all credit applications for an affiliate by document
+     */
+    public Flux<CreditApplicationResponse> getAllByAffiliate(String affiliateDocument) {
+        return affiliateRepository.findByDocument(affiliateDocument)
+                .switchIfEmpty(Mono.error(() -> new DomainException(
+                        "El afiliado no fue encontrado",
+                        "AFFILIATE_NOT_FOUND"
+                )))
+                .flatMapMany(affiliate -> creditApplicationRepository.findAllByAffiliateId(affiliate.getId()))
+                .map(creditApplicationMapper::toResponse);
+    }
+
+    /**
+     * Apply the approval rules and move the application out of PENDING
+     */
+    private CreditApplication decide(CreditApplication creditApp, Affiliate affiliate, RiskEvaluation riskEvaluation,
+                                     LocalDateTime now) {
+        log.info("Risk evaluation completed: score={}, riskLevel={}",
+                riskEvaluation.getScore(), riskEvaluation.getRiskLevel());
+        creditApp.updateRiskEvaluation(riskEvaluation.getScore(), riskEvaluation.getRiskLevel(), now);
+
+        ApprovalRule rule = approvalRuleEngine.match(creditApp, affiliate, riskEvaluation);
+        log.debug("Approval rules: riskLevel={}, amount={}, rule={}",
+                riskEvaluation.getRiskLevel(), creditApp.getAmount(), rule.name());
+        if (rule.decision() == ApprovalRule.Decision.APPROVE) {
+            creditApp.approve(now);
+            log.info("Credit application APPROVED for affiliate ID: {}", creditApp.getAffiliateId());
+        } else {
+            creditApp.reject(now);
+            log.info("Credit application REJECTED for affiliate ID: {}", creditApp.getAffiliateId());
+        }
+        return creditApp;
+    }
+}
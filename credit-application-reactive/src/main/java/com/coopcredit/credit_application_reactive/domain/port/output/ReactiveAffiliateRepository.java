@@ -0,0 +1,32 @@
+package com.coopcredit.credit_application_reactive.domain.port.output;
+
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import reactor.core.publisher.Mono;
+
+/**
+ * Output Port: ReactiveAffiliateRepository
+ * Non-blocking counterpart of AffiliateRepository
+ * Implementation will be provided by infrastructure layer (R2DBC adapter)
+ */
+public interface ReactiveAffiliateRepository {
+
+    /**
+     * Save or update an affiliate
+     */
+    Mono<Affiliate> save(Affiliate affiliate);
+
+    /**
+     * Find an affiliate by ID
+     */
+    Mono<Affiliate> findById(Long id);
+
+    /**
+     * Find an affiliate by document
+     */
+    Mono<Affiliate> findByDocument(String document);
+
+    /**
+     * Check if an affiliate exists by document (national identifier)
+     */
+    Mono<Boolean> existsByDocument(String document);
+}
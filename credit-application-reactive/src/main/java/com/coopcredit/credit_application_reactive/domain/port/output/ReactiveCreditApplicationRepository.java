@@ -0,0 +1,36 @@
+package com.coopcredit.credit_application_reactive.domain.port.output;
+
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Output Port: ReactiveCreditApplicationRepository
+ * Non-blocking counterpart of CreditApplicationRepository
+ */
+public interface ReactiveCreditApplicationRepository {
+
+    /**
+     * Save a credit application
+     *
+     * @param creditApplication the credit application to save
+     * @return the saved credit application with ID
+     */
+    Mono<CreditApplication> save(CreditApplication creditApplication);
+
+    /**
+     * Find a credit application by ID
+     *
+     * @param id the credit application ID
+     * @return the credit application, or empty if not found
+     */
+    Mono<CreditApplication> findById(Long id);
+
+    /**
+     * Find all credit applications for a specific affiliate
+     *
+     * @param affiliateId the affiliate ID
+     * @return the credit applications of the affiliate
+     */
+    Flux<CreditApplication> findAllByAffiliateId(Long affiliateId);
+}
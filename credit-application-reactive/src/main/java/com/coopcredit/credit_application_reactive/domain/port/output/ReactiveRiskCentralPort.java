@@ -0,0 +1,22 @@
+package com.coopcredit.credit_application_reactive.domain.port.output;
+
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import reactor.core.publisher.Mono;
+
+/**
+ * Output Port: ReactiveRiskCentralPort
+ * Non-blocking counterpart of RiskCentralPort
+ */
+public interface ReactiveRiskCentralPort {
+
+    /**
+     * Evaluate the credit risk for a given document, amount, and term
+     *
+     * @param document the customer's document identifier
+     * @param amount the credit amount requested
+     * @param term the credit term in months
+     * @return the risk evaluation result
+     */
+    Mono<RiskEvaluation> evaluateRisk(String document, Money amount, Integer term);
+}
@@ -0,0 +1,76 @@
+package com.coopcredit.credit_application_reactive.infrastructure.adapter.external;
+
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveRiskCentralPort;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.infrastructure.exception.InfrastructureException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+/**
+ * Adapter for external Risk Central Service
+ * Implements the ReactiveRiskCentralPort with a non-blocking WebClient
+ */
+@Component
+public class RiskCentralAdapter implements ReactiveRiskCentralPort {
+
+    private final WebClient webClient;
+
+    public RiskCentralAdapter(WebClient riskCentralWebClient) {
+        this.webClient = riskCentralWebClient;
+    }
+
+    @Override
+    public Mono<RiskEvaluation> evaluateRisk(String document, Money amount, Integer term) {
+        RiskEvaluationRequestDto request = new RiskEvaluationRequestDto(document, amount.toBigDecimal(), term);
+
+        return webClient
+                .post()
+                .uri("/risk-evaluation")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(RiskEvaluationResponseDto.class)
+                .switchIfEmpty(Mono.error(() ->
+                        new InfrastructureException("El servicio de riesgo devolvió una respuesta nula")))
+                .map(response -> {
+                    if (response.score() == null) {
+                        throw new InfrastructureException("El servicio de riesgo no devolvió un puntaje");
+                    }
+                    // The risk label is classified once here
+                    return new RiskEvaluation(response.score(), RiskLevel.fromLabel(response.riskLevel()),
+                            response.detail());
+                })
+                .onErrorMap(WebClientException.class, e -> new InfrastructureException(
+                        "Error al comunicarse con el servicio de riesgo: " + e.getMessage(),
+                        e
+                ))
+                .onErrorMap(e -> !(e instanceof InfrastructureException), e -> new InfrastructureException(
+                        "Error inesperado durante la evaluación de riesgo: " + e.getMessage(),
+                        e
+                ));
+    }
+
+    /**
+     * Internal DTO for Risk Central request
+     */
+    private record RiskEvaluationRequestDto(
+        String document,
+        BigDecimal amount,
+        Integer term
+    ) {}
+
+    /**
+     * Internal DTO for Risk Central response
+     */
+    private record RiskEvaluationResponseDto(
+        String document,
+        Integer score,
+        String riskLevel,
+        String detail
+    ) {}
+}
@@ -0,0 +1,15 @@
+package com.coopcredit.credit_application_reactive.infrastructure.config;
+
+import com.coopcredit.credit_application_service.infrastructure.config.ApprovalRulesConfig;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Configuration: ApprovalConfig
+ * Registers the servlet service's approval rule engine, compiled from the same
+ * credit-approval.* and credit-affordability.* properties, so both stacks decide alike
+ */
+@Configuration
+@Import(ApprovalRulesConfig.class)
+public class ApprovalConfig {
+}
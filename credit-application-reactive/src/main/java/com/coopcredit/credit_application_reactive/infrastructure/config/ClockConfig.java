@@ -0,0 +1,20 @@
+package com.coopcredit.credit_application_reactive.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Configuration: ClockConfig
+ * The clock services read once per operation, so every timestamp an operation writes is the
+ * same instant; tests substitute a fixed clock.
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,29 @@
+package com.coopcredit.credit_application_reactive.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayDataSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration: H2DevConfig
+ * In-memory H2 only: constraints such as {@code status IN (...)} keep a reference to the session
+ * that created them, so the JDBC session Flyway migrates with must outlive the migration or
+ * later R2DBC inserts fail their CHECK. Flyway gets one connection that stays open.
+ */
+@Configuration
+@Profile("dev")
+public class H2DevConfig {
+
+    @Bean
+    @FlywayDataSource
+    public DataSource flywayDataSource(@Value("${spring.flyway.url}") String url,
+                                       @Value("${spring.flyway.user}") String user,
+                                       @Value("${spring.flyway.password}") String password) {
+        return new SingleConnectionDataSource(url, user, password, true);
+    }
+}
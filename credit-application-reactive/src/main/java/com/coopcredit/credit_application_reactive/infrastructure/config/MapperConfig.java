@@ -0,0 +1,26 @@
+package com.coopcredit.credit_application_reactive.infrastructure.config;
+
+import com.coopcredit.credit_application_service.application.dto.AffiliateMapper;
+import com.coopcredit.credit_application_service.application.dto.AffiliateMapperImpl;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapper;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapperImpl;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration: MapperConfig
+ * Registers the servlet service's DTO mappers, so both stacks serve identical response bodies
+ */
+@Configuration
+public class MapperConfig {
+
+    @Bean
+    public AffiliateMapper affiliateMapper() {
+        return new AffiliateMapperImpl();
+    }
+
+    @Bean
+    public CreditApplicationMapper creditApplicationMapper() {
+        return new CreditApplicationMapperImpl();
+    }
+}
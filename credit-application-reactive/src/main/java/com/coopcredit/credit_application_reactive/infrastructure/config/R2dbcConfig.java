@@ -0,0 +1,24 @@
+package com.coopcredit.credit_application_reactive.infrastructure.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.mapping.R2dbcMappingContext;
+import org.springframework.data.relational.core.mapping.DefaultNamingStrategy;
+
+/**
+ * Configuration: R2dbcConfig
+ * Emits unquoted identifiers, so the lowercase names of the Flyway schema resolve on both
+ * PostgreSQL and H2 (which upper-cases unquoted names at creation)
+ */
+@Configuration
+public class R2dbcConfig {
+
+    @Bean
+    public R2dbcMappingContext r2dbcMappingContext(R2dbcCustomConversions conversions) {
+        R2dbcMappingContext context = new R2dbcMappingContext(DefaultNamingStrategy.INSTANCE);
+        context.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        context.setForceQuote(false);
+        return context;
+    }
+}
@@ -0,0 +1,37 @@
+package com.coopcredit.credit_application_reactive.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the non-blocking WebClient used to call the external Risk Central service.
+ * The connection pool bounds the in-flight calls; further calls wait (without holding a thread)
+ * for at most pending-acquire-timeout.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Bean
+    public WebClient riskCentralWebClient(@Value("${risk-central.url:http://localhost:8081}") String baseUrl,
+                                          @Value("${risk-central.timeout:PT5S}") Duration timeout,
+                                          @Value("${risk-central.max-connections:500}") int maxConnections,
+                                          @Value("${risk-central.pending-acquire-timeout:PT5S}") Duration pendingAcquireTimeout) {
+        ConnectionProvider pool = ConnectionProvider.builder("risk-central")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(-1)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .build();
+        HttpClient httpClient = HttpClient.create(pool).responseTimeout(timeout);
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
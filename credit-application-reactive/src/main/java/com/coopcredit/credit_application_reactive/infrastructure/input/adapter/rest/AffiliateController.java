@@ -0,0 +1,53 @@
+package com.coopcredit.credit_application_reactive.infrastructure.input.adapter.rest;
+
+import com.coopcredit.credit_application_reactive.application.service.ReactiveAffiliateService;
+import com.coopcredit.credit_application_service.application.dto.AffiliateMapper;
+import com.coopcredit.credit_application_service.application.dto.AffiliateResponse;
+import com.coopcredit.credit_application_service.application.dto.CreateAffiliateRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * REST Controller: AffiliateController
+ * Same affiliate endpoints as credit-application-service, served by WebFlux
+ */
+@RestController
+@RequestMapping("/affiliates")
+@RequiredArgsConstructor
+public class AffiliateController {
+
+    private final ReactiveAffiliateService affiliateService;
+    private final AffiliateMapper mapper;
+
+    @PostMapping
+    public Mono<ResponseEntity<AffiliateResponse>> create(@Valid @RequestBody CreateAffiliateRequest request) {
+        return affiliateService.create(request)
+                .map(mapper::toResponse)
+                .map(response -> ResponseEntity
+                        .created(URI.create(String.format("/affiliates/%d", response.id())))
+                        .body(response));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<AffiliateResponse>> getById(@PathVariable Long id) {
+        return affiliateService.getById(id)
+                .map(a -> ResponseEntity.ok(mapper.toResponse(a)))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<AffiliateResponse>> getByDocument(@RequestParam(required = false) String document) {
+        if (document == null || document.isBlank()) {
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+        return affiliateService.getByDocument(document)
+                .map(a -> ResponseEntity.ok(mapper.toResponse(a)))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    }
+}
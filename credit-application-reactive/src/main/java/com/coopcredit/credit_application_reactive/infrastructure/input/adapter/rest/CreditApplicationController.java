@@ -0,0 +1,63 @@
+package com.coopcredit.credit_application_reactive.infrastructure.input.adapter.rest;
+
+import com.coopcredit.credit_application_reactive.application.service.ReactiveCreditApplicationService;
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * REST Controller: CreditApplicationController
+ * Same credit application endpoints as credit-application-service, served by WebFlux
+ */
+@Slf4j
+@RestController
+@RequestMapping("/credit-applications")
+@RequiredArgsConstructor
+public class CreditApplicationController {
+
+    private final ReactiveCreditApplicationService creditApplicationService;
+
+    /**
+     * Create a new credit application
+     *
+     * @param request the credit application request
+     * @return 201 Created with the response
+     */
+    @PostMapping
+    public Mono<ResponseEntity<CreditApplicationResponse>> createCreditApplication(
+            @Valid @RequestBody CreateCreditApplicationRequest request) {
+        log.debug("Received request to create credit application for affiliate ID: {}", request.affiliateId());
+
+        return creditApplicationService.create(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    /**
+     * Get a credit application by ID
+     *
+     * @param id the credit application ID
+     * @return 200 OK with the credit application
+     */
+    @GetMapping("/{id}")
+    public Mono<CreditApplicationResponse> getCreditApplication(@PathVariable Long id) {
+        return creditApplicationService.getById(id);
+    }
+
+    /**
+     * Get all credit applications for an affiliate by document
+     *
+     * @param document the affiliate's document identifier
+     * @return 200 OK with list of credit applications
+     */
+    @GetMapping("/by-affiliate/{document}")
+    public Flux<CreditApplicationResponse> getCreditApplicationsByAffiliate(@PathVariable String document) {
+        return creditApplicationService.getAllByAffiliate(document);
+    }
+}
@@ -0,0 +1,71 @@
+package com.coopcredit.credit_application_reactive.infrastructure.input.adapter.rest;
+
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.URI;
+import java.util.stream.Collectors;
+
+/**
+ * Maps errors to the same RFC 7807 ProblemDetail bodies as credit-application-service
+ */
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ProblemDetail> handleConcurrentUpdate(ConcurrentUpdateException ex, ServerWebExchange exchange) {
+        ProblemDetail problem = problem(HttpStatus.CONFLICT, "concurrent-update", "Concurrent Update",
+                ex.getMessage(), exchange);
+        problem.setProperty("code", ex.getCode());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(problem);
+    }
+
+    @ExceptionHandler(DomainException.class)
+    public ResponseEntity<ProblemDetail> handleDomainException(DomainException ex, ServerWebExchange exchange) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem(HttpStatus.BAD_REQUEST,
+                "business-error", "Business Rule Violation", ex.getMessage(), exchange));
+    }
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ProblemDetail> handleValidation(WebExchangeBindException ex, ServerWebExchange exchange) {
+        String detail = ex.getBindingResult().getAllErrors()
+                .stream()
+                .map(err -> {
+                    if (err instanceof FieldError fe) {
+                        return fe.getField() + ": " + fe.getDefaultMessage();
+                    }
+                    return err.getDefaultMessage();
+                })
+                .collect(Collectors.joining("; "));
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem(HttpStatus.BAD_REQUEST,
+                "validation", "Validation Failed", detail, exchange));
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ProblemDetail> handleGeneric(Exception ex, ServerWebExchange exchange) {
+        log.error("Unhandled error on {}", exchange.getRequest().getPath(), ex);
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problem(HttpStatus.INTERNAL_SERVER_ERROR,
+                "internal", "Internal Server Error", "Error interno en el servidor: " + ex.getMessage(), exchange));
+    }
+
+    private static ProblemDetail problem(HttpStatus status, String type, String title, String detail,
+                                         ServerWebExchange exchange) {
+        ProblemDetail problem = ProblemDetail.forStatus(status);
+        problem.setType(URI.create("https://example.com/problem/" + type));
+        problem.setTitle(title);
+        problem.setDetail(detail);
+        problem.setInstance(URI.create(exchange.getRequest().getPath().value()));
+        return problem;
+    }
+}
@@ -0,0 +1,97 @@
+package com.coopcredit.credit_application_reactive.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveAffiliateRepository;
+import com.coopcredit.credit_application_reactive.infrastructure.persistence.entity.AffiliateRow;
+import com.coopcredit.credit_application_reactive.infrastructure.persistence.repository.AffiliateR2dbcRepository;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Adapter: AffiliateRepositoryAdapter
+ * Implements the ReactiveAffiliateRepository port over Spring Data R2DBC
+ */
+@Component
+@RequiredArgsConstructor
+public class AffiliateRepositoryAdapter implements ReactiveAffiliateRepository {
+
+    private final AffiliateR2dbcRepository repository;
+
+    @Override
+    public Mono<Affiliate> save(Affiliate affiliate) {
+        return repository.save(toRow(affiliate))
+                .onErrorMap(OptimisticLockingFailureException.class,
+                        e -> new ConcurrentUpdateException(
+                                "El afiliado con ID " + affiliate.getId() + " fue modificado por otra operación", e))
+                .map(AffiliateRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public Mono<Affiliate> findById(Long id) {
+        return repository.findById(id).map(AffiliateRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public Mono<Affiliate> findByDocument(String document) {
+        return repository.findByDocument(document).map(AffiliateRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public Mono<Boolean> existsByDocument(String document) {
+        return repository.existsByDocument(document);
+    }
+
+    private static AffiliateRow toRow(Affiliate affiliate) {
+        return AffiliateRow.builder()
+                .id(affiliate.getId())
+                .name(affiliate.getName())
+                .document(affiliate.getDocument())
+                .salary(affiliate.getSalary() != null ? affiliate.getSalary().toBigDecimal() : null)
+                .registrationDate(affiliate.getRegistrationDate())
+                .status(toCode(affiliate.getStatus()))
+                .createdAt(affiliate.getCreatedAt() != null ? affiliate.getCreatedAt() : LocalDateTime.now())
+                .updatedAt(affiliate.getUpdatedAt() != null ? affiliate.getUpdatedAt() : LocalDateTime.now())
+                .version(affiliate.getVersion())
+                .build();
+    }
+
+    private static Affiliate toDomain(AffiliateRow row) {
+        return Affiliate.reconstruct(
+                row.getId(),
+                row.getName(),
+                Money.ofNullable(row.getSalary()),
+                row.getRegistrationDate(),
+                toStatus(row.getStatus()),
+                row.getCreatedAt(),
+                row.getUpdatedAt(),
+                row.getDocument(),
+                row.getVersion()
+        );
+    }
+
+    // Same codes as AffiliateStatusConverter on the JPA side
+    private static String toCode(Affiliate.AffiliateStatus status) {
+        if (status == null) return null;
+        return switch (status) {
+            case ACTIVE -> "ACTIVO";
+            case INACTIVE -> "INACTIVO";
+            case SUSPENDED -> "SUSPENDIDO";
+        };
+    }
+
+    private static Affiliate.AffiliateStatus toStatus(String code) {
+        if (code == null) return null;
+        return switch (code) {
+            case "ACTIVO" -> Affiliate.AffiliateStatus.ACTIVE;
+            case "INACTIVO" -> Affiliate.AffiliateStatus.INACTIVE;
+            case "SUSPENDIDO" -> Affiliate.AffiliateStatus.SUSPENDED;
+            default -> throw new IllegalArgumentException("Unknown affiliate status: " + code);
+        };
+    }
+}
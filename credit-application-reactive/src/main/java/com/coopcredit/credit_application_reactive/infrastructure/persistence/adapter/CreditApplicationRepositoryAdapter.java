@@ -0,0 +1,97 @@
+package com.coopcredit.credit_application_reactive.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveCreditApplicationRepository;
+import com.coopcredit.credit_application_reactive.infrastructure.persistence.entity.CreditApplicationRow;
+import com.coopcredit.credit_application_reactive.infrastructure.persistence.repository.CreditApplicationR2dbcRepository;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Adapter: CreditApplicationRepositoryAdapter
+ * Implements the ReactiveCreditApplicationRepository port over Spring Data R2DBC
+ */
+@Component
+@RequiredArgsConstructor
+public class CreditApplicationRepositoryAdapter implements ReactiveCreditApplicationRepository {
+
+    private final CreditApplicationR2dbcRepository repository;
+
+    @Override
+    public Mono<CreditApplication> save(CreditApplication creditApplication) {
+        return repository.save(toRow(creditApplication))
+                .onErrorMap(OptimisticLockingFailureException.class,
+                        e -> new ConcurrentUpdateException(
+                                "La solicitud de crédito con ID " + creditApplication.getId()
+                                        + " fue modificada por otra operación", e))
+                .map(CreditApplicationRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public Mono<CreditApplication> findById(Long id) {
+        return repository.findById(id).map(CreditApplicationRepositoryAdapter::toDomain);
+    }
+
+    @Override
+    public Flux<CreditApplication> findAllByAffiliateId(Long affiliateId) {
+        return repository.findAllByAffiliateId(affiliateId).map(CreditApplicationRepositoryAdapter::toDomain);
+    }
+
+    private static CreditApplicationRow toRow(CreditApplication domain) {
+        return CreditApplicationRow.builder()
+                .id(domain.getId())
+                .affiliateId(domain.getAffiliateId())
+                .amount(domain.getAmount().toBigDecimal())
+                .term(domain.getTerm())
+                .status(toCode(domain.getStatus()))
+                .submissionDate(domain.getSubmissionDate())
+                .riskScore(domain.isEvaluated() ? domain.getRiskScore() : null)
+                .riskLevel(RiskLevel.labelOf(domain.getRiskLevel()))
+                .createdAt(domain.getCreatedAt())
+                .updatedAt(domain.getUpdatedAt())
+                .version(domain.getVersion())
+                .build();
+    }
+
+    private static CreditApplication toDomain(CreditApplicationRow row) {
+        return CreditApplication.reconstruct(
+                row.getId(),
+                row.getAffiliateId(),
+                Money.of(row.getAmount()),
+                row.getTerm(),
+                toStatus(row.getStatus()),
+                row.getSubmissionDate(),
+                row.getRiskScore(),
+                RiskLevel.ofNullableLabel(row.getRiskLevel()),
+                row.getCreatedAt(),
+                row.getUpdatedAt(),
+                row.getVersion()
+        );
+    }
+
+    // Same codes as CreditApplicationStatusConverter on the JPA side
+    private static String toCode(CreditApplication.CreditApplicationStatus status) {
+        if (status == null) return null;
+        return switch (status) {
+            case PENDING -> "PENDIENTE";
+            case APPROVED -> "APROBADO";
+            case REJECTED -> "RECHAZADO";
+        };
+    }
+
+    private static CreditApplication.CreditApplicationStatus toStatus(String code) {
+        if (code == null) return null;
+        return switch (code) {
+            case "PENDIENTE" -> CreditApplication.CreditApplicationStatus.PENDING;
+            case "APROBADO" -> CreditApplication.CreditApplicationStatus.APPROVED;
+            case "RECHAZADO" -> CreditApplication.CreditApplicationStatus.REJECTED;
+            default -> throw new IllegalArgumentException("Unknown credit application status: " + code);
+        };
+    }
+}
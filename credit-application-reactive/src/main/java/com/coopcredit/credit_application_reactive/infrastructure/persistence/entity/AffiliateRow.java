@@ -0,0 +1,50 @@
+package com.coopcredit.credit_application_reactive.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC Row: AffiliateRow
+ * Maps the domain Affiliate to the `affiliates` table (schema owned by the servlet service's migrations).
+ * The status holds the Spanish database code (ACTIVO, INACTIVO, SUSPENDIDO).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("affiliates")
+public class AffiliateRow {
+
+    @Id
+    private Long id;
+
+    private String name;
+
+    private String document;
+
+    private BigDecimal salary;
+
+    @Column("registration_date")
+    private LocalDate registrationDate;
+
+    private String status;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+}
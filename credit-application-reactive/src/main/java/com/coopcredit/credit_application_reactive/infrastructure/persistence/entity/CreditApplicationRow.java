@@ -0,0 +1,57 @@
+package com.coopcredit.credit_application_reactive.infrastructure.persistence.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * R2DBC Row: CreditApplicationRow
+ * Maps the domain CreditApplication to the `credit_applications` table.
+ * The status holds the Spanish database code (PENDIENTE, APROBADO, RECHAZADO).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("credit_applications")
+public class CreditApplicationRow {
+
+    @Id
+    private Long id;
+
+    @Column("affiliate_id")
+    private Long affiliateId;
+
+    private BigDecimal amount;
+
+    private Integer term;
+
+    private String status;
+
+    @Column("submission_date")
+    private LocalDate submissionDate;
+
+    @Column("risk_score")
+    private Integer riskScore;
+
+    @Column("risk_level")
+    private String riskLevel;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+}
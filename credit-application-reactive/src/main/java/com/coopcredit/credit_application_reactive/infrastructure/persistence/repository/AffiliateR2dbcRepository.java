@@ -0,0 +1,17 @@
+package com.coopcredit.credit_application_reactive.infrastructure.persistence.repository;
+
+import com.coopcredit.credit_application_reactive.infrastructure.persistence.entity.AffiliateRow;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Spring Data R2DBC Repository for AffiliateRow
+ */
+@Repository
+public interface AffiliateR2dbcRepository extends ReactiveCrudRepository<AffiliateRow, Long> {
+
+    Mono<AffiliateRow> findByDocument(String document);
+
+    Mono<Boolean> existsByDocument(String document);
+}
@@ -0,0 +1,18 @@
+package com.coopcredit.credit_application_reactive.infrastructure.persistence.repository;
+
+import com.coopcredit.credit_application_reactive.infrastructure.persistence.entity.CreditApplicationRow;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+/**
+ * Spring Data R2DBC Repository for CreditApplicationRow
+ */
+@Repository
+public interface CreditApplicationR2dbcRepository extends ReactiveCrudRepository<CreditApplicationRow, Long> {
+
+    /**
+     * Find all credit applications for a specific affiliate
+     */
+    Flux<CreditApplicationRow> findAllByAffiliateId(Long affiliateId);
+}
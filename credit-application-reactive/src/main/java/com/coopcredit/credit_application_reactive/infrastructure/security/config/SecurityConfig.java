@@ -0,0 +1,62 @@
+package com.coopcredit.credit_application_reactive.infrastructure.security.config;
+
+import com.coopcredit.credit_application_reactive.infrastructure.security.jwt.JwtAuthenticationWebFilter;
+import com.coopcredit.credit_application_service.infrastructure.security.jwt.JwtService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * Configuration: SecurityConfig
+ * WebFlux security with the same JWT-based stateless authentication and authorization rules
+ * as credit-application-service
+ */
+@Configuration
+@EnableWebFluxSecurity
+public class SecurityConfig {
+
+    /**
+     * Configure HTTP security with JWT filter and public/protected endpoints
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtService jwtService) {
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(authz -> authz
+                        // Allow preflight requests
+                        .pathMatchers(HttpMethod.OPTIONS).permitAll()
+
+                        // Public endpoints
+                        .pathMatchers("/actuator/**").permitAll()
+
+                        // Protected endpoints
+                        .pathMatchers(HttpMethod.POST, "/affiliates/**").hasAnyRole("ADMIN", "ANALISTA")
+                        .pathMatchers(HttpMethod.GET, "/affiliates/**").authenticated()
+                        .pathMatchers(HttpMethod.POST, "/credit-applications/**").authenticated()
+                        .pathMatchers(HttpMethod.GET, "/credit-applications/**").authenticated()
+
+                        // All other requests require authentication
+                        .anyExchange().authenticated())
+                .addFilterAt(new JwtAuthenticationWebFilter(jwtService), SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    /**
+     * JwtService of the servlet service, configured with the shared jwt.* properties
+     */
+    @Bean
+    public JwtService jwtService(@Value("${jwt.secret}") String secretKey,
+                                 @Value("${jwt.expiration:900000}") long jwtExpirationMs,
+                                 @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
+        return new JwtService(secretKey, jwtExpirationMs, cacheMaxSize);
+    }
+}
@@ -0,0 +1,48 @@
+package com.coopcredit.credit_application_reactive.infrastructure.security.jwt;
+
+import com.coopcredit.credit_application_service.infrastructure.security.jwt.JwtService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+
+/**
+ * Filter: JwtAuthenticationWebFilter
+ * Reactive counterpart of JwtAuthenticationFilter. Tokens are issued by credit-application-service
+ * and verified here with the same JwtService (shared secret, cached verification); verification
+ * is CPU-only, so it runs inline on the event loop.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtService jwtService;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return chain.filter(exchange);
+        }
+
+        return jwtService.verify(authHeader.substring(BEARER_PREFIX.length()))
+                .map(verified -> {
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            verified.username(),
+                            null,
+                            Collections.singletonList(new SimpleGrantedAuthority(verified.role()))
+                    );
+                    return chain.filter(exchange)
+                            .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+                })
+                .orElseGet(() -> chain.filter(exchange));
+    }
+}
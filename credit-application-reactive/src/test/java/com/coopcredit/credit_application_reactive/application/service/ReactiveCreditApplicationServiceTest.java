@@ -0,0 +1,139 @@
+package com.coopcredit.credit_application_reactive.application.service;
+
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveAffiliateRepository;
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveCreditApplicationRepository;
+import com.coopcredit.credit_application_reactive.domain.port.output.ReactiveRiskCentralPort;
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapperImpl;
+import com.coopcredit.credit_application_service.application.service.ApprovalRuleEngine;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.exception.AffiliateNotFoundException;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.service.ApprovalDecisionTable;
+import com.coopcredit.credit_application_service.domain.service.CreditApprovalPolicy;
+import com.coopcredit.credit_application_service.infrastructure.exception.InfrastructureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveCreditApplicationServiceTest {
+
+    @Mock
+    private ReactiveAffiliateRepository affiliateRepository;
+
+    @Mock
+    private ReactiveCreditApplicationRepository creditApplicationRepository;
+
+    @Mock
+    private ReactiveRiskCentralPort riskCentralPort;
+
+    private ReactiveCreditApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveCreditApplicationService(affiliateRepository, creditApplicationRepository,
+                riskCentralPort, new CreditApplicationMapperImpl(), new ApprovalRuleEngine(CreditApprovalPolicy.DEFAULT,
+                        CreditApprovalPolicy.DEFAULT_AFFORDABILITY, Clock.systemDefaultZone()),
+                Clock.systemDefaultZone());
+    }
+
+    @Test
+    void create_lowRisk_shouldApproveAndSave() {
+        when(affiliateRepository.findById(1L)).thenReturn(Mono.just(activeAffiliate()));
+        when(riskCentralPort.evaluateRisk("12345678", Money.of(new BigDecimal("5000000")), 12))
+                .thenReturn(Mono.just(new RiskEvaluation(800, RiskLevel.LOW, "Low risk profile")));
+        when(creditApplicationRepository.save(any(CreditApplication.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(service.create(request("5000000")))
+                .expectNextMatches(response -> response.status().equals("Aprobado")
+                        && response.riskScore() == 800)
+                .verifyComplete();
+    }
+
+    @Test
+    void create_mediumRiskHighAmount_shouldReject() {
+        when(affiliateRepository.findById(1L)).thenReturn(Mono.just(activeAffiliate()));
+        when(riskCentralPort.evaluateRisk("12345678", Money.of(new BigDecimal("15000000")), 12))
+                .thenReturn(Mono.just(new RiskEvaluation(600, RiskLevel.MEDIUM, "Medium risk profile")));
+        when(creditApplicationRepository.save(any(CreditApplication.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(service.create(request("15000000")))
+                .expectNextMatches(response -> response.status().equals("Rechazado"))
+                .verifyComplete();
+    }
+
+    @Test
+    void create_shouldDecideWithTheConfiguredRules() {
+        ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(new ApprovalRule("plazo-largo",
+                null, null, null, 6, null, null, null, null, null, ApprovalRule.Decision.REJECT)),
+                ApprovalRule.Decision.APPROVE);
+        service = new ReactiveCreditApplicationService(affiliateRepository, creditApplicationRepository,
+                riskCentralPort, new CreditApplicationMapperImpl(), new ApprovalRuleEngine(table,
+                        CreditApprovalPolicy.DEFAULT_AFFORDABILITY, Clock.systemDefaultZone()),
+                Clock.systemDefaultZone());
+        when(affiliateRepository.findById(1L)).thenReturn(Mono.just(activeAffiliate()));
+        when(riskCentralPort.evaluateRisk("12345678", Money.of(new BigDecimal("5000000")), 12))
+                .thenReturn(Mono.just(new RiskEvaluation(800, RiskLevel.LOW, "Low risk profile")));
+        when(creditApplicationRepository.save(any(CreditApplication.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+        StepVerifier.create(service.create(request("5000000")))
+                .expectNextMatches(response -> response.status().equals("Rechazado"))
+                .verifyComplete();
+    }
+
+    @Test
+    void create_affiliateNotFound_shouldError() {
+        when(affiliateRepository.findById(1L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(service.create(request("5000000")))
+                .expectError(AffiliateNotFoundException.class)
+                .verify();
+        verify(riskCentralPort, never()).evaluateRisk(any(), any(), any());
+    }
+
+    @Test
+    void create_riskCentralFailure_shouldNotSave() {
+        when(affiliateRepository.findById(1L)).thenReturn(Mono.just(activeAffiliate()));
+        when(riskCentralPort.evaluateRisk("12345678", Money.of(new BigDecimal("5000000")), 12))
+                .thenReturn(Mono.error(new InfrastructureException("Error al comunicarse con el servicio de riesgo")));
+
+        StepVerifier.create(service.create(request("5000000")))
+                .expectError(InfrastructureException.class)
+                .verify();
+        verify(creditApplicationRepository, never()).save(any());
+    }
+
+    private static CreateCreditApplicationRequest request(String amount) {
+        return new CreateCreditApplicationRequest(1L, new BigDecimal(amount), 12);
+    }
+
+    private static Affiliate activeAffiliate() {
+        Affiliate affiliate = Affiliate.create("John Doe", Money.of(new BigDecimal("50000")),
+                LocalDate.now().minusYears(2), "12345678");
+        return Affiliate.reconstruct(1L, affiliate.getName(), affiliate.getSalary(),
+                affiliate.getRegistrationDate(), affiliate.getStatus(),
+                affiliate.getCreatedAt(), affiliate.getUpdatedAt(), affiliate.getDocument(), 0L);
+    }
+}
@@ -1,9 +1,11 @@
 package com.coopcredit.credit_application_service.application.dto;
 
 import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.Money;
 import com.coopcredit.credit_application_service.infrastructure.persistence.entity.AffiliateEntity;
 import org.mapstruct.Mapper;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -17,7 +19,7 @@ public interface AffiliateMapper {
         if (request == null) return null;
         return com.coopcredit.credit_application_service.domain.entity.Affiliate.create(
             request.name(),
-            request.salary(),
+            Money.ofNullable(request.salary()),
             request.registrationDate(),
             request.document()
         );
@@ -29,7 +31,7 @@ public interface AffiliateMapper {
             affiliate.getId(),
             affiliate.getName(),
             null,
-            affiliate.getSalary(),
+            toDecimal(affiliate.getSalary()),
             affiliate.getRegistrationDate(),
             affiliate.getStatus() != null ? affiliate.getStatus().getLabel() : null,
             affiliate.getCreatedAt(),
@@ -45,11 +47,12 @@ public interface AffiliateMapper {
         entity.setId(affiliate.getId());
         entity.setName(affiliate.getName());
         entity.setDocument(affiliate.getDocument());
-        entity.setSalary(affiliate.getSalary());
+        entity.setSalary(toDecimal(affiliate.getSalary()));
         entity.setRegistrationDate(affiliate.getRegistrationDate());
         entity.setStatus(affiliate.getStatus());
         entity.setCreatedAt(affiliate.getCreatedAt() != null ? affiliate.getCreatedAt() : LocalDateTime.now());
         entity.setUpdatedAt(affiliate.getUpdatedAt() != null ? affiliate.getUpdatedAt() : LocalDateTime.now());
+        entity.setVersion(affiliate.getVersion());
         return entity;
     }
 
@@ -58,13 +61,17 @@ public interface AffiliateMapper {
         return com.coopcredit.credit_application_service.domain.entity.Affiliate.reconstruct(
             entity.getId(),
             entity.getName(),
-            entity.getSalary(),
+            Money.ofNullable(entity.getSalary()),
             entity.getRegistrationDate(),
             entity.getStatus(),
             entity.getCreatedAt(),
             entity.getUpdatedAt(),
-            entity.getDocument()
+            entity.getDocument(),
+            entity.getVersion()
         );
     }
 
+    private static BigDecimal toDecimal(Money money) {
+        return money != null ? money.toBigDecimal() : null;
+    }
 }
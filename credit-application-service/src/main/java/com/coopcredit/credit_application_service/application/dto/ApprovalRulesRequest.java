@@ -0,0 +1,18 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO: ApprovalRulesRequest
+ * Replacement approval decision table, evaluated top to bottom
+ */
+public record ApprovalRulesRequest(
+    @NotNull(message = "Las reglas son requeridas")
+    List<ApprovalRule> rules,
+
+    @NotNull(message = "La decisión por defecto es requerida")
+    ApprovalRule.Decision defaultDecision
+) {}
@@ -0,0 +1,17 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO: ApprovalRulesResponse
+ * The approval decision table in force
+ */
+public record ApprovalRulesResponse(
+    List<ApprovalRule> rules,
+    ApprovalRule.Decision defaultDecision,
+    long revision,  // 1 for the configured table, +1 on every replacement
+    LocalDateTime loadedAt  // when this node put the revision in force
+) {}
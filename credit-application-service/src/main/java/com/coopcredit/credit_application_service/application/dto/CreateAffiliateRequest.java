@@ -1,5 +1,6 @@
 package com.coopcredit.credit_application_service.application.dto;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
@@ -20,6 +21,7 @@ public record CreateAffiliateRequest(
 
     @NotNull(message = "El salario es requerido")
     @Positive(message = "El salario debe ser mayor a cero")
+    @Digits(integer = 17, fraction = 2, message = "El salario admite hasta 17 enteros y 2 decimales")
     BigDecimal salary,
 
     @NotNull(message = "La fecha de registro es requerida")
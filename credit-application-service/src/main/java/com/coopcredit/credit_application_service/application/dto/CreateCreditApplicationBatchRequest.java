@@ -0,0 +1,15 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+
+/**
+ * DTO: CreateCreditApplicationBatchRequest
+ * Request to create several credit applications at once (e.g. a branch's end-of-day file)
+ */
+public record CreateCreditApplicationBatchRequest(
+    @NotEmpty(message = "El lote debe contener al menos una solicitud")
+    List<@Valid CreateCreditApplicationRequest> applications
+) {}
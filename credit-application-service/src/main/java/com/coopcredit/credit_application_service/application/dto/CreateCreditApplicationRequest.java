@@ -1,6 +1,7 @@
 package com.coopcredit.credit_application_service.application.dto;
 
 import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
@@ -16,6 +17,7 @@ public record CreateCreditApplicationRequest(
 
     @NotNull(message = "El monto es requerido")
     @DecimalMin(value = "0.01", message = "El monto debe ser mayor a cero")
+    @Digits(integer = 13, fraction = 2, message = "El monto admite hasta 13 enteros y 2 decimales")
     BigDecimal amount,
 
     @NotNull(message = "El plazo es requerido")
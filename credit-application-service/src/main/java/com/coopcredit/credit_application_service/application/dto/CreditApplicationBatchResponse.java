@@ -0,0 +1,37 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO: CreditApplicationBatchResponse
+ * Outcome of a batch submission, with one result per submitted application (same order);
+ * pending applications could not be evaluated yet and are decided later
+ */
+public record CreditApplicationBatchResponse(
+    int total,
+    int approved,
+    int rejected,
+    int pending,
+    int failed,
+    List<Item> results
+) {
+
+    /**
+     * Result for one application: either the saved application or an error
+     */
+    public record Item(
+        int index,
+        CreditApplicationResponse application,
+        String errorCode,
+        String error  // Spanish message
+    ) {
+
+        public static Item success(int index, CreditApplicationResponse application) {
+            return new Item(index, application, null, null);
+        }
+
+        public static Item failure(int index, String errorCode, String error) {
+            return new Item(index, null, errorCode, error);
+        }
+    }
+}
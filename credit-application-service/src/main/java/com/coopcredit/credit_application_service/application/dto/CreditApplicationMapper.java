@@ -1,6 +1,8 @@
 package com.coopcredit.credit_application_service.application.dto;
 
 import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
 import com.coopcredit.credit_application_service.infrastructure.persistence.entity.CreditApplicationEntity;
 import org.mapstruct.Mapper;
 
@@ -21,14 +23,17 @@ public interface CreditApplicationMapper {
         return CreditApplication.reconstruct(
                 entity.getId(),
                 entity.getAffiliateId(),
-                entity.getAmount(),
+                Money.of(entity.getAmount()),
                 entity.getTerm(),
                 entity.getStatus(),
                 entity.getSubmissionDate(),
                 entity.getRiskScore(),
-                entity.getRiskLevel(),
+                RiskLevel.ofNullableLabel(entity.getRiskLevel()),
                 entity.getCreatedAt(),
-                entity.getUpdatedAt()
+                entity.getUpdatedAt(),
+                entity.getVersion(),
+                entity.getRiskAttempts() != null ? entity.getRiskAttempts() : 0,
+                entity.getNextRiskAttemptAt()
         );
     }
 
@@ -42,14 +47,17 @@ public interface CreditApplicationMapper {
         return CreditApplicationEntity.builder()
                 .id(domain.getId())
                 .affiliateId(domain.getAffiliateId())
-                .amount(domain.getAmount())
+                .amount(domain.getAmount().toBigDecimal())
                 .term(domain.getTerm())
                 .status(domain.getStatus())
                 .submissionDate(domain.getSubmissionDate())
-                .riskScore(domain.getRiskScore())
-                .riskLevel(domain.getRiskLevel())
+                .riskScore(domain.isEvaluated() ? domain.getRiskScore() : null)
+                .riskLevel(RiskLevel.labelOf(domain.getRiskLevel()))
                 .createdAt(domain.getCreatedAt())
                 .updatedAt(domain.getUpdatedAt())
+                .version(domain.getVersion())
+                .riskAttempts(domain.getRiskAttempts())
+                .nextRiskAttemptAt(domain.getNextRiskAttemptAt())
                 .build();
     }
 
@@ -63,12 +71,12 @@ public interface CreditApplicationMapper {
         return new CreditApplicationResponse(
                 domain.getId(),
                 domain.getAffiliateId(),
-                domain.getAmount(),
+                domain.getAmount().toBigDecimal(),
                 domain.getTerm(),
                 domain.getStatus().getLabel(),
                 domain.getSubmissionDate(),
-                domain.getRiskScore(),
-                domain.getRiskLevel(),
+                domain.isEvaluated() ? domain.getRiskScore() : null,
+                RiskLevel.labelOf(domain.getRiskLevel()),
                 domain.getCreatedAt(),
                 domain.getUpdatedAt()
         );
@@ -0,0 +1,10 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+/**
+ * DTO: CreditDecisionEvent
+ * Payload of a credit-decision event on GET /credit-applications/decisions/stream
+ */
+public record CreditDecisionEvent(
+    String affiliateDocument,
+    CreditApplicationResponse application
+) {}
@@ -0,0 +1,43 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO: CreditSimulationResponse
+ * Outcome of a what-if simulation: one row per requested amount (same order), each with one
+ * quote per requested term (same order)
+ */
+public record CreditSimulationResponse(
+    Long affiliateId,
+    Integer riskScore,
+    String riskLevel,
+    BigDecimal annualRate,
+    int approved,
+    int rejected,
+    List<Row> rows
+) {
+
+    /**
+     * Quotes of one amount
+     */
+    public record Row(
+        BigDecimal amount,
+        List<Quote> quotes
+    ) {}
+
+    /**
+     * Decision and amortisation of one amount and term
+     */
+    public record Quote(
+        int term,
+        ApprovalRule.Decision decision,
+        String rule,
+        BigDecimal monthlyInstallment,
+        BigDecimal totalPayment,
+        BigDecimal totalInterest,
+        BigDecimal debtToIncome  // null when the salary is unknown
+    ) {}
+}
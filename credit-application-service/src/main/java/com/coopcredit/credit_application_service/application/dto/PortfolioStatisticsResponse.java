@@ -0,0 +1,30 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO: PortfolioStatisticsResponse
+ * Snapshot of the live portfolio statistics served to management dashboards
+ */
+public record PortfolioStatisticsResponse(
+    long totalDecisions,
+    long approved,
+    long rejected,
+    double approvalRate,
+    Double averageScore,
+    Map<String, Long> decisionsByRiskLevel,
+    List<TermBucket> amountDistributionByTerm
+) {
+
+    /**
+     * Amount distribution for one term range (in months)
+     */
+    public record TermBucket(
+        String term,
+        long count,
+        BigDecimal totalAmount,
+        Map<String, Long> amountHistogram
+    ) {}
+}
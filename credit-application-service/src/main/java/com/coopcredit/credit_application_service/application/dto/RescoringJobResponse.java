@@ -0,0 +1,36 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+import com.coopcredit.credit_application_service.domain.model.RescoringJob;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO: RescoringJobResponse
+ * Progress and throughput of a re-scoring job
+ */
+public record RescoringJobResponse(
+    Long id,
+    RescoringJob.Scope scope,
+    RescoringJob.Status status,
+    boolean active,  // running right now, in this instance or on a node with a fresh heartbeat
+    String owner,    // node that last started or resumed it
+    long checkpoint,
+    long processed,
+    long decided,
+    long refreshed,
+    long failed,
+    long skipped,
+    double applicationsPerSecond,
+    String error,
+    LocalDateTime startedAt,
+    LocalDateTime updatedAt,
+    LocalDateTime finishedAt
+) {
+
+    public static RescoringJobResponse of(RescoringJob job, boolean active) {
+        return new RescoringJobResponse(job.id(), job.scope(), job.status(), active, job.owner(), job.checkpoint(),
+                job.processed(), job.decided(), job.refreshed(), job.failed(), job.skipped(),
+                Math.round(job.throughput() * 10) / 10.0, job.error(),
+                job.startedAt(), job.updatedAt(), job.finishedAt());
+    }
+}
@@ -0,0 +1,32 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * DTO: SimulateCreditApplicationRequest
+ * What-if request: every amount is quoted against every term, nothing is persisted
+ */
+public record SimulateCreditApplicationRequest(
+    @NotNull(message = "El ID del afiliado es requerido")
+    Long affiliateId,
+
+    @NotEmpty(message = "Se requiere al menos un monto")
+    List<@NotNull(message = "El monto es requerido")
+         @DecimalMin(value = "0.01", message = "El monto debe ser mayor a cero")
+         @Digits(integer = 13, fraction = 2, message = "El monto admite hasta 13 enteros y 2 decimales")
+         BigDecimal> amounts,
+
+    @NotEmpty(message = "Se requiere al menos un plazo")
+    List<@NotNull(message = "El plazo es requerido")
+         @Min(value = 1, message = "El plazo debe ser mayor a cero meses")
+         @Max(value = 360, message = "El plazo no puede superar 360 meses")
+         Integer> terms
+) {}
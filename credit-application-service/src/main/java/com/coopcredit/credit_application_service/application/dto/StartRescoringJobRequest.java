@@ -0,0 +1,13 @@
+package com.coopcredit.credit_application_service.application.dto;
+
+import com.coopcredit.credit_application_service.domain.model.RescoringJob;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO: StartRescoringJobRequest
+ * Request to re-evaluate the risk of credit applications in bulk
+ */
+public record StartRescoringJobRequest(
+    @NotNull(message = "El alcance es requerido (PENDING o ALL)")
+    RescoringJob.Scope scope
+) {}
@@ -0,0 +1,152 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped in-process locks serialising the decide-and-persist section per affiliate.
+ * An affiliate ID maps to one of a fixed number of locks, so two submissions of the same
+ * affiliate run one after the other (and the second sees the first's committed decision)
+ * while other affiliates only collide when they share a stripe. No row is locked in the
+ * database. Risk evaluations must happen before taking the lock, never under it.
+ * Contended acquisitions are timed (affiliate.lock.wait) and timeouts counted
+ * (affiliate.lock.timeouts).
+ */
+@Component
+public class AffiliateLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+    private final long timeoutNanos;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer waitTimer;
+    private final Counter timeouts;
+
+    public AffiliateLocks(PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${credit.concurrency.affiliate-lock-stripes:256}") int stripeCount,
+                          @Value("${credit.concurrency.affiliate-lock-timeout:PT5S}") Duration timeout) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("affiliate-lock-stripes must be at least 1");
+        }
+        int size = Integer.highestOneBit(stripeCount);
+        size = size < stripeCount ? size << 1 : size;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+        this.timeoutNanos = timeout.toNanos();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.waitTimer = Timer.builder("affiliate.lock.wait")
+                .description("Time submissions waited for another submission of the same affiliate stripe")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder("affiliate.lock.timeouts")
+                .description("Submissions abandoned because their affiliate stripe stayed locked")
+                .register(meterRegistry);
+        Gauge.builder("affiliate.lock.queued", stripes, AffiliateLocks::queued)
+                .description("Threads currently waiting for an affiliate stripe")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the given work in a new transaction while holding the affiliate's lock; the lock is
+     * released after the commit, so the next submission reads the committed state
+     *
+     * @throws ConcurrentUpdateException if the lock is not obtained within the timeout
+     */
+    public <T> T executeInTransaction(long affiliateId, Supplier<T> work) {
+        return withLock(affiliateId, () -> transactionTemplate.execute(status -> work.get()));
+    }
+
+    /**
+     * Run the given work while holding the affiliate's lock
+     *
+     * @throws ConcurrentUpdateException if the lock is not obtained within the timeout
+     */
+    public <T> T withLock(long affiliateId, Supplier<T> work) {
+        ReentrantLock lock = stripes[stripe(affiliateId)];
+        acquire(lock, System.nanoTime() + timeoutNanos);
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Run the given work while holding the locks of all the given affiliates. Stripes are taken
+     * in ascending order, so two callers holding overlapping sets cannot deadlock.
+     *
+     * @throws ConcurrentUpdateException if the locks are not all obtained within the timeout
+     */
+    public <T> T withLocks(Collection<Long> affiliateIds, Supplier<T> work) {
+        boolean[] needed = new boolean[stripes.length];
+        for (Long affiliateId : affiliateIds) {
+            needed[stripe(affiliateId)] = true;
+        }
+        long deadline = System.nanoTime() + timeoutNanos;
+        int held = 0;
+        try {
+            for (; held < stripes.length; held++) {
+                if (needed[held]) {
+                    acquire(stripes[held], deadline);
+                }
+            }
+            return work.get();
+        } finally {
+            for (int i = held - 1; i >= 0; i--) {
+                if (needed[i]) {
+                    stripes[i].unlock();
+                }
+            }
+        }
+    }
+
+    int stripe(long affiliateId) {
+        return Long.hashCode(affiliateId) & mask;
+    }
+
+    private void acquire(ReentrantLock lock, long deadline) {
+        if (lock.tryLock()) {
+            return;
+        }
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(deadline - start, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException("Espera interrumpida por otra solicitud del afiliado", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (!acquired) {
+            timeouts.increment();
+            throw new ConcurrentUpdateException(
+                    "Otra solicitud del afiliado está en proceso, intente nuevamente");
+        }
+    }
+
+    private static double queued(ReentrantLock[] stripes) {
+        int waiting = 0;
+        for (ReentrantLock stripe : stripes) {
+            waiting += stripe.getQueueLength();
+        }
+        return waiting;
+    }
+}
@@ -48,7 +48,7 @@ public class AffiliateManagementService implements CreateAffiliateUseCase {
         try {
             var riskEvaluation = riskCentralPort.evaluateRisk(
                 saved.getDocument(),
-                saved.getSalary().doubleValue(),
+                saved.getSalary(),
                 12  // default loan term in months
             );
             log.info("Risk evaluation completed for affiliate {}: score={}, riskLevel={}",
@@ -0,0 +1,97 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.ApprovalRulesResponse;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.service.AffordabilityCalculator;
+import com.coopcredit.credit_application_service.domain.service.ApprovalDecisionTable;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Application Service: ApprovalRuleEngine
+ * Holds the compiled approval decision table in force on this node, starting with the
+ * configured one as revision 1. A newer revision is published with a single reference swap, so
+ * a decision always runs against one complete table, old or new, without locks on the
+ * evaluation path. Debt-to-income conditions are priced with the configured affordability rates.
+ * Where newer revisions come from (e.g. the shared store, see ApprovalRulesService) is up to
+ * the caller.
+ */
+@Slf4j
+public class ApprovalRuleEngine {
+
+    private final AtomicReference<Loaded> current;
+    private final AffordabilityCalculator affordability;
+    private final Clock clock;
+
+    public ApprovalRuleEngine(ApprovalDecisionTable initial, AffordabilityCalculator affordability, Clock clock) {
+        this.current = new AtomicReference<>(new Loaded(initial, 1, LocalDateTime.now(clock)));
+        this.affordability = affordability;
+        this.clock = clock;
+    }
+
+    /**
+     * The decision table in force
+     */
+    public ApprovalDecisionTable current() {
+        return current.get().table();
+    }
+
+    /**
+     * The revision of the decision table in force
+     */
+    public long revision() {
+        return current.get().revision();
+    }
+
+    /**
+     * The rule of the table in force deciding an application of the given affiliate
+     */
+    public ApprovalRule match(CreditApplication application, Affiliate affiliate, RiskEvaluation riskEvaluation) {
+        return current().match(application, affiliate, riskEvaluation, affordability, LocalDate.now(clock));
+    }
+
+    /**
+     * The rates the debt-to-income conditions are priced with
+     */
+    public AffordabilityCalculator affordability() {
+        return affordability;
+    }
+
+    /**
+     * Put a table in force unless the one in force already has the same or a later revision
+     *
+     * @return true if the table was put in force
+     */
+    public boolean install(ApprovalDecisionTable table, long revision) {
+        Loaded candidate = new Loaded(table, revision, LocalDateTime.now(clock));
+        Loaded previous = current.getAndAccumulate(candidate,
+                (inForce, newer) -> newer.revision() > inForce.revision() ? newer : inForce);
+        if (previous.revision() >= revision) {
+            return false;
+        }
+        log.info("Approval rules in force: revision={}, rules={}, default={}",
+                revision, table.rules().size(), table.defaultDecision());
+        return true;
+    }
+
+    /**
+     * The table in force, as answered by the admin endpoint
+     */
+    public ApprovalRulesResponse describe() {
+        Loaded loaded = current.get();
+        return new ApprovalRulesResponse(loaded.table().rules(), loaded.table().defaultDecision(),
+                loaded.revision(), loaded.loadedAt());
+    }
+
+    /**
+     * A table together with its revision, swapped as one
+     */
+    private record Loaded(ApprovalDecisionTable table, long revision, LocalDateTime loadedAt) {}
+}
@@ -0,0 +1,94 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.ApprovalRulesRequest;
+import com.coopcredit.credit_application_service.application.dto.ApprovalRulesResponse;
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRuleRevision;
+import com.coopcredit.credit_application_service.domain.port.input.ManageApprovalRulesUseCase;
+import com.coopcredit.credit_application_service.domain.port.output.ApprovalRuleRevisionRepository;
+import com.coopcredit.credit_application_service.domain.service.ApprovalDecisionTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Application Service: ApprovalRulesService
+ * Keeps the approval decision table the same on every node. A replacement is stored as the
+ * next revision in the shared approval_rule_revisions table before this node puts it in force;
+ * every node loads the latest revision at startup and polls for newer ones every
+ * credit-approval.refresh-interval, so the other nodes follow within that interval and a
+ * restart keeps the replacement. Two replacements racing for the same revision conflict (409)
+ * instead of one silently overwriting the other.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApprovalRulesService implements ManageApprovalRulesUseCase, SmartInitializingSingleton {
+
+    private final ApprovalRuleEngine approvalRuleEngine;
+    private final ApprovalRuleRevisionRepository approvalRuleRevisionRepository;
+    private final Clock clock;
+
+    /**
+     * Put the latest stored revision in force before the node serves decisions
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Approval rules could not be loaded from the database, keeping revision {}: {}",
+                    approvalRuleEngine.revision(), e.getMessage());
+        }
+    }
+
+    /**
+     * Put in force a revision stored by another node, if there is a newer one
+     */
+    @Scheduled(fixedDelayString = "${credit-approval.refresh-interval:PT10S}")
+    public void refresh() {
+        approvalRuleRevisionRepository.findLatest()
+                .filter(latest -> latest.revision() > approvalRuleEngine.revision())
+                .ifPresent(this::install);
+    }
+
+    @Override
+    public ApprovalRulesResponse getApprovalRules() {
+        refresh();
+        return approvalRuleEngine.describe();
+    }
+
+    @Override
+    public ApprovalRulesResponse replaceApprovalRules(ApprovalRulesRequest request) {
+        // An invalid table is rejected before anything is stored
+        ApprovalDecisionTable table = ApprovalDecisionTable.compile(request.rules(), request.defaultDecision());
+        long latest = approvalRuleRevisionRepository.findLatest()
+                .map(ApprovalRuleRevision::revision)
+                .orElse(1L);
+        ApprovalRuleRevision revision = new ApprovalRuleRevision(latest + 1, table.rules(), table.defaultDecision(),
+                LocalDateTime.now(clock));
+        if (!approvalRuleRevisionRepository.saveIfAbsent(revision)) {
+            throw new ConcurrentUpdateException(
+                    "Las reglas de aprobación fueron reemplazadas por otra operación; consulte las vigentes y reintente");
+        }
+        approvalRuleEngine.install(table, revision.revision());
+        return approvalRuleEngine.describe();
+    }
+
+    private void install(ApprovalRuleRevision revision) {
+        try {
+            approvalRuleEngine.install(ApprovalDecisionTable.compile(revision.rules(), revision.defaultDecision()),
+                    revision.revision());
+        } catch (DomainException e) {
+            // Only possible if validation got stricter since the revision was stored
+            log.error("Stored approval rules revision {} is invalid, keeping revision {}: {}",
+                    revision.revision(), approvalRuleEngine.revision(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationBatchRequest;
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationBatchResponse;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationBatchResponse.Item;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapper;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditDecisionPublisher;
+import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
+import com.coopcredit.credit_application_service.infrastructure.exception.InfrastructureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Application Service: CreditApplicationBatchService
+ * Decides a batch of credit applications in three steps: all affiliates are resolved with one
+ * query, the risk evaluations run concurrently on a bounded pool (shared by all batches, so
+ * risk-central sees at most risk-parallelism batch calls), and all decisions are taken and
+ * written with one batched insert under the locks of the batch's affiliates. A batch therefore
+ * costs about as much as its slowest risk call, and a failing item does not fail the others.
+ * Items whose risk call failed or timed out are saved PENDING with a scheduled retry, like
+ * single submissions; a call still running at the batch deadline is interrupted, so it does
+ * not keep holding a pool thread.
+ */
+@Slf4j
+@Service
+public class CreditApplicationBatchService implements DisposableBean {
+
+    private final AffiliateRepository affiliateRepository;
+    private final CreditApplicationRepository creditApplicationRepository;
+    private final RiskCentralPort riskCentralPort;
+    private final CreditApplicationService creditApplicationService;
+    private final CreditApplicationMapper creditApplicationMapper;
+    private final PortfolioStatisticsService portfolioStatisticsService;
+    private final CreditDecisionPublisher creditDecisionPublisher;
+    private final AffiliateLocks affiliateLocks;
+    private final RiskRetryPolicy riskRetryPolicy;
+    private final Clock clock;
+    private final ExecutorService riskExecutor;
+    private final int maxSize;
+    private final Duration timeout;
+
+    public CreditApplicationBatchService(AffiliateRepository affiliateRepository,
+                                         CreditApplicationRepository creditApplicationRepository,
+                                         RiskCentralPort riskCentralPort,
+                                         CreditApplicationService creditApplicationService,
+                                         CreditApplicationMapper creditApplicationMapper,
+                                         PortfolioStatisticsService portfolioStatisticsService,
+                                         CreditDecisionPublisher creditDecisionPublisher,
+                                         AffiliateLocks affiliateLocks,
+                                         RiskRetryPolicy riskRetryPolicy,
+                                         Clock clock,
+                                         @Value("${credit-applications.batch.max-size:500}") int maxSize,
+                                         @Value("${credit-applications.batch.risk-parallelism:16}") int riskParallelism,
+                                         @Value("${credit-applications.batch.timeout:PT30S}") Duration timeout) {
+        this.affiliateRepository = affiliateRepository;
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.riskCentralPort = riskCentralPort;
+        this.creditApplicationService = creditApplicationService;
+        this.creditApplicationMapper = creditApplicationMapper;
+        this.portfolioStatisticsService = portfolioStatisticsService;
+        this.creditDecisionPublisher = creditDecisionPublisher;
+        this.affiliateLocks = affiliateLocks;
+        this.riskRetryPolicy = riskRetryPolicy;
+        this.clock = clock;
+        this.maxSize = maxSize;
+        this.timeout = timeout;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.riskExecutor = Executors.newFixedThreadPool(riskParallelism, runnable -> {
+            Thread thread = new Thread(runnable, "risk-batch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Create and decide a batch of credit applications
+     *
+     * @param request the applications to submit
+     * @return one result per application, in submission order
+     * @throws DomainException if the batch exceeds the configured maximum size
+     */
+    public CreditApplicationBatchResponse create(CreateCreditApplicationBatchRequest request) {
+        List<CreateCreditApplicationRequest> applications = request.applications();
+        if (applications.size() > maxSize) {
+            throw new DomainException(
+                    "El lote admite como máximo " + maxSize + " solicitudes", "BATCH_TOO_LARGE");
+        }
+        log.info("Processing credit application batch of {} items", applications.size());
+        // One timestamp for the whole batch, as for any single operation
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        // Step 1: resolve all affiliates with one IN query
+        Map<Long, Affiliate> affiliates = affiliateRepository.findAllById(
+                        applications.stream().map(CreateCreditApplicationRequest::affiliateId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Affiliate::getId, Function.identity()));
+
+        // Step 2: start the risk evaluations of all valid items on the bounded pool
+        Item[] results = new Item[applications.size()];
+        List<Pending> pending = new ArrayList<>(applications.size());
+        for (int i = 0; i < applications.size(); i++) {
+            CreateCreditApplicationRequest item = applications.get(i);
+            Affiliate affiliate = affiliates.get(item.affiliateId());
+            if (affiliate == null) {
+                results[i] = Item.failure(i, "AFFILIATE_NOT_FOUND",
+                        "El afiliado con ID " + item.affiliateId() + " no fue encontrado");
+            } else if (affiliate.getStatus() != Affiliate.AffiliateStatus.ACTIVE) {
+                results[i] = Item.failure(i, "AFFILIATE_NOT_FOUND",
+                        "El afiliado con ID " + item.affiliateId() + " no está activo");
+            } else {
+                Money amount = Money.ofNullable(item.amount());
+                CreditApplication creditApp = CreditApplication.create(item.affiliateId(), amount, item.term(), now);
+                Future<RiskEvaluation> evaluation = riskExecutor.submit(
+                        () -> riskCentralPort.evaluateRisk(affiliate.getDocument(), amount, item.term()));
+                pending.add(new Pending(i, creditApp, affiliate, evaluation));
+            }
+        }
+
+        // Collect the evaluations as they arrive, within the batch deadline
+        long deadline = System.nanoTime() + timeout.toNanos();
+        List<Pending> decided = new ArrayList<>(pending.size());
+        List<RiskEvaluation> evaluations = new ArrayList<>(pending.size());
+        List<Pending> deferred = new ArrayList<>();
+        for (Pending item : pending) {
+            try {
+                evaluations.add(item.evaluation().get(
+                        Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                decided.add(item);
+            } catch (TimeoutException e) {
+                // Interrupts the call if it is running, drops it if it is still queued
+                item.evaluation().cancel(true);
+                log.warn("Risk evaluation timed out for batch item {}, deferring the decision", item.index());
+                deferred.add(item);
+            } catch (ExecutionException e) {
+                log.warn("Risk evaluation failed for batch item {}: {}", item.index(), e.getCause().getMessage());
+                if (e.getCause() instanceof InfrastructureException) {
+                    deferred.add(item);
+                } else {
+                    results[item.index()] = Item.failure(item.index(), "RISK_EVALUATION_FAILED",
+                            e.getCause().getMessage());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DomainException("El procesamiento del lote fue interrumpido", "BATCH_INTERRUPTED", e);
+            }
+        }
+
+        LocalDateTime nextAttempt = riskRetryPolicy.nextAttempt(1, now);
+        for (Pending item : deferred) {
+            item.application().deferRiskEvaluation(nextAttempt, now);
+        }
+
+        // Step 3: decide and persist all items (deferred ones last) with one batched insert, holding
+        // the locks of every affiliate in the batch so single submissions of those affiliates wait for it
+        List<Pending> toSave = new ArrayList<>(decided.size() + deferred.size());
+        toSave.addAll(decided);
+        toSave.addAll(deferred);
+        List<CreditApplication> saved = affiliateLocks.withLocks(
+                decided.stream().map(item -> item.affiliate().getId()).distinct().toList(), () -> {
+                    for (int i = 0; i < decided.size(); i++) {
+                        Pending item = decided.get(i);
+                        creditApplicationService.decide(item.application(), item.affiliate(), evaluations.get(i), now);
+                    }
+                    return creditApplicationRepository.saveAll(toSave.stream().map(Pending::application).toList());
+                });
+        int approved = 0;
+        int rejected = 0;
+        for (int i = 0; i < decided.size(); i++) {
+            CreditApplication application = saved.get(i);
+            portfolioStatisticsService.recordDecision(application);
+            creditDecisionPublisher.publish(application, affiliates.get(application.getAffiliateId()).getDocument());
+            if (application.getStatus() == CreditApplication.CreditApplicationStatus.APPROVED) {
+                approved++;
+            } else {
+                rejected++;
+            }
+            int index = decided.get(i).index();
+            results[index] = Item.success(index, creditApplicationMapper.toResponse(application));
+        }
+        for (int i = decided.size(); i < saved.size(); i++) {
+            int index = toSave.get(i).index();
+            results[index] = Item.success(index, creditApplicationMapper.toResponse(saved.get(i)));
+        }
+
+        int failed = applications.size() - saved.size();
+        log.info("Credit application batch done: {} approved, {} rejected, {} pending, {} failed",
+                approved, rejected, deferred.size(), failed);
+        return new CreditApplicationBatchResponse(applications.size(), approved, rejected, deferred.size(), failed,
+                List.of(results));
+    }
+
+    @Override
+    public void destroy() {
+        riskExecutor.shutdownNow();
+    }
+
+    /**
+     * An item waiting for its risk evaluation
+     */
+    private record Pending(int index, CreditApplication application, Affiliate affiliate,
+                           Future<RiskEvaluation> evaluation) {}
+}
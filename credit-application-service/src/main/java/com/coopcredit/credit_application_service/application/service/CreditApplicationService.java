@@ -6,19 +6,22 @@ import com.coopcredit.credit_application_service.application.dto.CreditApplicati
 import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
 import com.coopcredit.credit_application_service.domain.entity.Affiliate;
 import com.coopcredit.credit_application_service.domain.exception.AffiliateNotFoundException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.Money;
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
 import com.coopcredit.credit_application_service.domain.port.input.CreateCreditApplicationUseCase;
 import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
 import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditDecisionPublisher;
 import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
 import com.coopcredit.credit_application_service.infrastructure.exception.InfrastructureException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.util.Optional;
+import java.time.Clock;
+import java.time.LocalDateTime;
 
 /**
  * Application Service: CreditApplicationService
@@ -33,11 +36,21 @@ public class CreditApplicationService implements CreateCreditApplicationUseCase
     private final CreditApplicationRepository creditApplicationRepository;
     private final RiskCentralPort riskCentralPort;
     private final CreditApplicationMapper creditApplicationMapper;
+    private final PortfolioStatisticsService portfolioStatisticsService;
+    private final OptimisticRetryPolicy optimisticRetryPolicy;
+    private final CreditDecisionPublisher creditDecisionPublisher;
+    private final ApprovalRuleEngine approvalRuleEngine;
+    private final AffiliateLocks affiliateLocks;
+    private final RiskRetryPolicy riskRetryPolicy;
+    private final Clock clock;
 
     /**
-     * Create a credit application with automatic risk evaluation and approval/rejection decision
+     * Create a credit application with automatic risk evaluation and approval/rejection decision.
+     * The risk call runs unlocked; deciding and persisting run under the affiliate's lock, so
+     * concurrent submissions of one affiliate are decided one after the other. When the risk
+     * central is unavailable the application is saved PENDING with a scheduled retry instead
+     * of failing the submission.
      */
-    @Transactional
     public CreditApplicationResponse create(CreateCreditApplicationRequest request) {
         // Step 1: Validate affiliate exists and is active
         Affiliate affiliate = affiliateRepository.findById(request.affiliateId())
@@ -55,10 +68,13 @@ public class CreditApplicationService implements CreateCreditApplicationUseCase
                 request.affiliateId(), request.amount(), request.term());
 
         // Step 2: Create domain entity (Status: PENDING)
+        Money amount = Money.ofNullable(request.amount());
+        LocalDateTime now = LocalDateTime.now(clock);
         CreditApplication creditApp = CreditApplication.create(
                 request.affiliateId(),
-                request.amount(),
-                request.term()
+                amount,
+                request.term(),
+                now
         );
 
         // Step 3: Evaluate risk with external service
@@ -66,64 +82,129 @@ public class CreditApplicationService implements CreateCreditApplicationUseCase
         try {
             riskEvaluation = riskCentralPort.evaluateRisk(
                     affiliate.getDocument(),
-                    request.amount().doubleValue(),
+                    amount,
                     request.term()
             );
             log.info("Risk evaluation completed: score={}, riskLevel={}",
                     riskEvaluation.getScore(), riskEvaluation.getRiskLevel());
         } catch (InfrastructureException e) {
-            log.error("Risk evaluation failed for affiliate ID: {}", request.affiliateId(), e);
-            throw e;
+            log.warn("Risk evaluation failed for affiliate ID: {}, deferring the decision: {}",
+                    request.affiliateId(), e.getMessage());
+            creditApp.deferRiskEvaluation(riskRetryPolicy.nextAttempt(1, now), now);
+            return creditApplicationMapper.toResponse(creditApplicationRepository.save(creditApp));
         }
 
-        // Step 4: Apply business rules for approval/rejection
-        boolean isApproved = applyApprovalRules(request.amount(), riskEvaluation);
+        // Step 4, 5 & 6: Apply business rules, update entity with risk data and status, and save
+        CreditApplication saved = affiliateLocks.executeInTransaction(affiliate.getId(), () -> {
+            decide(creditApp, affiliate, riskEvaluation, now);
+            return creditApplicationRepository.save(creditApp);
+        });
+        // Only decisions that were committed are counted and published
+        portfolioStatisticsService.recordDecision(saved);
+        creditDecisionPublisher.publish(saved, affiliate.getDocument());
 
-        // Step 5: Update entity with risk data and status
-        creditApp.updateRiskEvaluation(riskEvaluation.getScore(), riskEvaluation.getRiskLevel());
+        // Step 7: Return response DTO
+        return creditApplicationMapper.toResponse(saved);
+    }
 
-        if (isApproved) {
-            creditApp.approve();
-            log.info("Credit application APPROVED for affiliate ID: {}", request.affiliateId());
-        } else {
-            creditApp.reject();
-            log.info("Credit application REJECTED for affiliate ID: {}", request.affiliateId());
+    /**
+     * Retry the risk evaluation of a PENDING credit application: decide it when the evaluation
+     * succeeds, otherwise record the failure and schedule the next attempt with backoff.
+     * Only infrastructure failures are rescheduled; any other error propagates and the
+     * application is left to the worker's lease
+     *
+     * @return the application, decided or still pending; null if it no longer exists
+     */
+    public CreditApplication retryRiskEvaluation(Long applicationId) {
+        try {
+            return decidePendingApplication(applicationId);
+        } catch (InfrastructureException e) {
+            log.warn("Risk evaluation retry failed for credit application {}: {}", applicationId, e.getMessage());
+            return optimisticRetryPolicy.executeInTransaction(() -> {
+                CreditApplication current = creditApplicationRepository.findById(applicationId).orElse(null);
+                if (current == null || current.getStatus() != CreditApplication.CreditApplicationStatus.PENDING) {
+                    return current;
+                }
+                LocalDateTime now = LocalDateTime.now(clock);
+                current.deferRiskEvaluation(riskRetryPolicy.nextAttempt(current.getRiskAttempts() + 1, now), now);
+                return creditApplicationRepository.save(current);
+            });
         }
+    }
 
-        // Step 6: Save to repository
-        CreditApplication saved = creditApplicationRepository.save(creditApp);
+    /**
+     * Decide a PENDING credit application with a fresh risk evaluation.
+     * The risk call happens once, outside any transaction. The state transition runs under the
+     * affiliate's lock and optimistic locking, and is retried on the fresh row when another node
+     * touched it concurrently; an application already decided elsewhere is returned unchanged.
+     */
+    private CreditApplication decidePendingApplication(Long applicationId) {
+        CreditApplication pending = findApplication(applicationId);
+        if (pending.getStatus() != CreditApplication.CreditApplicationStatus.PENDING) {
+            return pending;
+        }
 
-        // Step 7: Return response DTO
-        return creditApplicationMapper.toResponse(saved);
+        Affiliate affiliate = affiliateRepository.findById(pending.getAffiliateId())
+                .orElseThrow(() -> new AffiliateNotFoundException(pending.getAffiliateId()));
+        RiskEvaluation riskEvaluation = riskCentralPort.evaluateRisk(
+                affiliate.getDocument(),
+                pending.getAmount(),
+                pending.getTerm()
+        );
+
+        Transition transition = affiliateLocks.withLock(affiliate.getId(), () ->
+                optimisticRetryPolicy.executeInTransaction(() -> {
+                    CreditApplication current = findApplication(applicationId);
+                    if (current.getStatus() != CreditApplication.CreditApplicationStatus.PENDING) {
+                        log.info("Credit application {} was already decided concurrently", applicationId);
+                        return new Transition(current, false);
+                    }
+                    decide(current, affiliate, riskEvaluation, LocalDateTime.now(clock));
+                    return new Transition(creditApplicationRepository.save(current), true);
+                }));
+
+        if (transition.changed()) {
+            portfolioStatisticsService.recordDecision(transition.application());
+            creditDecisionPublisher.publish(transition.application(), affiliate.getDocument());
+        }
+        return transition.application();
     }
 
     /**
-     * Apply business rules to determine if credit application should be approved
+     * Apply the approval decision table in force and move the application out of PENDING
      *
-     * @param amount the credit amount requested
-     * @param riskEvaluation the risk evaluation result
-     * @return true if approved, false if rejected
+     * @param now the timestamp of the deciding operation
      */
-    private boolean applyApprovalRules(BigDecimal amount, RiskEvaluation riskEvaluation) {
-        String riskLevel = riskEvaluation.getRiskLevel();
+    void decide(CreditApplication creditApp, Affiliate affiliate, RiskEvaluation riskEvaluation, LocalDateTime now) {
+        ApprovalRule rule = approvalRuleEngine.match(creditApp, affiliate, riskEvaluation);
+        boolean isApproved = rule.decision() == ApprovalRule.Decision.APPROVE;
+        log.debug("Approval rules: riskLevel={}, amount={}, rule={}, approved={}",
+                riskEvaluation.getRiskLevel(), creditApp.getAmount(), rule.name(), isApproved);
 
-        // Rule 1: Reject if high risk (Spanish: ALTO)
-        if (riskLevel.contains("ALTO")) {
-            log.debug("Rejecting application due to high risk level: {}", riskLevel);
-            return false;
-        }
+        creditApp.updateRiskEvaluation(riskEvaluation.getScore(), riskEvaluation.getRiskLevel(), now);
 
-        // Rule 2: Reject if medium risk (Spanish: MEDIO) and amount > 10,000,000
-        if (riskLevel.contains("MEDIO") && amount.compareTo(new BigDecimal("10000000")) > 0) {
-            log.debug("Rejecting application due to medium risk and high amount: {} > 10,000,000", amount);
-            return false;
+        if (isApproved) {
+            creditApp.approve(now);
+            log.info("Credit application APPROVED for affiliate ID: {}", creditApp.getAffiliateId());
+        } else {
+            creditApp.reject(now);
+            log.info("Credit application REJECTED for affiliate ID: {}", creditApp.getAffiliateId());
         }
+    }
 
-        // Otherwise approve
-        log.debug("Approving application with risk level: {} and amount: {}", riskLevel, amount);
-        return true;
+    private CreditApplication findApplication(Long applicationId) {
+        return creditApplicationRepository.findById(applicationId)
+                .orElseThrow(() -> new DomainException(
+                        "Solicitud de crédito no encontrada",
+                        "CREDIT_APPLICATION_NOT_FOUND"
+                ));
     }
 
+    /**
+     * Result of a state transition attempt
+     */
+    private record Transition(CreditApplication application, boolean changed) {}
+
     /**
      * Implementation of the domain input port
      */
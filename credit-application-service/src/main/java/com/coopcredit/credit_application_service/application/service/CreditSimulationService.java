@@ -0,0 +1,120 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.CreditSimulationResponse;
+import com.coopcredit.credit_application_service.application.dto.CreditSimulationResponse.Quote;
+import com.coopcredit.credit_application_service.application.dto.CreditSimulationResponse.Row;
+import com.coopcredit.credit_application_service.application.dto.SimulateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.exception.AffiliateNotFoundException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.AffordabilityQuote;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
+import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
+import com.coopcredit.credit_application_service.domain.service.AffordabilityCalculator;
+import com.coopcredit.credit_application_service.domain.service.ApprovalDecisionTable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Application Service: CreditSimulationService
+ * Quotes a grid of amounts and terms for one affiliate without creating applications. The
+ * affiliate is read once and risk-central is called once, with the largest amount and longest
+ * term of the grid (the most demanding combination); every cell is then decided against one
+ * snapshot of the approval table and priced from the precomputed annuity factors. Nothing is
+ * written, so exploratory traffic stays off the write path.
+ */
+@Slf4j
+@Service
+public class CreditSimulationService {
+
+    private final AffiliateRepository affiliateRepository;
+    private final RiskCentralPort riskCentralPort;
+    private final ApprovalRuleEngine approvalRuleEngine;
+    private final Clock clock;
+    private final int maxCells;
+
+    public CreditSimulationService(AffiliateRepository affiliateRepository,
+                                   RiskCentralPort riskCentralPort,
+                                   ApprovalRuleEngine approvalRuleEngine,
+                                   Clock clock,
+                                   @Value("${credit-applications.simulation.max-cells:1000}") int maxCells) {
+        this.affiliateRepository = affiliateRepository;
+        this.riskCentralPort = riskCentralPort;
+        this.approvalRuleEngine = approvalRuleEngine;
+        this.clock = clock;
+        this.maxCells = maxCells;
+    }
+
+    /**
+     * Decide and price every amount against every term of the request
+     */
+    public CreditSimulationResponse simulate(SimulateCreditApplicationRequest request) {
+        List<Money> amounts = request.amounts().stream().map(Money::of).toList();
+        int[] terms = request.terms().stream().mapToInt(Integer::intValue).toArray();
+        if ((long) amounts.size() * terms.length > maxCells) {
+            throw new DomainException(
+                    "La simulación admite como máximo " + maxCells + " combinaciones", "SIMULATION_TOO_LARGE");
+        }
+
+        Affiliate affiliate = affiliateRepository.findById(request.affiliateId())
+                .orElseThrow(() -> new AffiliateNotFoundException(
+                        "El afiliado con ID " + request.affiliateId() + " no fue encontrado"
+                ));
+        if (affiliate.getStatus() != Affiliate.AffiliateStatus.ACTIVE) {
+            throw new AffiliateNotFoundException(
+                    "El afiliado con ID " + request.affiliateId() + " no está activo"
+            );
+        }
+
+        Money largestAmount = amounts.stream().max(Money::compareTo).orElseThrow();
+        int longestTerm = 0;
+        for (int term : terms) {
+            longestTerm = Math.max(longestTerm, term);
+        }
+        RiskEvaluation riskEvaluation = riskCentralPort.evaluateRisk(
+                affiliate.getDocument(), largestAmount, longestTerm);
+        RiskLevel riskLevel = riskEvaluation.getRiskLevel();
+
+        ApprovalDecisionTable table = approvalRuleEngine.current();
+        AffordabilityCalculator affordability = approvalRuleEngine.affordability();
+        Money salary = affiliate.getSalary();
+        int seniorityMonths = ApprovalDecisionTable.seniorityMonths(
+                affiliate.getRegistrationDate(), LocalDate.now(clock));
+
+        int approved = 0;
+        List<Row> rows = new ArrayList<>(amounts.size());
+        for (Money amount : amounts) {
+            List<Quote> quotes = new ArrayList<>(terms.length);
+            for (int term : terms) {
+                AffordabilityQuote quote = affordability.quote(riskLevel, amount, term, salary);
+                ApprovalRule rule = table.match(riskLevel, amount, term, salary, seniorityMonths,
+                        quote.debtToIncomeBasisPoints());
+                if (rule.decision() == ApprovalRule.Decision.APPROVE) {
+                    approved++;
+                }
+                quotes.add(new Quote(term, rule.decision(), rule.name(),
+                        quote.monthlyInstallment().toBigDecimal(),
+                        quote.totalPayment().toBigDecimal(),
+                        quote.totalInterest().toBigDecimal(),
+                        quote.debtToIncome()));
+            }
+            rows.add(new Row(amount.toBigDecimal(), quotes));
+        }
+
+        int cells = amounts.size() * terms.length;
+        log.info("Simulated {} combinations for affiliate ID: {}, riskLevel={}, approved={}",
+                cells, request.affiliateId(), riskLevel, approved);
+        return new CreditSimulationResponse(request.affiliateId(), riskEvaluation.getScore(),
+                riskLevel.getLabel(), affordability.annualRate(riskLevel), approved, cells - approved, rows);
+    }
+}
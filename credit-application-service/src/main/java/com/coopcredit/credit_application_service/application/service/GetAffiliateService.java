@@ -1,6 +1,7 @@
 package com.coopcredit.credit_application_service.application.service;
 
 import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.ResourceVersion;
 import com.coopcredit.credit_application_service.domain.port.input.GetAffiliateUseCase;
 import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
 import lombok.RequiredArgsConstructor;
@@ -29,4 +30,14 @@ public class GetAffiliateService implements GetAffiliateUseCase {
     public Optional<Affiliate> getByDocument(String document) {
         return affiliateRepository.findByDocument(document);
     }
+
+    @Override
+    public Optional<ResourceVersion> getVersionById(Long id) {
+        return affiliateRepository.findVersionById(id);
+    }
+
+    @Override
+    public Optional<ResourceVersion> getVersionByDocument(String document) {
+        return affiliateRepository.findVersionByDocument(document);
+    }
 }
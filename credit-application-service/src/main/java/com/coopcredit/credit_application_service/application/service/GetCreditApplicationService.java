@@ -4,6 +4,7 @@ import com.coopcredit.credit_application_service.application.dto.CreditApplicati
 import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
 import com.coopcredit.credit_application_service.domain.entity.Affiliate;
 import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.ResourceVersion;
 import com.coopcredit.credit_application_service.domain.port.input.GetCreditApplicationUseCase;
 import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
 import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
@@ -74,4 +75,30 @@ public class GetCreditApplicationService implements GetCreditApplicationUseCase
         log.info("Found {} credit applications for affiliate ID: {}", applications.size(), affiliate.getId());
         return applications;
     }
+
+    /**
+     * Get the version of a credit application with a single-row projection query
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public ResourceVersion getVersion(Long id) {
+        return creditApplicationRepository.findVersionById(id)
+                .orElseThrow(() -> new DomainException(
+                        "Solicitud de crédito no encontrada",
+                        "CREDIT_APPLICATION_NOT_FOUND"
+                ));
+    }
+
+    /**
+     * Get the version of an affiliate's credit applications with a single aggregate query
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public ResourceVersion getVersionByAffiliate(String affiliateDocument) {
+        return creditApplicationRepository.findVersionByAffiliateDocument(affiliateDocument)
+                .orElseThrow(() -> new DomainException(
+                        "El afiliado no fue encontrado",
+                        "AFFILIATE_NOT_FOUND"
+                ));
+    }
 }
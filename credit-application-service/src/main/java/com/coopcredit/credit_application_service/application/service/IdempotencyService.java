@@ -0,0 +1,237 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.IdempotencyRecord;
+import com.coopcredit.credit_application_service.domain.port.output.IdempotencyRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Application Service: IdempotencyService
+ * Deduplicates POST submissions carrying an Idempotency-Key header. Keys are scoped per
+ * operation and authenticated user.
+ * Outcomes are kept in a bounded in-memory cache in front of the idempotency_keys table,
+ * both with the same TTL. A duplicate is answered with the stored response without
+ * re-running the operation. Before running, the key is claimed with an in-progress row, so a
+ * concurrent duplicate waits for the first one whichever node it reached (up to
+ * in-flight-timeout, then 409). A claim whose node died expires after claim-ttl.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String ANONYMOUS = "anonymous";
+    private static final long CLAIM_POLL_INTERVAL_MS = 50;
+
+    private final IdempotencyRepository idempotencyRepository;
+    private final JsonMapper jsonMapper;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration inFlightTimeout;
+    private final Duration claimTtl;
+    private final Cache<ScopedKey, CachedOutcome> recentOutcomes;
+    private final ConcurrentHashMap<ScopedKey, CompletableFuture<CachedOutcome>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyService(IdempotencyRepository idempotencyRepository,
+                              JsonMapper jsonMapper,
+                              Clock clock,
+                              @Value("${idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${idempotency.in-flight-timeout:PT10S}") Duration inFlightTimeout,
+                              @Value("${idempotency.claim-ttl:PT5M}") Duration claimTtl,
+                              @Value("${idempotency.cache.max-size:10000}") long cacheMaxSize) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.jsonMapper = jsonMapper;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.inFlightTimeout = inFlightTimeout;
+        this.claimTtl = claimTtl;
+        this.recentOutcomes = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * Run an operation at most once per (scope, user, key)
+     *
+     * @param scope the operation scope (e.g. "credit-applications")
+     * @param username the authenticated user; null for anonymous calls
+     * @param key the client supplied Idempotency-Key, or null to run without deduplication
+     * @param request the request payload, used to detect a key reused with a different body
+     * @param responseType the response type, used to restore stored responses
+     * @param operation the operation to run on the first submission
+     * @return the response of the first successful submission
+     */
+    public <T> T execute(String scope, String username, String key, Object request, Class<T> responseType,
+                         Supplier<T> operation) {
+        if (key == null) {
+            return operation.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new DomainException("La Idempotency-Key debe tener entre 1 y 255 caracteres", "IDEMPOTENCY_KEY_INVALID");
+        }
+
+        ScopedKey cacheKey = new ScopedKey(scope + '/' + (username != null ? username : ANONYMOUS), key);
+        String requestHash = hash(request);
+
+        CachedOutcome stored = recentOutcomes.getIfPresent(cacheKey);
+        if (stored != null) {
+            return replay(stored, requestHash, responseType);
+        }
+
+        CompletableFuture<CachedOutcome> claim = new CompletableFuture<>();
+        CompletableFuture<CachedOutcome> running = inFlight.putIfAbsent(cacheKey, claim);
+        if (running != null) {
+            return replay(await(running), requestHash, responseType);
+        }
+
+        try {
+            CachedOutcome outcome = claimAndRun(cacheKey, requestHash, responseType, operation);
+            recentOutcomes.put(cacheKey, outcome);
+            claim.complete(outcome);
+            return replay(outcome, requestHash, responseType);
+        } catch (RuntimeException e) {
+            claim.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, claim);
+        }
+    }
+
+    /**
+     * Purge expired outcomes from the durable store
+     */
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int deleted = idempotencyRepository.deleteExpired(LocalDateTime.now(clock));
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    /**
+     * Return the stored outcome of the key, or claim it and run the operation. A claim held by
+     * another node is polled until it completes, is released or the in-flight timeout passes.
+     */
+    private <T> CachedOutcome claimAndRun(ScopedKey scopedKey, String requestHash,
+                                          Class<T> responseType, Supplier<T> operation) {
+        long deadline = System.nanoTime() + inFlightTimeout.toNanos();
+        IdempotencyRecord claim;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            Optional<IdempotencyRecord> existing = idempotencyRepository.find(scopedKey.scope(), scopedKey.key())
+                    .filter(r -> !r.isExpired(now));
+            if (existing.isEmpty()) {
+                claim = IdempotencyRecord.inProgress(scopedKey.scope(), scopedKey.key(), requestHash,
+                        now, now.plus(claimTtl));
+                if (idempotencyRepository.saveIfAbsent(claim)) {
+                    break;
+                }
+                continue;  // another node claimed it first: read its claim
+            }
+            IdempotencyRecord record = existing.get();
+            if (record.isCompleted()) {
+                return new CachedOutcome(record.requestHash(), jsonMapper.readValue(record.responseBody(), responseType));
+            }
+            if (!record.requestHash().equals(requestHash)) {
+                throw keyReused();
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new ConcurrentUpdateException("Una solicitud con la misma Idempotency-Key todavía está en curso");
+            }
+            pause();
+        }
+
+        T response;
+        try {
+            response = operation.get();
+        } catch (RuntimeException e) {
+            idempotencyRepository.release(scopedKey.scope(), scopedKey.key());
+            throw e;
+        }
+        idempotencyRepository.complete(claim.complete(jsonMapper.writeValueAsString(response),
+                LocalDateTime.now(clock).plus(ttl)));
+        return new CachedOutcome(requestHash, response);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(CLAIM_POLL_INTERVAL_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException("Una solicitud con la misma Idempotency-Key todavía está en curso");
+        }
+    }
+
+    private CachedOutcome await(CompletableFuture<CachedOutcome> running) {
+        try {
+            return running.get(inFlightTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ConcurrentUpdateException("Una solicitud con la misma Idempotency-Key todavía está en curso");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException("Una solicitud con la misma Idempotency-Key todavía está en curso");
+        }
+    }
+
+    private <T> T replay(CachedOutcome outcome, String requestHash, Class<T> responseType) {
+        if (!outcome.requestHash().equals(requestHash)) {
+            throw keyReused();
+        }
+        return responseType.cast(outcome.response());
+    }
+
+    private static DomainException keyReused() {
+        return new DomainException(
+                "La Idempotency-Key ya fue usada con una solicitud diferente",
+                "IDEMPOTENCY_KEY_REUSED"
+        );
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] json = jsonMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(digest.digest(json));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Outcome kept in memory, with the response already deserialized
+     */
+    private record CachedOutcome(String requestHash, Object response) {}
+
+    /**
+     * A key within its user-qualified scope
+     */
+    private record ScopedKey(String scope, String key) {}
+}
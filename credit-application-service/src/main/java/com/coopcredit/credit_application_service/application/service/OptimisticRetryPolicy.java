@@ -0,0 +1,79 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Retry policy for optimistic locking conflicts.
+ * Each attempt runs in its own transaction, so a retry always re-reads the fresh state
+ * instead of re-applying a change on top of a stale version. Attempts are bounded and
+ * spaced with a small linear backoff plus jitter so competing nodes do not collide again.
+ */
+@Slf4j
+@Component
+public class OptimisticRetryPolicy {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public OptimisticRetryPolicy(PlatformTransactionManager transactionManager,
+                                 @Value("${credit.concurrency.max-attempts:3}") int maxAttempts,
+                                 @Value("${credit.concurrency.backoff-ms:25}") long backoffMs) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("max-attempts must be at least 1");
+        }
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // A retry must not join a caller's transaction, whose persistence context holds the stale state
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+    }
+
+    /**
+     * Run the given work in a new transaction, suspending any current one, and retry it on
+     * optimistic locking conflicts
+     *
+     * @param work the transactional work; it must load the state it modifies
+     * @return the result of the first successful attempt
+     * @throws ConcurrentUpdateException when every attempt conflicted
+     */
+    public <T> T executeInTransaction(Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> work.get());
+            } catch (ConcurrentUpdateException | OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Giving up after {} conflicting attempts: {}", attempt, e.getMessage());
+                    throw e instanceof ConcurrentUpdateException cue
+                            ? cue
+                            : new ConcurrentUpdateException("El recurso fue modificado por otra operación", e);
+                }
+                log.debug("Optimistic locking conflict on attempt {}, retrying", attempt);
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConcurrentUpdateException("Reintento interrumpido", e);
+        }
+    }
+}
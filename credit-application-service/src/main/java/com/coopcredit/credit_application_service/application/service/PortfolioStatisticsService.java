@@ -0,0 +1,213 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.PortfolioStatisticsResponse;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.port.input.GetPortfolioStatisticsUseCase;
+import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Application Service: PortfolioStatisticsService
+ * Keeps live portfolio statistics in memory so dashboards never run SQL aggregates.
+ * Counters are striped (LongAdder) and histograms use fixed buckets, so recording a
+ * decision is lock-free and a snapshot only walks a handful of buckets.
+ * The counters are rebuilt from the database once at startup, before the web server
+ * starts accepting traffic.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PortfolioStatisticsService implements GetPortfolioStatisticsUseCase, SmartInitializingSingleton {
+
+    private static final int REBUILD_CHUNK_SIZE = 500;
+
+    /** Inclusive upper bounds (in months) of the term buckets; the last bucket is open-ended */
+    private static final long[] TERM_BOUNDS = {6, 12, 24, 36, 60};
+    private static final String[] TERM_LABELS = labels(TERM_BOUNDS, 1);
+
+    /** Inclusive upper bounds (in currency units) of the amount buckets; the last bucket is open-ended */
+    private static final long[] AMOUNT_BOUNDS = {1_000_000L, 5_000_000L, 10_000_000L, 20_000_000L, 50_000_000L};
+    private static final String[] AMOUNT_LABELS = labels(AMOUNT_BOUNDS, 0);
+
+    private final CreditApplicationRepository creditApplicationRepository;
+
+    private final LongAdder approved = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder scoreSum = new LongAdder();
+    private final LongAdder scoreCount = new LongAdder();
+    private final LongAdder[] decisionsByRiskLevel = adders(RiskLevel.values().length);
+    private final LongAdder[] termCount = adders(TERM_LABELS.length);
+    private final LongAdder[] termAmountCents = adders(TERM_LABELS.length);
+    private final LongAdder[][] termAmountHistogram = histogram(TERM_LABELS.length, AMOUNT_LABELS.length);
+
+    /**
+     * Rebuild the counters from the persisted decisions
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            long loaded = 0;
+            Long lastId = 0L;
+            List<CreditApplication> chunk;
+            do {
+                chunk = creditApplicationRepository.findChunkAfter(lastId, REBUILD_CHUNK_SIZE);
+                for (CreditApplication application : chunk) {
+                    recordDecision(application);
+                    lastId = application.getId();
+                }
+                loaded += chunk.size();
+            } while (chunk.size() == REBUILD_CHUNK_SIZE);
+            log.info("Portfolio statistics rebuilt from {} credit applications", loaded);
+        } catch (RuntimeException e) {
+            log.warn("Portfolio statistics could not be rebuilt from the database: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Record a decided credit application. Pending applications are ignored.
+     */
+    public void recordDecision(CreditApplication application) {
+        if (application == null) {
+            return;
+        }
+        switch (application.getStatus()) {
+            case APPROVED -> approved.increment();
+            case REJECTED -> rejected.increment();
+            default -> {
+                return;
+            }
+        }
+
+        if (application.isEvaluated()) {
+            scoreSum.add(application.getRiskScore());
+            scoreCount.increment();
+        }
+        if (application.getRiskLevel() != null) {
+            decisionsByRiskLevel[application.getRiskLevel().ordinal()].increment();
+        }
+
+        int termBucket = bucketOf(application.getTerm(), TERM_BOUNDS);
+        Money amount = application.getAmount();
+        termCount[termBucket].increment();
+        termAmountCents[termBucket].add(amount.minorUnits());
+        termAmountHistogram[termBucket][bucketOf(amount.wholeUnits(), AMOUNT_BOUNDS)].increment();
+    }
+
+    /**
+     * Replace the risk data a decided application was counted with by its refreshed values, as
+     * the startup rebuild would count it now. Pending applications are ignored.
+     *
+     * @param previousScore the score before the refresh, {@link CreditApplication#NO_RISK_SCORE} if none
+     * @param previousLevel the risk level before the refresh, null if none
+     */
+    public void recordRescore(CreditApplication rescored, int previousScore, RiskLevel previousLevel) {
+        if (rescored == null || rescored.getStatus() == CreditApplication.CreditApplicationStatus.PENDING) {
+            return;
+        }
+        if (previousScore != CreditApplication.NO_RISK_SCORE) {
+            scoreSum.add(-previousScore);
+            scoreCount.decrement();
+        }
+        if (rescored.isEvaluated()) {
+            scoreSum.add(rescored.getRiskScore());
+            scoreCount.increment();
+        }
+        if (previousLevel != null) {
+            decisionsByRiskLevel[previousLevel.ordinal()].decrement();
+        }
+        if (rescored.getRiskLevel() != null) {
+            decisionsByRiskLevel[rescored.getRiskLevel().ordinal()].increment();
+        }
+    }
+
+    /**
+     * Get a point-in-time snapshot of the counters
+     */
+    @Override
+    public PortfolioStatisticsResponse getPortfolioStatistics() {
+        long approvedCount = approved.sum();
+        long rejectedCount = rejected.sum();
+        long total = approvedCount + rejectedCount;
+        long scored = scoreCount.sum();
+
+        Map<String, Long> byRiskLevel = new LinkedHashMap<>();
+        for (RiskLevel level : RiskLevel.values()) {
+            long count = decisionsByRiskLevel[level.ordinal()].sum();
+            if (count > 0) {
+                byRiskLevel.put(level.getLabel(), count);
+            }
+        }
+
+        List<PortfolioStatisticsResponse.TermBucket> byTerm = new ArrayList<>(TERM_LABELS.length);
+        for (int t = 0; t < TERM_LABELS.length; t++) {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+            for (int a = 0; a < AMOUNT_LABELS.length; a++) {
+                histogram.put(AMOUNT_LABELS[a], termAmountHistogram[t][a].sum());
+            }
+            byTerm.add(new PortfolioStatisticsResponse.TermBucket(
+                    TERM_LABELS[t],
+                    termCount[t].sum(),
+                    BigDecimal.valueOf(termAmountCents[t].sum(), 2),
+                    histogram
+            ));
+        }
+
+        return new PortfolioStatisticsResponse(
+                total,
+                approvedCount,
+                rejectedCount,
+                total == 0 ? 0.0 : (double) approvedCount / total,
+                scored == 0 ? null : (double) scoreSum.sum() / scored,
+                byRiskLevel,
+                byTerm
+        );
+    }
+
+    private static int bucketOf(long value, long[] bounds) {
+        for (int i = 0; i < bounds.length; i++) {
+            if (value <= bounds[i]) {
+                return i;
+            }
+        }
+        return bounds.length;
+    }
+
+    private static String[] labels(long[] bounds, long lowest) {
+        String[] labels = new String[bounds.length + 1];
+        long lower = lowest;
+        for (int i = 0; i < bounds.length; i++) {
+            labels[i] = lower + "-" + bounds[i];
+            lower = bounds[i] + 1;
+        }
+        labels[bounds.length] = ">" + bounds[bounds.length - 1];
+        return labels;
+    }
+
+    private static LongAdder[] adders(int size) {
+        LongAdder[] adders = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static LongAdder[][] histogram(int rows, int columns) {
+        LongAdder[][] histogram = new LongAdder[rows][];
+        for (int i = 0; i < rows; i++) {
+            histogram[i] = adders(columns);
+        }
+        return histogram;
+    }
+}
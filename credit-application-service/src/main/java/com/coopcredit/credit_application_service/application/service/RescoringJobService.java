@@ -0,0 +1,380 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.RescoringJobResponse;
+import com.coopcredit.credit_application_service.application.dto.StartRescoringJobRequest;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.RescoringJob;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.port.input.ManageRescoringJobsUseCase;
+import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditDecisionPublisher;
+import com.coopcredit.credit_application_service.domain.port.output.RescoringJobRepository;
+import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Application Service: RescoringJobService
+ * Re-evaluates the risk of credit applications in bulk, e.g. after the bureau changes its model.
+ * A job walks the applications in ID chunks; for each chunk the affiliates are loaded with one
+ * query, the risk calls fan out on at most risk-parallelism virtual threads, pending applications
+ * are decided with the rules in force (decided ones, in scope ALL, only get fresh risk data, and
+ * the portfolio statistics follow), and the chunk is written with one version-checked batch update under the affiliates' locks. The
+ * checkpoint is stored after every chunk, so a stopped, failed or crashed job resumes after the
+ * last committed chunk. One job runs per instance at a time. As on submission, pending
+ * applications of affiliates that are not active are not decided; they count as skipped.
+ * Every checkpoint doubles as the running node's heartbeat, and every write of the job row is
+ * version-checked. A job RUNNING with a fresh heartbeat cannot be resumed elsewhere; once the
+ * heartbeat is older than heartbeat-timeout (longer than any chunk takes) its node is presumed
+ * gone. A stop issued on another node wins over the runner: its next checkpoint write conflicts
+ * and the runner ends without overwriting the row, so at most the chunk in progress is redone
+ * on resume.
+ */
+@Slf4j
+@Service
+public class RescoringJobService implements ManageRescoringJobsUseCase, DisposableBean {
+
+    private final CreditApplicationRepository creditApplicationRepository;
+    private final AffiliateRepository affiliateRepository;
+    private final RiskCentralPort riskCentralPort;
+    private final RescoringJobRepository rescoringJobRepository;
+    private final CreditApplicationService creditApplicationService;
+    private final PortfolioStatisticsService portfolioStatisticsService;
+    private final CreditDecisionPublisher creditDecisionPublisher;
+    private final AffiliateLocks affiliateLocks;
+    private final OptimisticRetryPolicy optimisticRetryPolicy;
+    private final Clock clock;
+    private final int chunkSize;
+    private final int riskParallelism;
+    private final Duration heartbeatTimeout;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+    private final AtomicReference<Run> active = new AtomicReference<>();
+
+    public RescoringJobService(CreditApplicationRepository creditApplicationRepository,
+                               AffiliateRepository affiliateRepository,
+                               RiskCentralPort riskCentralPort,
+                               RescoringJobRepository rescoringJobRepository,
+                               CreditApplicationService creditApplicationService,
+                               PortfolioStatisticsService portfolioStatisticsService,
+                               CreditDecisionPublisher creditDecisionPublisher,
+                               AffiliateLocks affiliateLocks,
+                               OptimisticRetryPolicy optimisticRetryPolicy,
+                               Clock clock,
+                               @Value("${credit-applications.rescoring.chunk-size:200}") int chunkSize,
+                               @Value("${credit-applications.rescoring.risk-parallelism:16}") int riskParallelism,
+                               @Value("${credit-applications.rescoring.heartbeat-timeout:PT5M}") Duration heartbeatTimeout) {
+        if (chunkSize < 1 || riskParallelism < 1) {
+            throw new IllegalArgumentException("rescoring chunk-size and risk-parallelism must be at least 1");
+        }
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.affiliateRepository = affiliateRepository;
+        this.riskCentralPort = riskCentralPort;
+        this.rescoringJobRepository = rescoringJobRepository;
+        this.creditApplicationService = creditApplicationService;
+        this.portfolioStatisticsService = portfolioStatisticsService;
+        this.creditDecisionPublisher = creditDecisionPublisher;
+        this.affiliateLocks = affiliateLocks;
+        this.optimisticRetryPolicy = optimisticRetryPolicy;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+        this.riskParallelism = riskParallelism;
+        this.heartbeatTimeout = heartbeatTimeout;
+    }
+
+    @Override
+    public RescoringJobResponse start(StartRescoringJobRequest request) {
+        ensureIdle();
+        RescoringJob job = rescoringJobRepository.save(
+                RescoringJob.start(request.scope(), owner, LocalDateTime.now(clock)));
+        log.info("Rescoring job {} started: scope={}", job.id(), job.scope());
+        return launch(job);
+    }
+
+    @Override
+    public RescoringJobResponse get(Long id) {
+        RescoringJob job = findJob(id);
+        return RescoringJobResponse.of(job, isActive(id) || job.isAlive(LocalDateTime.now(clock), heartbeatTimeout));
+    }
+
+    @Override
+    public RescoringJobResponse stop(Long id) {
+        RescoringJob job = findJob(id);
+        Run run = active.get();
+        if (run != null && run.jobId() == id) {
+            run.stopRequested().set(true);
+            log.info("Rescoring job {} asked to stop at checkpoint {}", id, job.checkpoint());
+            return RescoringJobResponse.of(job, true);
+        }
+        if (job.status() == RescoringJob.Status.RUNNING) {
+            // Running on another node, which ends at its next checkpoint, or left behind by one that went away
+            job = optimisticRetryPolicy.executeInTransaction(() -> {
+                RescoringJob current = findJob(id);
+                return current.status() == RescoringJob.Status.RUNNING
+                        ? rescoringJobRepository.save(current.withStatus(RescoringJob.Status.STOPPED, null,
+                                LocalDateTime.now(clock)))
+                        : current;
+            });
+            log.info("Rescoring job {} stopped; it was running on {}", id, job.owner());
+        }
+        return RescoringJobResponse.of(job, false);
+    }
+
+    @Override
+    public RescoringJobResponse resume(Long id) {
+        RescoringJob job = findJob(id);
+        if (job.status() == RescoringJob.Status.COMPLETED) {
+            throw new DomainException("El trabajo de re-evaluación " + id + " ya terminó", "RESCORING_JOB_FINISHED");
+        }
+        ensureIdle();
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (job.isAlive(now, heartbeatTimeout)) {
+            throw runningOn(job);
+        }
+        String previousOwner = job.owner();
+        try {
+            job = rescoringJobRepository.save(job.resumedBy(owner, now));
+        } catch (ConcurrentUpdateException e) {
+            // Resumed or stopped on another node since it was read
+            throw runningOn(findJob(id));
+        }
+        log.info("Rescoring job {} resumed after application {} (previously run by {})",
+                id, job.checkpoint(), previousOwner);
+        return launch(job);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        Run run = active.get();
+        if (run != null) {
+            run.stopRequested().set(true);
+            run.thread().join(10_000);
+        }
+    }
+
+    /**
+     * Process chunks until the scope is exhausted, a stop is requested or a chunk fails
+     *
+     * @return the job as last stored
+     */
+    RescoringJob run(RescoringJob job, AtomicBoolean stopRequested) {
+        try (ExecutorService riskExecutor = Executors.newFixedThreadPool(riskParallelism,
+                Thread.ofVirtual().name("rescoring-risk-", 0).factory())) {
+            while (!stopRequested.get()) {
+                long start = System.nanoTime();
+                List<CreditApplication> chunk = job.scope() == RescoringJob.Scope.PENDING
+                        ? creditApplicationRepository.findChunkAfter(job.checkpoint(),
+                                CreditApplication.CreditApplicationStatus.PENDING, chunkSize)
+                        : creditApplicationRepository.findChunkAfter(job.checkpoint(), chunkSize);
+                if (chunk.isEmpty()) {
+                    log.info("Rescoring job {} completed: processed={}, decided={}, refreshed={}, failed={}, skipped={}",
+                            job.id(), job.processed(), job.decided(), job.refreshed(), job.failed(), job.skipped());
+                    return finish(job, RescoringJob.Status.COMPLETED, null);
+                }
+                RescoringJob stored = store(processChunk(job, chunk, riskExecutor, start));
+                if (stored == null) {
+                    return superseded(job);
+                }
+                job = stored;
+            }
+            log.info("Rescoring job {} stopped at checkpoint {}", job.id(), job.checkpoint());
+            return finish(job, RescoringJob.Status.STOPPED, null);
+        } catch (RuntimeException e) {
+            log.error("Rescoring job {} failed after application {}", job.id(), job.checkpoint(), e);
+            String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            return finish(job, RescoringJob.Status.FAILED, error.length() > 500 ? error.substring(0, 500) : error);
+        }
+    }
+
+    private RescoringJob finish(RescoringJob job, RescoringJob.Status status, String error) {
+        RescoringJob stored = store(job.withStatus(status, error, LocalDateTime.now(clock)));
+        return stored != null ? stored : superseded(job);
+    }
+
+    /**
+     * Write the job as this node last read it
+     *
+     * @return the stored job, or null when another node wrote it in the meantime
+     */
+    private RescoringJob store(RescoringJob job) {
+        try {
+            return rescoringJobRepository.save(job);
+        } catch (ConcurrentUpdateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The job was stopped or taken over elsewhere: leave its row as the other node wrote it
+     */
+    private RescoringJob superseded(RescoringJob job) {
+        RescoringJob current = rescoringJobRepository.findById(job.id()).orElse(job);
+        log.info("Rescoring job {} was changed by another node ({}, {}); this node stops after application {}",
+                job.id(), current.status(), current.owner(), job.checkpoint());
+        return current;
+    }
+
+    private RescoringJob processChunk(RescoringJob job, List<CreditApplication> chunk,
+                                      ExecutorService riskExecutor, long startNanos) {
+        Map<Long, Affiliate> affiliates = affiliateRepository.findAllById(
+                        chunk.stream().map(CreditApplication::getAffiliateId).distinct().toList())
+                .stream()
+                .collect(Collectors.toMap(Affiliate::getId, Function.identity()));
+
+        // Pending applications of inactive affiliates are left as they are, without a risk call
+        List<CreditApplication> eligible = new ArrayList<>(chunk.size());
+        int inactive = 0;
+        for (CreditApplication application : chunk) {
+            Affiliate affiliate = affiliates.get(application.getAffiliateId());
+            if (application.getStatus() == CreditApplication.CreditApplicationStatus.PENDING
+                    && affiliate != null && affiliate.getStatus() != Affiliate.AffiliateStatus.ACTIVE) {
+                inactive++;
+            } else {
+                eligible.add(application);
+            }
+        }
+
+        // Fan out the risk calls of the whole chunk, then wait for all of them
+        List<CompletableFuture<RiskEvaluation>> evaluations = new ArrayList<>(eligible.size());
+        for (CreditApplication application : eligible) {
+            Affiliate affiliate = affiliates.get(application.getAffiliateId());
+            evaluations.add(affiliate == null
+                    ? CompletableFuture.failedFuture(new DomainException(
+                            "El afiliado con ID " + application.getAffiliateId() + " no fue encontrado",
+                            "AFFILIATE_NOT_FOUND"))
+                    : CompletableFuture.supplyAsync(() -> riskCentralPort.evaluateRisk(
+                            affiliate.getDocument(), application.getAmount(), application.getTerm()), riskExecutor));
+        }
+        List<CreditApplication> evaluated = new ArrayList<>(eligible.size());
+        List<RiskEvaluation> results = new ArrayList<>(eligible.size());
+        int failed = 0;
+        for (int i = 0; i < eligible.size(); i++) {
+            try {
+                results.add(evaluations.get(i).join());
+                evaluated.add(eligible.get(i));
+            } catch (CompletionException e) {
+                failed++;
+                log.debug("Rescoring job {}: risk evaluation failed for application {}: {}",
+                        job.id(), eligible.get(i).getId(), e.getCause().getMessage());
+            }
+        }
+
+        // Decide and write the chunk in one batch, under the locks of its affiliates
+        LocalDateTime now = LocalDateTime.now(clock);
+        Set<Long> pendingIds = new HashSet<>();
+        Map<Long, PreviousRisk> refreshed = new HashMap<>();
+        List<CreditApplication> written = affiliateLocks.withLocks(
+                evaluated.stream().map(CreditApplication::getAffiliateId).distinct().toList(), () -> {
+                    for (int i = 0; i < evaluated.size(); i++) {
+                        CreditApplication application = evaluated.get(i);
+                        RiskEvaluation evaluation = results.get(i);
+                        if (application.getStatus() == CreditApplication.CreditApplicationStatus.PENDING) {
+                            pendingIds.add(application.getId());
+                            creditApplicationService.decide(application,
+                                    affiliates.get(application.getAffiliateId()), evaluation, now);
+                        } else {
+                            refreshed.put(application.getId(),
+                                    new PreviousRisk(application.getRiskScore(), application.getRiskLevel()));
+                            application.updateRiskEvaluation(evaluation.getScore(), evaluation.getRiskLevel(), now);
+                        }
+                    }
+                    return creditApplicationRepository.updateAll(evaluated);
+                });
+
+        int decided = 0;
+        for (CreditApplication application : written) {
+            if (pendingIds.contains(application.getId())) {
+                decided++;
+                portfolioStatisticsService.recordDecision(application);
+                creditDecisionPublisher.publish(application,
+                        affiliates.get(application.getAffiliateId()).getDocument());
+            } else {
+                PreviousRisk previous = refreshed.get(application.getId());
+                portfolioStatisticsService.recordRescore(application, previous.score(), previous.level());
+            }
+        }
+        long checkpoint = chunk.get(chunk.size() - 1).getId();
+        long millis = (System.nanoTime() - startNanos) / 1_000_000;
+        log.debug("Rescoring job {}: chunk up to {} in {} ms", job.id(), checkpoint, millis);
+        return job.advance(checkpoint, chunk.size(), decided, written.size() - decided, failed,
+                evaluated.size() - written.size() + inactive, millis, now);
+    }
+
+    private RescoringJobResponse launch(RescoringJob job) {
+        AtomicBoolean stopRequested = new AtomicBoolean();
+        Thread thread = Thread.ofVirtual().name("rescoring-job-" + job.id()).unstarted(() -> {
+            try {
+                run(job, stopRequested);
+            } finally {
+                active.set(null);
+            }
+        });
+        if (!active.compareAndSet(null, new Run(job.id(), thread, stopRequested))) {
+            store(job.withStatus(RescoringJob.Status.STOPPED, null, LocalDateTime.now(clock)));
+            throw running();
+        }
+        thread.start();
+        return RescoringJobResponse.of(job, true);
+    }
+
+    private void ensureIdle() {
+        if (active.get() != null) {
+            throw running();
+        }
+    }
+
+    private boolean isActive(long jobId) {
+        Run run = active.get();
+        return run != null && run.jobId() == jobId;
+    }
+
+    private RescoringJob findJob(Long id) {
+        return rescoringJobRepository.findById(id)
+                .orElseThrow(() -> new DomainException(
+                        "Trabajo de re-evaluación no encontrado", "RESCORING_JOB_NOT_FOUND"));
+    }
+
+    private static DomainException running() {
+        return new DomainException("Ya hay un trabajo de re-evaluación en curso", "RESCORING_JOB_RUNNING");
+    }
+
+    private static DomainException runningOn(RescoringJob job) {
+        return new DomainException("El trabajo de re-evaluación " + job.id() + " sigue en curso en " + job.owner(),
+                "RESCORING_JOB_RUNNING");
+    }
+
+    /**
+     * The job running in this instance
+     */
+    private record Run(long jobId, Thread thread, AtomicBoolean stopRequested) {}
+
+    /**
+     * The risk data a decided application was counted with before its refresh
+     */
+    private record PreviousRisk(int score, RiskLevel level) {}
+}
@@ -0,0 +1,67 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Backoff schedule for risk evaluations that failed on an infrastructure error.
+ * The delay doubles with every failed attempt from initial-delay up to max-delay; half of it is
+ * fixed and half random, so applications deferred by the same bureau outage spread out instead
+ * of hitting the bureau together when it comes back. After max-attempts failures no retry is
+ * scheduled and the application stays PENDING until decided manually or by a re-scoring job.
+ */
+@Component
+public class RiskRetryPolicy {
+
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+    private final int maxAttempts;
+
+    public RiskRetryPolicy(@Value("${credit-applications.risk-retry.initial-delay:PT30S}") Duration initialDelay,
+                           @Value("${credit-applications.risk-retry.max-delay:PT30M}") Duration maxDelay,
+                           @Value("${credit-applications.risk-retry.max-attempts:12}") int maxAttempts) {
+        if (initialDelay.isNegative() || initialDelay.isZero() || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("risk-retry delays must be positive and max-delay at least initial-delay");
+        }
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("risk-retry max-attempts must be at least 1");
+        }
+        this.initialDelayMs = initialDelay.toMillis();
+        this.maxDelayMs = maxDelay.toMillis();
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * When to evaluate again after the given number of failed attempts
+     *
+     * @param failedAttempts failed evaluations so far, including the one just failed
+     * @return the next attempt time, or null when the attempts are exhausted
+     */
+    public LocalDateTime nextAttempt(int failedAttempts, LocalDateTime now) {
+        if (failedAttempts >= maxAttempts) {
+            return null;
+        }
+        long delay = delayMs(failedAttempts);
+        long half = delay / 2;
+        return now.plus(Duration.ofMillis(delay - half + ThreadLocalRandom.current().nextLong(half + 1)));
+    }
+
+    /**
+     * The un-jittered delay after the given number of failed attempts
+     */
+    long delayMs(int failedAttempts) {
+        int doublings = Math.max(0, failedAttempts - 1);
+        if (doublings >= Long.numberOfLeadingZeros(initialDelayMs) - 1) {
+            return maxDelayMs;
+        }
+        return Math.min(maxDelayMs, initialDelayMs << doublings);
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+}
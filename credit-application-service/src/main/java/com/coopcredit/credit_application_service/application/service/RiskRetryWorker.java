@@ -0,0 +1,120 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Application Service: RiskRetryWorker
+ * Drains the queue of PENDING applications whose risk evaluation failed. Each poll claims up
+ * to batch-size due applications with SKIP LOCKED and a lease, so every node can run the worker
+ * without two of them retrying the same application; an application claimed by a node that
+ * dies is retried once its lease expires. The lease must cover a whole batch of risk-central
+ * calls at their timeouts; an application the node can no longer reach within the lease is
+ * left unprocessed so that it is never retried on two nodes at once. Outcomes are counted in
+ * risk.retry.attempts by outcome (decided, deferred, exhausted).
+ */
+@Slf4j
+@Component
+public class RiskRetryWorker {
+
+    private final CreditApplicationRepository creditApplicationRepository;
+    private final CreditApplicationService creditApplicationService;
+    private final Clock clock;
+    private final int batchSize;
+    private final Duration lease;
+    private final Duration callTimeout;
+    private final Counter decided;
+    private final Counter deferred;
+    private final Counter exhausted;
+
+    public RiskRetryWorker(CreditApplicationRepository creditApplicationRepository,
+                           CreditApplicationService creditApplicationService,
+                           Clock clock,
+                           MeterRegistry meterRegistry,
+                           @Value("${credit-applications.risk-retry.batch-size:50}") int batchSize,
+                           @Value("${credit-applications.risk-retry.lease:PT6M}") Duration lease,
+                           @Value("${risk-central.connect-timeout:PT2S}") Duration connectTimeout,
+                           @Value("${risk-central.timeout:PT5S}") Duration timeout) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("risk-retry batch-size must be at least 1");
+        }
+        Duration callTimeout = connectTimeout.plus(timeout);
+        if (lease.compareTo(callTimeout.multipliedBy(batchSize)) < 0) {
+            throw new IllegalArgumentException("risk-retry lease " + lease + " cannot cover " + batchSize
+                    + " risk-central calls of up to " + callTimeout + "; raise the lease or lower batch-size");
+        }
+        this.creditApplicationRepository = creditApplicationRepository;
+        this.creditApplicationService = creditApplicationService;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.callTimeout = callTimeout;
+        this.decided = attempts(meterRegistry, "decided");
+        this.deferred = attempts(meterRegistry, "deferred");
+        this.exhausted = attempts(meterRegistry, "exhausted");
+    }
+
+    /**
+     * Retry the risk evaluation of the applications due now
+     *
+     * @return the number of applications claimed
+     */
+    @Scheduled(fixedDelayString = "${credit-applications.risk-retry.poll-interval:PT10S}")
+    public int retryDue() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime leaseUntil = now.plus(lease);
+        List<Long> claimed = creditApplicationRepository.claimDueRiskRetries(now, leaseUntil, batchSize);
+        for (int i = 0; i < claimed.size(); i++) {
+            Long id = claimed.get(i);
+            if (LocalDateTime.now(clock).plus(callTimeout).isAfter(leaseUntil)) {
+                // Another node may claim it as soon as the lease expires
+                log.warn("Risk retry lease running out; leaving {} claimed credit applications to the next poll",
+                        claimed.size() - i);
+                break;
+            }
+            try {
+                record(creditApplicationService.retryRiskEvaluation(id));
+            } catch (RuntimeException e) {
+                // Left to the lease: the application is claimed again once it expires
+                log.error("Could not record the risk evaluation retry of credit application {}", id, e);
+            }
+        }
+        if (!claimed.isEmpty()) {
+            log.info("Retried the risk evaluation of {} credit applications", claimed.size());
+        }
+        return claimed.size();
+    }
+
+    private void record(CreditApplication application) {
+        if (application == null) {
+            return;
+        }
+        if (application.getStatus() != CreditApplication.CreditApplicationStatus.PENDING) {
+            decided.increment();
+        } else if (application.getNextRiskAttemptAt() != null) {
+            deferred.increment();
+        } else {
+            exhausted.increment();
+            log.warn("Credit application {} stays pending after {} failed risk evaluations",
+                    application.getId(), application.getRiskAttempts());
+        }
+    }
+
+    private static Counter attempts(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("risk.retry.attempts")
+                .description("Risk evaluation retries of deferred credit applications")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
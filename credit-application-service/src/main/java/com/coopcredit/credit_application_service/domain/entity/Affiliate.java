@@ -1,6 +1,7 @@
 package com.coopcredit.credit_application_service.domain.entity;
 
-import java.math.BigDecimal;
+import com.coopcredit.credit_application_service.domain.model.Money;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -14,11 +15,12 @@ public class Affiliate {
     private Long id;
     private final String document;
     private String name;
-    private BigDecimal salary;
+    private Money salary;
     private LocalDate registrationDate;
     private AffiliateStatus status;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;  // optimistic locking version, null until persisted
 
     private Affiliate(String document) {
         if (document == null || document.isBlank()) {
@@ -30,7 +32,7 @@ public class Affiliate {
     /**
      * Factory method to create a new Affiliate with basic validation
      */
-    public static Affiliate create(String name, BigDecimal salary, LocalDate registrationDate, String document) {
+    public static Affiliate create(String name, Money salary, LocalDate registrationDate, String document) {
         Affiliate affiliate = new Affiliate(document);
         affiliate.setName(name);
         affiliate.setSalary(salary);
@@ -44,9 +46,10 @@ public class Affiliate {
     /**
      * Reconstructs an Affiliate with all properties (used by adapters)
      */
-    public static Affiliate reconstruct(Long id, String name, BigDecimal salary,
+    public static Affiliate reconstruct(Long id, String name, Money salary,
                                         LocalDate registrationDate, AffiliateStatus status,
-                                        LocalDateTime createdAt, LocalDateTime updatedAt, String document) {
+                                        LocalDateTime createdAt, LocalDateTime updatedAt, String document,
+                                        Long version) {
         Affiliate affiliate = new Affiliate(document);
         affiliate.id = id;
         affiliate.name = name;
@@ -55,6 +58,7 @@ public class Affiliate {
         affiliate.status = status;
         affiliate.createdAt = createdAt;
         affiliate.updatedAt = updatedAt;
+        affiliate.version = version;
         return affiliate;
     }
 
@@ -74,8 +78,8 @@ public class Affiliate {
         this.updatedAt = LocalDateTime.now();
     }
 
-    public void updateSalary(BigDecimal newSalary) {
-        if (newSalary == null || newSalary.signum() <= 0) {
+    public void updateSalary(Money newSalary) {
+        if (newSalary == null || !newSalary.isPositive()) {
             throw new IllegalArgumentException("Salary must be greater than zero");
         }
         this.salary = newSalary;
@@ -85,18 +89,19 @@ public class Affiliate {
     public boolean isEligibleForCredit() {
         return this.status == AffiliateStatus.ACTIVE &&
                this.salary != null &&
-               this.salary.signum() > 0;
+               this.salary.isPositive();
     }
 
     // Getters
     public Long getId() { return id; }
     public String getDocument() { return document; }
     public String getName() { return name; }
-    public BigDecimal getSalary() { return salary; }
+    public Money getSalary() { return salary; }
     public LocalDate getRegistrationDate() { return registrationDate; }
     public AffiliateStatus getStatus() { return status; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Long getVersion() { return version; }
 
     // Setters used by factories/adapters
     protected void setName(String name) {
@@ -106,8 +111,8 @@ public class Affiliate {
         this.name = name;
     }
 
-    protected void setSalary(BigDecimal salary) {
-        if (salary == null || salary.signum() <= 0) {
+    protected void setSalary(Money salary) {
+        if (salary == null || !salary.isPositive()) {
             throw new IllegalArgumentException("Salary must be greater than zero");
         }
         this.salary = salary;
@@ -1,9 +1,10 @@
 package com.coopcredit.credit_application_service.domain.entity;
 
-import java.math.BigDecimal;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Objects;
 
 /**
  * Domain Entity: CreditApplication
@@ -11,16 +12,27 @@ import java.util.Objects;
  */
 public class CreditApplication {
 
-    private Long id;
-    private Long affiliateId;
-    private BigDecimal amount;
-    private Integer term;  // in months
+    /** Risk score of an application that has not been evaluated yet */
+    public static final int NO_RISK_SCORE = -1;
+
+    private static final long NO_ID = 0;
+    private static final long NO_VERSION = -1;
+
+    // Primitives with sentinels for absent values; amount in cents. A decided application
+    // keeps one object per distinct timestamp, and the submission date is the creation date.
+    private long id;
+    private final long affiliateId;
+    private long amountMinor;
+    private int term;  // in months
     private CreditApplicationStatus status;
     private LocalDate submissionDate;
-    private Integer riskScore;
-    private String riskLevel;
+    private int riskScore = NO_RISK_SCORE;
+    private RiskLevel riskLevel;  // null until evaluated
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version = NO_VERSION;  // optimistic locking version, absent until persisted
+    private int riskAttempts;  // failed risk evaluations so far
+    private LocalDateTime nextRiskAttemptAt;  // null unless a retry of the risk evaluation is due
 
     /**
      * Enum for Credit Application Status
@@ -41,106 +53,144 @@ public class CreditApplication {
         }
     }
 
-    private CreditApplication(Long affiliateId) {
-        if (affiliateId == null || affiliateId <= 0) {
-            throw new IllegalArgumentException("Affiliate ID cannot be null or non-positive");
+    private CreditApplication(long affiliateId) {
+        if (affiliateId <= 0) {
+            throw new IllegalArgumentException("Affiliate ID cannot be non-positive");
         }
         this.affiliateId = affiliateId;
     }
 
     /**
      * Factory method to create a new Credit Application
+     *
+     * @param now the timestamp of the operation, also the submission date
      */
-    public static CreditApplication create(Long affiliateId, BigDecimal amount, Integer term) {
-        if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    public static CreditApplication create(long affiliateId, Money amount, int term, LocalDateTime now) {
+        if (amount == null || !amount.isPositive()) {
             throw new IllegalArgumentException("Amount must be greater than zero");
         }
-        if (term == null || term <= 0) {
+        if (term <= 0) {
             throw new IllegalArgumentException("Term must be greater than zero months");
         }
 
         CreditApplication app = new CreditApplication(affiliateId);
-        app.amount = amount;
+        app.amountMinor = amount.minorUnits();
         app.term = term;
         app.status = CreditApplicationStatus.PENDING;
-        app.submissionDate = LocalDate.now();
-        app.createdAt = LocalDateTime.now();
-        app.updatedAt = LocalDateTime.now();
+        app.submissionDate = now.toLocalDate();
+        app.createdAt = now;
+        app.updatedAt = now;
         return app;
     }
 
     /**
-     * Reconstructs a CreditApplication with all properties (used by adapters)
+     * Reconstructs a CreditApplication with all properties (used by adapters);
+     * id, riskScore, riskLevel and version may be null
      */
-    public static CreditApplication reconstruct(Long id, Long affiliateId, BigDecimal amount,
-                                                Integer term, CreditApplicationStatus status,
+    public static CreditApplication reconstruct(Long id, long affiliateId, Money amount,
+                                                int term, CreditApplicationStatus status,
                                                 LocalDate submissionDate, Integer riskScore,
-                                                String riskLevel, LocalDateTime createdAt,
-                                                LocalDateTime updatedAt) {
+                                                RiskLevel riskLevel, LocalDateTime createdAt,
+                                                LocalDateTime updatedAt, Long version) {
+        return reconstruct(id, affiliateId, amount, term, status, submissionDate, riskScore, riskLevel,
+                createdAt, updatedAt, version, 0, null);
+    }
+
+    /**
+     * Reconstructs a CreditApplication with its risk evaluation retry state (used by adapters)
+     */
+    public static CreditApplication reconstruct(Long id, long affiliateId, Money amount,
+                                                int term, CreditApplicationStatus status,
+                                                LocalDate submissionDate, Integer riskScore,
+                                                RiskLevel riskLevel, LocalDateTime createdAt,
+                                                LocalDateTime updatedAt, Long version,
+                                                int riskAttempts, LocalDateTime nextRiskAttemptAt) {
         CreditApplication app = new CreditApplication(affiliateId);
-        app.id = id;
-        app.amount = amount;
+        app.id = id != null ? id : NO_ID;
+        app.amountMinor = amount.minorUnits();
         app.term = term;
         app.status = status;
         app.submissionDate = submissionDate;
-        app.riskScore = riskScore;
+        app.riskScore = riskScore != null ? riskScore : NO_RISK_SCORE;
         app.riskLevel = riskLevel;
         app.createdAt = createdAt;
         app.updatedAt = updatedAt;
+        app.version = version != null ? version : NO_VERSION;
+        app.riskAttempts = riskAttempts;
+        app.nextRiskAttemptAt = nextRiskAttemptAt;
         return app;
     }
 
     /**
      * Approve the credit application
      */
-    public void approve() {
+    public void approve(LocalDateTime now) {
         if (this.status != CreditApplicationStatus.PENDING) {
             throw new IllegalStateException("Only pending applications can be approved");
         }
         this.status = CreditApplicationStatus.APPROVED;
-        this.updatedAt = LocalDateTime.now();
+        this.nextRiskAttemptAt = null;
+        this.updatedAt = now;
     }
 
     /**
      * Reject the credit application
      */
-    public void reject() {
+    public void reject(LocalDateTime now) {
         if (this.status != CreditApplicationStatus.PENDING) {
             throw new IllegalStateException("Only pending applications can be rejected");
         }
         this.status = CreditApplicationStatus.REJECTED;
-        this.updatedAt = LocalDateTime.now();
+        this.nextRiskAttemptAt = null;
+        this.updatedAt = now;
     }
 
     /**
      * Update risk evaluation data
      */
-    public void updateRiskEvaluation(Integer score, String riskLevel) {
-        if (score == null || score < 0) {
-            throw new IllegalArgumentException("Risk score cannot be null or negative");
+    public void updateRiskEvaluation(int score, RiskLevel riskLevel, LocalDateTime now) {
+        if (score < 0) {
+            throw new IllegalArgumentException("Risk score cannot be negative");
         }
-        if (riskLevel == null || riskLevel.isBlank()) {
-            throw new IllegalArgumentException("Risk level cannot be null or blank");
+        if (riskLevel == null) {
+            throw new IllegalArgumentException("Risk level cannot be null");
         }
         this.riskScore = score;
         this.riskLevel = riskLevel;
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = now;
+    }
+
+    /**
+     * Record a failed risk evaluation of a pending application
+     *
+     * @param nextAttemptAt when to evaluate again, null to stop retrying
+     */
+    public void deferRiskEvaluation(LocalDateTime nextAttemptAt, LocalDateTime now) {
+        if (this.status != CreditApplicationStatus.PENDING) {
+            throw new IllegalStateException("Only pending applications can defer their risk evaluation");
+        }
+        this.riskAttempts++;
+        this.nextRiskAttemptAt = nextAttemptAt;
+        this.updatedAt = now;
     }
 
     // Getters
+    /**
+     * Database id, null until persisted
+     */
     public Long getId() {
-        return id;
+        return id != NO_ID ? id : null;
     }
 
-    public Long getAffiliateId() {
+    public long getAffiliateId() {
         return affiliateId;
     }
 
-    public BigDecimal getAmount() {
-        return amount;
+    public Money getAmount() {
+        return Money.ofMinor(amountMinor);
     }
 
-    public Integer getTerm() {
+    public int getTerm() {
         return term;
     }
 
@@ -152,11 +202,21 @@ public class CreditApplication {
         return submissionDate;
     }
 
-    public Integer getRiskScore() {
+    public boolean isEvaluated() {
+        return riskScore != NO_RISK_SCORE;
+    }
+
+    /**
+     * The risk score, {@link #NO_RISK_SCORE} until evaluated
+     */
+    public int getRiskScore() {
         return riskScore;
     }
 
-    public String getRiskLevel() {
+    /**
+     * The risk level, null until evaluated
+     */
+    public RiskLevel getRiskLevel() {
         return riskLevel;
     }
 
@@ -168,17 +228,38 @@ public class CreditApplication {
         return updatedAt;
     }
 
+    /**
+     * Optimistic locking version, null until persisted
+     */
+    public Long getVersion() {
+        return version != NO_VERSION ? version : null;
+    }
+
+    /**
+     * Failed risk evaluations so far
+     */
+    public int getRiskAttempts() {
+        return riskAttempts;
+    }
+
+    /**
+     * When the risk evaluation is retried, null when no retry is scheduled
+     */
+    public LocalDateTime getNextRiskAttemptAt() {
+        return nextRiskAttemptAt;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         CreditApplication that = (CreditApplication) o;
-        return Objects.equals(id, that.id);
+        return id == that.id;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Long.hashCode(id);
     }
 
     @Override
@@ -186,14 +267,17 @@ public class CreditApplication {
         return "CreditApplication{" +
                 "id=" + id +
                 ", affiliateId=" + affiliateId +
-                ", amount=" + amount +
+                ", amount=" + getAmount() +
                 ", term=" + term +
                 ", status=" + status +
                 ", submissionDate=" + submissionDate +
                 ", riskScore=" + riskScore +
-                ", riskLevel='" + riskLevel + '\'' +
+                ", riskLevel=" + riskLevel +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
+                ", riskAttempts=" + riskAttempts +
+                ", nextRiskAttemptAt=" + nextRiskAttemptAt +
                 '}';
     }
 }
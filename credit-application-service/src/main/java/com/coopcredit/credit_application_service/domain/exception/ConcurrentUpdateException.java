@@ -0,0 +1,16 @@
+package com.coopcredit.credit_application_service.domain.exception;
+
+/**
+ * Exception thrown when an aggregate was modified concurrently by another operation
+ * (optimistic locking conflict)
+ */
+public class ConcurrentUpdateException extends DomainException {
+
+    public ConcurrentUpdateException(String message) {
+        super(message, "CONCURRENT_UPDATE");
+    }
+
+    public ConcurrentUpdateException(String message, Throwable cause) {
+        super(message, "CONCURRENT_UPDATE", cause);
+    }
+}
@@ -1,19 +1,20 @@
 package com.coopcredit.credit_application_service.domain.exception;
 
 /**
- * Base domain exception for all domain-specific errors
+ * Base domain exception for all domain-specific errors.
+ * Domain errors are expected business outcomes answered with a 4xx, so they skip stack-trace
+ * capture (the most expensive part of throwing); the cause, if any, is still kept.
  */
 public class DomainException extends RuntimeException {
 
     private final String code;
 
     public DomainException(String message, String code) {
-        super(message);
-        this.code = code;
+        this(message, code, null);
     }
 
     public DomainException(String message, String code, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
         this.code = code;
     }
 
@@ -0,0 +1,38 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Domain Value Object: AffordabilityQuote
+ * Fixed-installment (French) amortisation of a requested amount and its weight on the
+ * applicant's monthly salary.
+ *
+ * @param annualRate nominal annual rate applied, compounded monthly
+ * @param monthlyInstallment installment, rounded half up to the cent
+ * @param totalPayment installment times term
+ * @param totalInterest total payment minus the amount
+ * @param debtToIncomeBasisPoints installment over monthly salary in basis points, rounded up;
+ *                                {@link #UNKNOWN_DEBT_TO_INCOME} without a salary
+ */
+public record AffordabilityQuote(
+        BigDecimal annualRate,
+        Money monthlyInstallment,
+        Money totalPayment,
+        Money totalInterest,
+        int debtToIncomeBasisPoints
+) {
+
+    /** Debt-to-income of an applicant without a known salary; exceeds every bound */
+    public static final int UNKNOWN_DEBT_TO_INCOME = Integer.MAX_VALUE;
+
+    public boolean hasDebtToIncome() {
+        return debtToIncomeBasisPoints != UNKNOWN_DEBT_TO_INCOME;
+    }
+
+    /**
+     * Debt-to-income as a ratio with four decimals (0.3500 = 35%), null when unknown
+     */
+    public BigDecimal debtToIncome() {
+        return hasDebtToIncome() ? BigDecimal.valueOf(debtToIncomeBasisPoints, 4) : null;
+    }
+}
@@ -0,0 +1,42 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import java.math.BigDecimal;
+
+/**
+ * Domain Value Object: ApprovalRule
+ * One row of the approval decision table. A rule matches when every condition it sets holds;
+ * a null condition matches anything. Amount and debt-to-income bands are (above, upTo], term
+ * and affiliate bounds are inclusive.
+ *
+ * @param name label used in logs and audits
+ * @param riskLevel risk band the rule applies to, null for all
+ * @param amountAbove the amount must be strictly greater than this
+ * @param amountUpTo the amount must be at most this
+ * @param minTerm minimum term in months
+ * @param maxTerm maximum term in months
+ * @param minSalary minimum affiliate salary
+ * @param minSeniorityMonths minimum months since the affiliate registered, at submission
+ * @param debtToIncomeAbove the installment over the monthly salary must be strictly greater
+ *                          than this ratio (0.40 = 40%); an unknown salary always is
+ * @param debtToIncomeUpTo the installment over the monthly salary must be at most this ratio
+ * @param decision outcome when the rule matches
+ */
+public record ApprovalRule(
+        String name,
+        RiskLevel riskLevel,
+        BigDecimal amountAbove,
+        BigDecimal amountUpTo,
+        Integer minTerm,
+        Integer maxTerm,
+        BigDecimal minSalary,
+        Integer minSeniorityMonths,
+        BigDecimal debtToIncomeAbove,
+        BigDecimal debtToIncomeUpTo,
+        Decision decision
+) {
+
+    public enum Decision {
+        APPROVE,
+        REJECT
+    }
+}
@@ -0,0 +1,24 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Domain Value Object: ApprovalRuleRevision
+ * A stored approval decision table. Revisions are numbered from 2 (revision 1 is the table
+ * configured at startup) and never change once written; the highest one is in force.
+ */
+public record ApprovalRuleRevision(
+    long revision,
+    List<ApprovalRule> rules,
+    ApprovalRule.Decision defaultDecision,
+    LocalDateTime createdAt
+) {
+
+    public ApprovalRuleRevision {
+        if (rules == null || defaultDecision == null) {
+            throw new IllegalArgumentException("Rules and default decision are required");
+        }
+        rules = List.copyOf(rules);
+    }
+}
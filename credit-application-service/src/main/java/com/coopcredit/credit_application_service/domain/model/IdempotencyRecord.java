@@ -0,0 +1,56 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain Value Object: IdempotencyRecord
+ * Stored outcome of a request identified by an Idempotency-Key within a scope
+ * (e.g. "credit-applications/ana"). The request hash detects a key reused with a different payload.
+ * A record without response body is a claim: the operation is still running somewhere.
+ */
+public record IdempotencyRecord(
+    String scope,
+    String key,
+    String requestHash,
+    String responseBody,
+    LocalDateTime createdAt,
+    LocalDateTime expiresAt
+) {
+
+    public IdempotencyRecord {
+        if (scope == null || scope.isBlank()) {
+            throw new IllegalArgumentException("Scope cannot be null or blank");
+        }
+        if (key == null || key.isBlank()) {
+            throw new IllegalArgumentException("Idempotency key cannot be null or blank");
+        }
+        if (requestHash == null) {
+            throw new IllegalArgumentException("Request hash is required");
+        }
+    }
+
+    /**
+     * A claim on a key whose operation is about to run
+     *
+     * @param expiresAt when the claim is considered abandoned (its node died mid-operation)
+     */
+    public static IdempotencyRecord inProgress(String scope, String key, String requestHash,
+                                               LocalDateTime now, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(scope, key, requestHash, null, now, expiresAt);
+    }
+
+    /**
+     * This claim completed with the given response
+     */
+    public IdempotencyRecord complete(String responseBody, LocalDateTime expiresAt) {
+        return new IdempotencyRecord(scope, key, requestHash, responseBody, createdAt, expiresAt);
+    }
+
+    public boolean isCompleted() {
+        return responseBody != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
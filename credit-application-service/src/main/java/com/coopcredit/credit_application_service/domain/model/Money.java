@@ -0,0 +1,100 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Domain Value Object: Money
+ * An amount of the cooperative's currency as a count of minor units (cents), matching the
+ * NUMERIC(_, 2) columns. Comparisons and arithmetic work on the long and fail on overflow
+ * instead of wrapping; BigDecimal appears only at the JSON and persistence edges.
+ *
+ * @param minorUnits the amount in cents
+ */
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    /** Digits after the decimal point */
+    public static final int SCALE = 2;
+
+    public static final Money ZERO = new Money(0);
+
+    /**
+     * Money from cents
+     */
+    public static Money ofMinor(long minorUnits) {
+        return new Money(minorUnits);
+    }
+
+    /**
+     * Money from a decimal amount; more than two decimals or a value beyond the long range is rejected
+     *
+     * @throws IllegalArgumentException if the amount is not representable
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            throw new IllegalArgumentException("Amount cannot be null");
+        }
+        try {
+            return new Money(amount.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount is not representable in cents: " + amount.toPlainString(), e);
+        }
+    }
+
+    /**
+     * Money from a decimal amount, null-safe for optional values
+     */
+    public static Money ofNullable(BigDecimal amount) {
+        return amount == null ? null : of(amount);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Whole currency units, truncated
+     */
+    public long wholeUnits() {
+        return minorUnits / 100;
+    }
+
+    /**
+     * @throws ArithmeticException on overflow
+     */
+    public Money plus(Money other) {
+        return new Money(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * @throws ArithmeticException on overflow
+     */
+    public Money minus(Money other) {
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    /**
+     * @throws ArithmeticException on overflow
+     */
+    public Money times(long factor) {
+        return new Money(Math.multiplyExact(minorUnits, factor));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return minorUnits > other.minorUnits;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,35 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain Value Object: RefreshToken
+ * Stored refresh token. Only the hash of the token value is kept; the family groups
+ * every token rotated from the same login so a replayed token can revoke all of them.
+ */
+public record RefreshToken(
+    String tokenHash,
+    String username,
+    Role role,
+    String familyId,
+    boolean revoked,
+    LocalDateTime createdAt,
+    LocalDateTime expiresAt
+) {
+
+    public RefreshToken {
+        if (tokenHash == null || tokenHash.isBlank()) {
+            throw new IllegalArgumentException("Token hash cannot be null or blank");
+        }
+        if (username == null || username.isBlank()) {
+            throw new IllegalArgumentException("Username cannot be null or blank");
+        }
+        if (role == null || familyId == null) {
+            throw new IllegalArgumentException("Role and family are required");
+        }
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,110 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Domain Value Object: RescoringJob
+ * Progress of a bulk risk re-scoring run. Applications are visited in ID order and the
+ * checkpoint is the highest ID whose chunk was committed, so a run resumes right after it.
+ *
+ * @param checkpoint highest application ID already handled, 0 before the first chunk
+ * @param processed applications visited
+ * @param decided pending applications approved or rejected
+ * @param refreshed decided applications whose risk data was refreshed (scope ALL)
+ * @param failed applications whose risk evaluation failed; they are left unchanged
+ * @param skipped applications modified concurrently between reading and writing, and pending
+ *                applications of affiliates that are not active
+ * @param activeMillis time spent running, summed over resumes
+ * @param owner node that last started or resumed the job
+ * @param heartbeatAt last write of the running node; a RUNNING job whose heartbeat is older
+ *                    than the heartbeat timeout was left behind by a node that went away
+ * @param version optimistic lock: a node only writes the job as it last read it
+ */
+public record RescoringJob(
+    Long id,
+    Scope scope,
+    Status status,
+    long checkpoint,
+    long processed,
+    long decided,
+    long refreshed,
+    long failed,
+    long skipped,
+    long activeMillis,
+    String error,
+    LocalDateTime startedAt,
+    LocalDateTime updatedAt,
+    LocalDateTime finishedAt,
+    String owner,
+    LocalDateTime heartbeatAt,
+    Long version
+) {
+
+    /**
+     * Applications a job visits
+     */
+    public enum Scope {
+        /** Pending applications, which are then decided */
+        PENDING,
+        /** Every application; decided ones only get their risk data refreshed */
+        ALL
+    }
+
+    public enum Status {
+        RUNNING,
+        STOPPED,
+        COMPLETED,
+        FAILED
+    }
+
+    public RescoringJob {
+        if (scope == null || status == null) {
+            throw new IllegalArgumentException("Scope and status are required");
+        }
+    }
+
+    public static RescoringJob start(Scope scope, String owner, LocalDateTime now) {
+        return new RescoringJob(null, scope, Status.RUNNING, 0, 0, 0, 0, 0, 0, 0, null, now, now, null,
+                owner, now, null);
+    }
+
+    /**
+     * Progress after a committed chunk
+     */
+    public RescoringJob advance(long newCheckpoint, int chunkProcessed, int chunkDecided, int chunkRefreshed,
+                                int chunkFailed, int chunkSkipped, long chunkMillis, LocalDateTime now) {
+        return new RescoringJob(id, scope, status, newCheckpoint, processed + chunkProcessed,
+                decided + chunkDecided, refreshed + chunkRefreshed, failed + chunkFailed,
+                skipped + chunkSkipped, activeMillis + chunkMillis, error, startedAt, now, finishedAt,
+                owner, now, version);
+    }
+
+    public RescoringJob withStatus(Status newStatus, String newError, LocalDateTime now) {
+        LocalDateTime finished = newStatus == Status.RUNNING ? null : now;
+        return new RescoringJob(id, scope, newStatus, checkpoint, processed, decided, refreshed, failed,
+                skipped, activeMillis, newError, startedAt, now, finished, owner, now, version);
+    }
+
+    /**
+     * The job running again, on the given node
+     */
+    public RescoringJob resumedBy(String newOwner, LocalDateTime now) {
+        return new RescoringJob(id, scope, Status.RUNNING, checkpoint, processed, decided, refreshed, failed,
+                skipped, activeMillis, null, startedAt, now, null, newOwner, now, version);
+    }
+
+    /**
+     * Whether a node is still running the job: RUNNING with a heartbeat younger than the timeout
+     */
+    public boolean isAlive(LocalDateTime now, Duration heartbeatTimeout) {
+        return status == Status.RUNNING && heartbeatAt != null && heartbeatAt.isAfter(now.minus(heartbeatTimeout));
+    }
+
+    /**
+     * Applications visited per second of running time
+     */
+    public double throughput() {
+        return activeMillis == 0 ? 0 : processed * 1000.0 / activeMillis;
+    }
+}
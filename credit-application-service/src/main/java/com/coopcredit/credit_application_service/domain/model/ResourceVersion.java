@@ -0,0 +1,37 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Domain Value Object: ResourceVersion
+ * Change marker of a stored resource or collection, read without loading it. The tag changes
+ * whenever the content changes; lastModified is the latest update time (null if unknown).
+ */
+public record ResourceVersion(
+    String tag,
+    LocalDateTime lastModified
+) {
+
+    public ResourceVersion {
+        if (tag == null || tag.isBlank()) {
+            throw new IllegalArgumentException("Tag cannot be null or blank");
+        }
+    }
+
+    /**
+     * Version of a single row, from its ID and optimistic-lock version
+     */
+    public static ResourceVersion of(Long id, Long version, LocalDateTime updatedAt) {
+        return new ResourceVersion(id + "." + version, updatedAt);
+    }
+
+    /**
+     * Version of a collection of rows. Any insert, update or delete changes the count,
+     * the sum of versions or the highest ID.
+     */
+    public static ResourceVersion ofCollection(Long ownerId, long count, long versionSum, Long maxId,
+                                               LocalDateTime lastUpdatedAt) {
+        return new ResourceVersion(ownerId + "." + count + "." + versionSum + "." + (maxId == null ? 0 : maxId),
+                lastUpdatedAt);
+    }
+}
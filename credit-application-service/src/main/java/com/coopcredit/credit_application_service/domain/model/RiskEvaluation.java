@@ -5,27 +5,27 @@ package com.coopcredit.credit_application_service.domain.model;
  */
 public class RiskEvaluation {
 
-    private final Integer score;
-    private final String riskLevel;
+    private final int score;
+    private final RiskLevel riskLevel;
     private final String detail;
 
-    public RiskEvaluation(Integer score, String riskLevel, String detail) {
-        if (score == null || score < 0) {
-            throw new IllegalArgumentException("Score cannot be null or negative");
+    public RiskEvaluation(int score, RiskLevel riskLevel, String detail) {
+        if (score < 0) {
+            throw new IllegalArgumentException("Score cannot be negative");
         }
-        if (riskLevel == null || riskLevel.isBlank()) {
-            throw new IllegalArgumentException("Risk level cannot be null or blank");
+        if (riskLevel == null) {
+            throw new IllegalArgumentException("Risk level cannot be null");
         }
         this.score = score;
         this.riskLevel = riskLevel;
         this.detail = detail != null ? detail : "";
     }
 
-    public Integer getScore() {
+    public int getScore() {
         return score;
     }
 
-    public String getRiskLevel() {
+    public RiskLevel getRiskLevel() {
         return riskLevel;
     }
 
@@ -37,7 +37,7 @@ public class RiskEvaluation {
     public String toString() {
         return "RiskEvaluation{" +
                 "score=" + score +
-                ", riskLevel='" + riskLevel + '\'' +
+                ", riskLevel=" + riskLevel +
                 ", detail='" + detail + '\'' +
                 '}';
     }
@@ -0,0 +1,70 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+/**
+ * Domain Value Object: RiskLevel
+ * Risk band of a Risk Central evaluation, classified once from its Spanish label
+ * ("ALTO RIESGO", "MEDIO RIESGO", "BAJO RIESGO") at the adapter boundary, so the domain
+ * compares and stores enums instead of text. The label is what is persisted and returned.
+ */
+public enum RiskLevel {
+    HIGH("ALTO RIESGO"),
+    MEDIUM("MEDIO RIESGO"),
+    LOW("BAJO RIESGO"),
+    /** Label with none of the known keywords */
+    UNCLASSIFIED("SIN CLASIFICAR");
+
+    private final String label;
+
+    RiskLevel(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Classify a risk label; "ALTO" wins over "MEDIO", which wins over "BAJO"
+     */
+    public static RiskLevel classify(String riskLabel) {
+        if (riskLabel == null) {
+            return UNCLASSIFIED;
+        }
+        if (riskLabel.contains("ALTO")) {
+            return HIGH;
+        }
+        if (riskLabel.contains("MEDIO")) {
+            return MEDIUM;
+        }
+        if (riskLabel.contains("BAJO")) {
+            return LOW;
+        }
+        return UNCLASSIFIED;
+    }
+
+    /**
+     * Classify a label that must be present, such as one returned by Risk Central
+     *
+     * @throws IllegalArgumentException if the label is null or blank
+     */
+    public static RiskLevel fromLabel(String riskLabel) {
+        if (riskLabel == null || riskLabel.isBlank()) {
+            throw new IllegalArgumentException("Risk level cannot be null or blank");
+        }
+        return classify(riskLabel);
+    }
+
+    /**
+     * Level of a persisted label, null when the application was never evaluated
+     */
+    public static RiskLevel ofNullableLabel(String riskLabel) {
+        return riskLabel == null ? null : classify(riskLabel);
+    }
+
+    /**
+     * Label to persist or return, null when the application was never evaluated
+     */
+    public static String labelOf(RiskLevel riskLevel) {
+        return riskLevel == null ? null : riskLevel.label;
+    }
+}
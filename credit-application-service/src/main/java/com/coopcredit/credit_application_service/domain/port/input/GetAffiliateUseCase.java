@@ -1,6 +1,7 @@
 package com.coopcredit.credit_application_service.domain.port.input;
 
 import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.ResourceVersion;
 import java.util.Optional;
 
 /**
@@ -23,4 +24,14 @@ public interface GetAffiliateUseCase {
      * Get affiliate by document
      */
     Optional<Affiliate> getByDocument(String document);
+
+    /**
+     * Get the current version of an affiliate by ID, without loading it
+     */
+    Optional<ResourceVersion> getVersionById(Long id);
+
+    /**
+     * Get the current version of an affiliate by document, without loading it
+     */
+    Optional<ResourceVersion> getVersionByDocument(String document);
 }
@@ -1,6 +1,7 @@
 package com.coopcredit.credit_application_service.domain.port.input;
 
 import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
+import com.coopcredit.credit_application_service.domain.model.ResourceVersion;
 
 import java.util.List;
 
@@ -26,4 +27,22 @@ public interface GetCreditApplicationUseCase {
      * @return list of credit applications for the affiliate
      */
     List<CreditApplicationResponse> getAllByAffiliate(String affiliateDocument);
+
+    /**
+     * Get the current version of a credit application, without loading it
+     *
+     * @param id the credit application ID
+     * @return the version
+     * @throws com.coopcredit.credit_application_service.domain.exception.DomainException if not found
+     */
+    ResourceVersion getVersion(Long id);
+
+    /**
+     * Get the current version of an affiliate's credit application list, without loading it
+     *
+     * @param affiliateDocument the affiliate's document identifier
+     * @return the version
+     * @throws com.coopcredit.credit_application_service.domain.exception.DomainException if the affiliate is not found
+     */
+    ResourceVersion getVersionByAffiliate(String affiliateDocument);
 }
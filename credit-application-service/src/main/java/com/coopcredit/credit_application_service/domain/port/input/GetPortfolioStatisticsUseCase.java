@@ -0,0 +1,17 @@
+package com.coopcredit.credit_application_service.domain.port.input;
+
+import com.coopcredit.credit_application_service.application.dto.PortfolioStatisticsResponse;
+
+/**
+ * Input Port: GetPortfolioStatisticsUseCase
+ * Contract for reading live portfolio statistics (approval rate, risk mix, scores, amounts)
+ */
+public interface GetPortfolioStatisticsUseCase {
+
+    /**
+     * Get a point-in-time snapshot of the portfolio statistics
+     *
+     * @return the current portfolio statistics
+     */
+    PortfolioStatisticsResponse getPortfolioStatistics();
+}
@@ -0,0 +1,26 @@
+package com.coopcredit.credit_application_service.domain.port.input;
+
+import com.coopcredit.credit_application_service.application.dto.ApprovalRulesRequest;
+import com.coopcredit.credit_application_service.application.dto.ApprovalRulesResponse;
+
+/**
+ * Input Port: ManageApprovalRulesUseCase
+ * Contract for reading and replacing the approval decision table at runtime
+ */
+public interface ManageApprovalRulesUseCase {
+
+    /**
+     * Get the decision table in force
+     */
+    ApprovalRulesResponse getApprovalRules();
+
+    /**
+     * Validate and compile a new decision table, store it as the next revision, then put it in
+     * force for every later decision
+     *
+     * @throws com.coopcredit.credit_application_service.domain.exception.DomainException if a rule is invalid
+     * @throws com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException if
+     *         another replacement stored the same revision first
+     */
+    ApprovalRulesResponse replaceApprovalRules(ApprovalRulesRequest request);
+}
@@ -0,0 +1,33 @@
+package com.coopcredit.credit_application_service.domain.port.input;
+
+import com.coopcredit.credit_application_service.application.dto.RescoringJobResponse;
+import com.coopcredit.credit_application_service.application.dto.StartRescoringJobRequest;
+
+/**
+ * Input Port: ManageRescoringJobsUseCase
+ * Contract for starting, following, stopping and resuming bulk risk re-scoring
+ */
+public interface ManageRescoringJobsUseCase {
+
+    /**
+     * Start a new job in the background
+     *
+     * @throws com.coopcredit.credit_application_service.domain.exception.DomainException if a job is already running
+     */
+    RescoringJobResponse start(StartRescoringJobRequest request);
+
+    /**
+     * Progress of a job
+     */
+    RescoringJobResponse get(Long id);
+
+    /**
+     * Ask a running job to stop after its current chunk; the checkpoint is kept for a resume
+     */
+    RescoringJobResponse stop(Long id);
+
+    /**
+     * Continue a stopped, failed or interrupted job after its checkpoint
+     */
+    RescoringJobResponse resume(Long id);
+}
@@ -1,6 +1,9 @@
 package com.coopcredit.credit_application_service.domain.port.output;
 
 import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.model.ResourceVersion;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -20,6 +23,12 @@ public interface AffiliateRepository {
      */
     Optional<Affiliate> findById(Long id);
 
+    /**
+     * Find the affiliates with the given IDs in a single query
+     * Unknown IDs are simply absent from the result
+     */
+    List<Affiliate> findAllById(Collection<Long> ids);
+
     /**
      * Find an affiliate by name
      */
@@ -30,6 +39,16 @@ public interface AffiliateRepository {
      */
     Optional<Affiliate> findByDocument(String document);
 
+    /**
+     * Read the version of an affiliate by ID without loading it
+     */
+    Optional<ResourceVersion> findVersionById(Long id);
+
+    /**
+     * Read the version of an affiliate by document without loading it
+     */
+    Optional<ResourceVersion> findVersionByDocument(String document);
+
     /**
      * Delete an affiliate by ID
      */
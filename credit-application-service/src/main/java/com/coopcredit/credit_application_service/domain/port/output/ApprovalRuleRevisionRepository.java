@@ -0,0 +1,27 @@
+package com.coopcredit.credit_application_service.domain.port.output;
+
+import com.coopcredit.credit_application_service.domain.model.ApprovalRuleRevision;
+
+import java.util.Optional;
+
+/**
+ * Output Port: ApprovalRuleRevisionRepository
+ * Contract for the durable, shared history of approval decision tables
+ */
+public interface ApprovalRuleRevisionRepository {
+
+    /**
+     * Find the highest stored revision
+     *
+     * @return the revision in force, or empty if the table was never replaced
+     */
+    Optional<ApprovalRuleRevision> findLatest();
+
+    /**
+     * Store a revision unless one with the same number already exists
+     *
+     * @param revision the revision to store
+     * @return true if stored, false if another node stored that revision first
+     */
+    boolean saveIfAbsent(ApprovalRuleRevision revision);
+}
@@ -1,7 +1,9 @@
 package com.coopcredit.credit_application_service.domain.port.output;
 
 import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.ResourceVersion;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,14 @@ public interface CreditApplicationRepository {
      */
     CreditApplication save(CreditApplication creditApplication);
 
+    /**
+     * Insert new credit applications in a single batch
+     *
+     * @param creditApplications the new credit applications (without ID)
+     * @return the saved credit applications with their IDs, in the same order
+     */
+    List<CreditApplication> saveAll(List<CreditApplication> creditApplications);
+
     /**
      * Find a credit application by ID
      *
@@ -27,6 +37,22 @@ public interface CreditApplicationRepository {
      */
     Optional<CreditApplication> findById(Long id);
 
+    /**
+     * Read the version of a credit application without loading it
+     *
+     * @param id the credit application ID
+     * @return the version if the credit application exists
+     */
+    Optional<ResourceVersion> findVersionById(Long id);
+
+    /**
+     * Read the combined version of all credit applications of an affiliate without loading them
+     *
+     * @param affiliateDocument the affiliate's document identifier
+     * @return the version, or empty if the affiliate does not exist
+     */
+    Optional<ResourceVersion> findVersionByAffiliateDocument(String affiliateDocument);
+
     /**
      * Find all credit applications for a specific affiliate
      *
@@ -35,6 +61,46 @@ public interface CreditApplicationRepository {
      */
     List<CreditApplication> findAllByAffiliateId(Long affiliateId);
 
+    /**
+     * Find the next chunk of credit applications ordered by ID (keyset pagination)
+     *
+     * @param afterId only applications with an ID greater than this one are returned
+     * @param limit the maximum number of applications to return
+     * @return the next chunk of credit applications, empty when there are no more
+     */
+    List<CreditApplication> findChunkAfter(Long afterId, int limit);
+
+    /**
+     * Find the next chunk of credit applications in the given status, ordered by ID
+     *
+     * @param afterId only applications with an ID greater than this one are returned
+     * @param status the status to match
+     * @param limit the maximum number of applications to return
+     * @return the next chunk of credit applications, empty when there are no more
+     */
+    List<CreditApplication> findChunkAfter(Long afterId, CreditApplication.CreditApplicationStatus status, int limit);
+
+    /**
+     * Write the status and risk data of existing credit applications in a single batch.
+     * A row whose version changed since it was read is left untouched.
+     *
+     * @param creditApplications loaded credit applications (with ID and version)
+     * @return the applications actually written, with their new version, in the same order
+     */
+    List<CreditApplication> updateAll(List<CreditApplication> creditApplications);
+
+    /**
+     * Claim pending credit applications whose risk evaluation retry is due. Claimed rows get
+     * their next attempt moved to the lease end, so another node (or this one, after a crash)
+     * only picks them up again once the lease expires.
+     *
+     * @param now the current time; rows due at or before it are claimed, oldest first
+     * @param leaseUntil the next attempt time written on the claimed rows
+     * @param limit the maximum number of applications to claim
+     * @return the IDs of the claimed credit applications
+     */
+    List<Long> claimDueRiskRetries(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
     /**
      * Check if a credit application exists
      *
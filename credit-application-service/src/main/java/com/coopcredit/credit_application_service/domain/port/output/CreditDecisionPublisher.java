@@ -0,0 +1,19 @@
+package com.coopcredit.credit_application_service.domain.port.output;
+
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+
+/**
+ * Output Port: CreditDecisionPublisher
+ * Contract for notifying subscribers that a credit application was approved or rejected
+ */
+public interface CreditDecisionPublisher {
+
+    /**
+     * Publish a decision. When called inside a transaction the decision is delivered only
+     * after that transaction commits, and dropped if it rolls back.
+     *
+     * @param decided the decided credit application
+     * @param affiliateDocument the document of the affiliate that submitted it
+     */
+    void publish(CreditApplication decided, String affiliateDocument);
+}
@@ -0,0 +1,54 @@
+package com.coopcredit.credit_application_service.domain.port.output;
+
+import com.coopcredit.credit_application_service.domain.model.IdempotencyRecord;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Output Port: IdempotencyRepository
+ * Contract for the durable store of idempotent request outcomes
+ */
+public interface IdempotencyRepository {
+
+    /**
+     * Find a stored outcome by scope and key
+     *
+     * @param scope the operation scope (e.g. "credit-applications/ana")
+     * @param key the client supplied Idempotency-Key
+     * @return the stored outcome or claim if present
+     */
+    Optional<IdempotencyRecord> find(String scope, String key);
+
+    /**
+     * Store a record (usually an in-progress claim) unless a live one already exists for the
+     * same scope and key; an expired record is replaced
+     *
+     * @param record the record to store
+     * @return true if stored, false if a live record already existed
+     */
+    boolean saveIfAbsent(IdempotencyRecord record);
+
+    /**
+     * Store the outcome of a claimed key
+     *
+     * @param record the completed record (with response body)
+     */
+    void complete(IdempotencyRecord record);
+
+    /**
+     * Delete the in-progress claim of a key whose operation failed, so the key can be retried
+     *
+     * @param scope the operation scope
+     * @param key the client supplied Idempotency-Key
+     */
+    void release(String scope, String key);
+
+    /**
+     * Delete every outcome that expired before the given instant
+     *
+     * @param now the reference instant
+     * @return the number of deleted outcomes
+     */
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,52 @@
+package com.coopcredit.credit_application_service.domain.port.output;
+
+import com.coopcredit.credit_application_service.domain.model.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Output Port: RefreshTokenRepository
+ * Contract for the durable store of refresh tokens
+ */
+public interface RefreshTokenRepository {
+
+    /**
+     * Store a newly issued refresh token
+     *
+     * @param refreshToken the token to store
+     */
+    void save(RefreshToken refreshToken);
+
+    /**
+     * Find a refresh token by the hash of its value
+     *
+     * @param tokenHash the token hash
+     * @return the stored token if present
+     */
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revoke a refresh token unless it is already revoked
+     *
+     * @param tokenHash the token hash
+     * @return true if this call revoked it, false if it was already revoked
+     */
+    boolean revoke(String tokenHash);
+
+    /**
+     * Revoke every refresh token of a family
+     *
+     * @param familyId the family identifier
+     * @return the number of revoked tokens
+     */
+    int revokeFamily(String familyId);
+
+    /**
+     * Delete every refresh token that expired before the given instant
+     *
+     * @param now the reference instant
+     * @return the number of deleted tokens
+     */
+    int deleteExpired(LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.coopcredit.credit_application_service.domain.port.output;
+
+import com.coopcredit.credit_application_service.domain.model.RescoringJob;
+
+import java.util.Optional;
+
+/**
+ * Output Port: RescoringJobRepository
+ * Contract for the durable progress of re-scoring jobs
+ */
+public interface RescoringJobRepository {
+
+    /**
+     * Insert a new job or overwrite the progress of an existing one
+     *
+     * @param job the job to store
+     * @return the stored job with its ID and new version
+     * @throws com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException
+     *         if the job was written by someone else since it was read
+     */
+    RescoringJob save(RescoringJob job);
+
+    /**
+     * Find a job by ID
+     *
+     * @param id the job ID
+     * @return the job if found
+     */
+    Optional<RescoringJob> findById(Long id);
+}
@@ -1,6 +1,7 @@
 package com.coopcredit.credit_application_service.domain.port.output;
 
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.Money;
 
 /**
  * Output Port: RiskCentralPort
@@ -16,5 +17,5 @@ public interface RiskCentralPort {
      * @param term the credit term in months
      * @return the risk evaluation result
      */
-    RiskEvaluation evaluateRisk(String document, Double amount, Integer term);
+    RiskEvaluation evaluateRisk(String document, Money amount, Integer term);
 }
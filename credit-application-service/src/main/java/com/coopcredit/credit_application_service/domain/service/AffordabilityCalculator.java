@@ -0,0 +1,145 @@
+package com.coopcredit.credit_application_service.domain.service;
+
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.AffordabilityQuote;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Domain Service: AffordabilityCalculator
+ * Monthly installment, total interest and debt-to-income of a requested amount and term, at the
+ * annual rate of the applicant's risk level. The annuity factors r / (1 - (1 + r)^-n) of every
+ * (rate, term) pair up to the tabulated term are computed once at construction, so a quote is a
+ * table lookup and a few long operations; longer terms fall back to computing the factor.
+ * Immutable and thread-safe.
+ */
+public final class AffordabilityCalculator {
+
+    /** Terms up to 30 years are tabulated by default */
+    public static final int DEFAULT_TABULATED_TERMS = 360;
+
+    private static final RiskLevel[] LEVELS = RiskLevel.values();
+    private static final long BASIS_POINTS = 10_000;
+
+    private final BigDecimal[] annualRates;
+    private final double[] monthlyRates;
+    private final double[][] factors;
+
+    private AffordabilityCalculator(BigDecimal[] annualRates, int tabulatedTerms) {
+        this.annualRates = annualRates;
+        this.monthlyRates = new double[LEVELS.length];
+        this.factors = new double[LEVELS.length][tabulatedTerms + 1];
+        for (RiskLevel level : LEVELS) {
+            int i = level.ordinal();
+            monthlyRates[i] = annualRates[i].doubleValue() / 12;
+            for (int term = 1; term <= tabulatedTerms; term++) {
+                factors[i][term] = annuityFactor(monthlyRates[i], term);
+            }
+        }
+    }
+
+    /**
+     * Build the factor tables. A risk level without a rate is charged the highest configured rate.
+     *
+     * @param annualRates nominal annual rate per risk level (0.24 = 24%)
+     * @param tabulatedTerms longest term, in months, with a precomputed factor
+     * @throws DomainException if no rate is given or a rate is negative
+     */
+    public static AffordabilityCalculator of(Map<RiskLevel, BigDecimal> annualRates, int tabulatedTerms) {
+        if (annualRates == null || annualRates.isEmpty() || tabulatedTerms < 1) {
+            throw invalid("Se requiere al menos una tasa y un plazo tabulado positivo");
+        }
+        BigDecimal highest = null;
+        for (Map.Entry<RiskLevel, BigDecimal> entry : annualRates.entrySet()) {
+            BigDecimal rate = entry.getValue();
+            if (entry.getKey() == null || rate == null || rate.signum() < 0) {
+                throw invalid("La tasa de " + entry.getKey() + " debe ser cero o positiva");
+            }
+            highest = highest == null || rate.compareTo(highest) > 0 ? rate : highest;
+        }
+        BigDecimal[] rates = new BigDecimal[LEVELS.length];
+        for (RiskLevel level : LEVELS) {
+            rates[level.ordinal()] = annualRates.getOrDefault(level, highest);
+        }
+        return new AffordabilityCalculator(rates, tabulatedTerms);
+    }
+
+    /**
+     * Full quote for an applicant of the given risk level
+     *
+     * @param monthlySalary the applicant's monthly salary, null when unknown
+     * @throws DomainException if the total payment exceeds the representable amounts
+     */
+    public AffordabilityQuote quote(RiskLevel riskLevel, Money amount, int term, Money monthlySalary) {
+        long installment = monthlyInstallmentMinor(riskLevel, amount.minorUnits(), term);
+        Money totalPayment;
+        try {
+            totalPayment = Money.ofMinor(installment).times(term);
+        } catch (ArithmeticException e) {
+            throw new DomainException("El monto y el plazo exceden el rango que se puede cotizar",
+                    "QUOTE_OUT_OF_RANGE", e);
+        }
+        return new AffordabilityQuote(
+                annualRates[riskLevel.ordinal()],
+                Money.ofMinor(installment),
+                totalPayment,
+                totalPayment.minus(amount),
+                debtToIncome(installment, monthlySalary != null ? monthlySalary.minorUnits() : 0));
+    }
+
+    /**
+     * Debt-to-income alone, without allocating, for the approval rules
+     *
+     * @param salaryMinor monthly salary in cents, zero or less when unknown
+     */
+    public int debtToIncomeBasisPoints(RiskLevel riskLevel, long amountMinor, int term, long salaryMinor) {
+        return debtToIncome(monthlyInstallmentMinor(riskLevel, amountMinor, term), salaryMinor);
+    }
+
+    /**
+     * Installment in cents, rounded half up
+     *
+     * @throws IllegalArgumentException if the term is not positive
+     */
+    public long monthlyInstallmentMinor(RiskLevel riskLevel, long amountMinor, int term) {
+        if (term < 1) {
+            throw new IllegalArgumentException("Term must be greater than zero months");
+        }
+        double[] levelFactors = factors[riskLevel.ordinal()];
+        double factor = term < levelFactors.length
+                ? levelFactors[term]
+                : annuityFactor(monthlyRates[riskLevel.ordinal()], term);
+        return Math.round(amountMinor * factor);
+    }
+
+    public BigDecimal annualRate(RiskLevel riskLevel) {
+        return annualRates[riskLevel.ordinal()];
+    }
+
+    static double annuityFactor(double monthlyRate, int term) {
+        if (monthlyRate == 0) {
+            return 1.0 / term;
+        }
+        return monthlyRate / (1 - Math.pow(1 + monthlyRate, -term));
+    }
+
+    /**
+     * Exact ceiling of installment / salary in basis points; beyond the long range the
+     * ratio is unaffordable anyway and reported as unknown
+     */
+    private static int debtToIncome(long installmentMinor, long salaryMinor) {
+        if (salaryMinor <= 0 || installmentMinor > Long.MAX_VALUE / BASIS_POINTS) {
+            return AffordabilityQuote.UNKNOWN_DEBT_TO_INCOME;
+        }
+        long scaled = installmentMinor * BASIS_POINTS;
+        long basisPoints = scaled / salaryMinor + (scaled % salaryMinor == 0 ? 0 : 1);
+        return (int) Math.min(basisPoints, AffordabilityQuote.UNKNOWN_DEBT_TO_INCOME - 1L);
+    }
+
+    private static DomainException invalid(String message) {
+        return new DomainException(message, "INVALID_AFFORDABILITY_RATES");
+    }
+}
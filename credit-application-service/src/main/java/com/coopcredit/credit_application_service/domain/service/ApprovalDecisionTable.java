@@ -0,0 +1,236 @@
+package com.coopcredit.credit_application_service.domain.service;
+
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.AffordabilityQuote;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain Service: ApprovalDecisionTable
+ * Immutable, compiled form of an ordered list of approval rules; the first matching rule decides
+ * and the default decision applies when none does. Rules are grouped per risk level at compile
+ * time and their bounds converted to cents and basis points, so an evaluation scans a short
+ * array with primitive comparisons only and allocates nothing. The debt-to-income of an
+ * application is only computed when a rule of its risk level bounds it.
+ */
+public final class ApprovalDecisionTable {
+
+    private static final RiskLevel[] LEVELS = RiskLevel.values();
+
+    private final List<ApprovalRule> rules;
+    private final ApprovalRule.Decision defaultDecision;
+    private final ApprovalRule defaultRule;
+    private final CompiledRule[][] rulesByLevel;
+    private final boolean[] usesDebtToIncome;
+
+    private ApprovalDecisionTable(List<ApprovalRule> rules, ApprovalRule.Decision defaultDecision) {
+        this.rules = List.copyOf(rules);
+        this.defaultDecision = defaultDecision;
+        this.defaultRule = new ApprovalRule("default", null, null, null, null, null, null, null, null, null,
+                defaultDecision);
+        this.rulesByLevel = new CompiledRule[LEVELS.length][];
+        this.usesDebtToIncome = new boolean[LEVELS.length];
+        for (RiskLevel level : LEVELS) {
+            List<CompiledRule> applicable = new ArrayList<>();
+            for (ApprovalRule rule : this.rules) {
+                if (rule.riskLevel() == null || rule.riskLevel() == level) {
+                    applicable.add(new CompiledRule(rule));
+                    usesDebtToIncome[level.ordinal()] |= rule.debtToIncomeAbove() != null
+                            || rule.debtToIncomeUpTo() != null;
+                }
+            }
+            rulesByLevel[level.ordinal()] = applicable.toArray(CompiledRule[]::new);
+        }
+    }
+
+    /**
+     * Validate and compile a rule list
+     *
+     * @throws DomainException if a rule is incomplete, has an empty band or a bound finer than
+     *                         a cent or a basis point
+     */
+    public static ApprovalDecisionTable compile(List<ApprovalRule> rules, ApprovalRule.Decision defaultDecision) {
+        if (rules == null || defaultDecision == null) {
+            throw new DomainException("Las reglas y la decisión por defecto son requeridas", "INVALID_APPROVAL_RULES");
+        }
+        for (int i = 0; i < rules.size(); i++) {
+            validate(i, rules.get(i));
+        }
+        return new ApprovalDecisionTable(rules, defaultDecision);
+    }
+
+    /**
+     * Decide an application of the given affiliate
+     */
+    public boolean approves(CreditApplication application, Affiliate affiliate, RiskEvaluation riskEvaluation,
+                            AffordabilityCalculator affordability, LocalDate today) {
+        return match(application, affiliate, riskEvaluation, affordability, today).decision()
+                == ApprovalRule.Decision.APPROVE;
+    }
+
+    /**
+     * The rule deciding an application of the given affiliate
+     *
+     * @param affordability rates used for the debt-to-income, when a rule needs it
+     * @param today seniority is counted up to this date when the application has no submission date
+     */
+    public ApprovalRule match(CreditApplication application, Affiliate affiliate, RiskEvaluation riskEvaluation,
+                              AffordabilityCalculator affordability, LocalDate today) {
+        LocalDate asOf = application.getSubmissionDate() != null ? application.getSubmissionDate() : today;
+        RiskLevel riskLevel = riskEvaluation.getRiskLevel();
+        Money amount = application.getAmount();
+        Money salary = affiliate.getSalary();
+        int debtToIncome = usesDebtToIncome[riskLevel.ordinal()]
+                ? affordability.debtToIncomeBasisPoints(riskLevel, amount.minorUnits(), application.getTerm(),
+                        salary != null ? salary.minorUnits() : 0)
+                : AffordabilityQuote.UNKNOWN_DEBT_TO_INCOME;
+        return match(riskLevel, amount, application.getTerm(), salary,
+                seniorityMonths(affiliate.getRegistrationDate(), asOf), debtToIncome);
+    }
+
+    /**
+     * The rule deciding the given facts; seniorityMonths is negative when unknown and
+     * debtToIncomeBasisPoints is {@link AffordabilityQuote#UNKNOWN_DEBT_TO_INCOME} when unknown
+     */
+    public ApprovalRule match(RiskLevel riskLevel, Money amount, int term, Money salary, int seniorityMonths,
+                              int debtToIncomeBasisPoints) {
+        long amountMinor = amount.minorUnits();
+        long salaryMinor = salary != null ? salary.minorUnits() : Long.MIN_VALUE;
+        for (CompiledRule rule : rulesByLevel[riskLevel.ordinal()]) {
+            if (rule.matches(amountMinor, term, salaryMinor, seniorityMonths, debtToIncomeBasisPoints)) {
+                return rule.source;
+            }
+        }
+        return defaultRule;
+    }
+
+    public List<ApprovalRule> rules() {
+        return rules;
+    }
+
+    public ApprovalRule.Decision defaultDecision() {
+        return defaultDecision;
+    }
+
+    /**
+     * Whole months from registration to the given date, -1 when the registration date is unknown
+     */
+    public static int seniorityMonths(LocalDate registrationDate, LocalDate asOf) {
+        if (registrationDate == null) {
+            return -1;
+        }
+        int months = (asOf.getYear() - registrationDate.getYear()) * 12
+                + asOf.getMonthValue() - registrationDate.getMonthValue();
+        if (asOf.getDayOfMonth() < registrationDate.getDayOfMonth()) {
+            months--;
+        }
+        return months;
+    }
+
+    private static void validate(int index, ApprovalRule rule) {
+        String label = "Regla " + (index + 1);
+        if (rule == null || rule.decision() == null) {
+            throw invalid(label + ": la decisión es requerida");
+        }
+        Money amountAbove = money(label, rule.amountAbove());
+        Money amountUpTo = money(label, rule.amountUpTo());
+        money(label, rule.minSalary());
+        if (amountAbove != null && amountUpTo != null && !amountUpTo.isGreaterThan(amountAbove)) {
+            throw invalid(label + ": la banda de monto está vacía");
+        }
+        if (rule.minTerm() != null && rule.maxTerm() != null && rule.minTerm() > rule.maxTerm()) {
+            throw invalid(label + ": la banda de plazo está vacía");
+        }
+        int debtToIncomeAbove = basisPoints(label, rule.debtToIncomeAbove(), Integer.MIN_VALUE);
+        int debtToIncomeUpTo = basisPoints(label, rule.debtToIncomeUpTo(), AffordabilityQuote.UNKNOWN_DEBT_TO_INCOME);
+        if (debtToIncomeAbove >= debtToIncomeUpTo) {
+            throw invalid(label + ": la banda de endeudamiento está vacía");
+        }
+    }
+
+    private static Money money(String label, BigDecimal value) {
+        try {
+            return Money.ofNullable(value);
+        } catch (IllegalArgumentException e) {
+            throw invalid(label + ": el monto " + value.toPlainString() + " no es representable en centavos");
+        }
+    }
+
+    /**
+     * A ratio bound as basis points (0.40 = 4000); open bounds become the given sentinel
+     */
+    private static int basisPoints(String label, BigDecimal ratio, int open) {
+        if (ratio == null) {
+            return open;
+        }
+        try {
+            int basisPoints = ratio.movePointRight(4).setScale(0, RoundingMode.UNNECESSARY).intValueExact();
+            if (basisPoints < 0 || basisPoints == AffordabilityQuote.UNKNOWN_DEBT_TO_INCOME) {
+                throw new ArithmeticException();
+            }
+            return basisPoints;
+        } catch (ArithmeticException e) {
+            throw invalid(label + ": el endeudamiento " + ratio.toPlainString()
+                    + " debe ser una razón no negativa con hasta 4 decimales");
+        }
+    }
+
+    private static DomainException invalid(String message) {
+        return new DomainException(message, "INVALID_APPROVAL_RULES");
+    }
+
+    /**
+     * Rule with open bounds replaced by sentinels, amounts in cents, ratios in basis points and
+     * terms unboxed
+     */
+    private static final class CompiledRule {
+
+        private final ApprovalRule source;
+        private final long amountAbove;
+        private final long amountUpTo;
+        private final int minTerm;
+        private final int maxTerm;
+        private final long minSalary;
+        private final int minSeniorityMonths;
+        private final int debtToIncomeAbove;
+        private final int debtToIncomeUpTo;
+
+        CompiledRule(ApprovalRule source) {
+            this.source = source;
+            this.amountAbove = minorUnits(source.amountAbove(), Long.MIN_VALUE);
+            this.amountUpTo = minorUnits(source.amountUpTo(), Long.MAX_VALUE);
+            this.minTerm = source.minTerm() != null ? source.minTerm() : Integer.MIN_VALUE;
+            this.maxTerm = source.maxTerm() != null ? source.maxTerm() : Integer.MAX_VALUE;
+            this.minSalary = minorUnits(source.minSalary(), Long.MIN_VALUE);
+            this.minSeniorityMonths = source.minSeniorityMonths() != null ? source.minSeniorityMonths() : Integer.MIN_VALUE;
+            this.debtToIncomeAbove = basisPoints("", source.debtToIncomeAbove(), Integer.MIN_VALUE);
+            this.debtToIncomeUpTo = basisPoints("", source.debtToIncomeUpTo(), AffordabilityQuote.UNKNOWN_DEBT_TO_INCOME);
+        }
+
+        /**
+         * An unknown salary arrives as Long.MIN_VALUE and so fails any salary floor;
+         * open bounds are the extreme longs and always pass
+         */
+        boolean matches(long amount, int term, long salary, int seniorityMonths, int debtToIncome) {
+            return term >= minTerm && term <= maxTerm
+                    && seniorityMonths >= minSeniorityMonths
+                    && amount > amountAbove && amount <= amountUpTo
+                    && salary >= minSalary
+                    && debtToIncome > debtToIncomeAbove && debtToIncome <= debtToIncomeUpTo;
+        }
+
+        private static long minorUnits(BigDecimal bound, long open) {
+            return bound != null ? Money.of(bound).minorUnits() : open;
+        }
+    }
+}
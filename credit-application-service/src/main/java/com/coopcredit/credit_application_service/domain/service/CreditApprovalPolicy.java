@@ -0,0 +1,63 @@
+package com.coopcredit.credit_application_service.domain.service;
+
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Domain Service: CreditApprovalPolicy
+ * The built-in approval rules and lending rates, used when none are configured.
+ * Pure Java, shared by every adapter stack (servlet and reactive).
+ */
+public final class CreditApprovalPolicy {
+
+    /** Amounts above this limit are rejected for medium-risk applicants */
+    public static final BigDecimal MEDIUM_RISK_MAX_AMOUNT = new BigDecimal("10000000");
+
+    /**
+     * Rule 1: reject high risk. Rule 2: reject medium risk above 10,000,000. Otherwise approve.
+     */
+    public static final List<ApprovalRule> DEFAULT_RULES = List.of(
+            new ApprovalRule("alto-riesgo", RiskLevel.HIGH, null, null, null, null, null, null, null, null,
+                    ApprovalRule.Decision.REJECT),
+            new ApprovalRule("medio-riesgo-monto-alto", RiskLevel.MEDIUM, MEDIUM_RISK_MAX_AMOUNT, null,
+                    null, null, null, null, null, null, ApprovalRule.Decision.REJECT)
+    );
+
+    public static final ApprovalDecisionTable DEFAULT =
+            ApprovalDecisionTable.compile(DEFAULT_RULES, ApprovalRule.Decision.APPROVE);
+
+    /** Nominal annual rates per risk level; unclassified applicants pay the highest */
+    public static final Map<RiskLevel, BigDecimal> DEFAULT_ANNUAL_RATES = Map.of(
+            RiskLevel.HIGH, new BigDecimal("0.32"),
+            RiskLevel.MEDIUM, new BigDecimal("0.26"),
+            RiskLevel.LOW, new BigDecimal("0.20")
+    );
+
+    public static final AffordabilityCalculator DEFAULT_AFFORDABILITY =
+            AffordabilityCalculator.of(DEFAULT_ANNUAL_RATES, AffordabilityCalculator.DEFAULT_TABULATED_TERMS);
+
+    private CreditApprovalPolicy() {
+    }
+
+    /**
+     * Apply the built-in rules to determine if a credit application should be approved
+     *
+     * @param application the credit application to decide
+     * @param affiliate the applicant
+     * @param riskEvaluation the risk evaluation result
+     * @param today the decision date, used when the application has no submission date
+     * @return true if approved, false if rejected
+     */
+    public static boolean approves(CreditApplication application, Affiliate affiliate, RiskEvaluation riskEvaluation,
+                                   LocalDate today) {
+        return DEFAULT.approves(application, affiliate, riskEvaluation, DEFAULT_AFFORDABILITY, today);
+    }
+}
@@ -1,8 +1,12 @@
 package com.coopcredit.credit_application_service.infrastructure.adapter.external;
 
+import com.coopcredit.credit_application_service.domain.model.Money;
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
 import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
 import com.coopcredit.credit_application_service.infrastructure.exception.InfrastructureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
@@ -12,24 +16,29 @@ import java.util.Map;
 
 /**
  * Adapter for external Risk Central Service
- * Implements the RiskCentralPort to communicate with the external risk evaluation API
+ * Implements the RiskCentralPort to communicate with the external risk evaluation API.
+ * Requests and responses use risk-central.media-type: JSON by default, or the binary CBOR/Smile
+ * encodings, which skip text number formatting and parsing on both sides.
  */
 @Component
 public class RiskCentralAdapter implements RiskCentralPort {
 
     private final RestClient restClient;
+    private final MediaType mediaType;
 
-    public RiskCentralAdapter(RestClient riskCentralRestClient) {
+    public RiskCentralAdapter(RestClient riskCentralRestClient,
+                              @Value("${risk-central.media-type:application/json}") MediaType mediaType) {
         this.restClient = riskCentralRestClient;
+        this.mediaType = mediaType;
     }
 
     @Override
-    public RiskEvaluation evaluateRisk(String document, Double amount, Integer term) {
+    public RiskEvaluation evaluateRisk(String document, Money amount, Integer term) {
         try {
             // Build request payload
             RiskEvaluationRequestDto request = new RiskEvaluationRequestDto(
                 document,
-                new BigDecimal(amount),
+                amount.toBigDecimal(),
                 term
             );
 
@@ -37,6 +46,8 @@ public class RiskCentralAdapter implements RiskCentralPort {
             RiskEvaluationResponseDto response = restClient
                     .post()
                     .uri("/risk-evaluation")
+                    .contentType(mediaType)
+                    .accept(mediaType)
                     .body(request)
                     .retrieve()
                     .body(RiskEvaluationResponseDto.class);
@@ -45,10 +56,14 @@ public class RiskCentralAdapter implements RiskCentralPort {
                 throw new InfrastructureException("El servicio de riesgo devolvió una respuesta nula");
             }
 
-            // Map to domain model
+            if (response.score() == null) {
+                throw new InfrastructureException("El servicio de riesgo no devolvió un puntaje");
+            }
+
+            // Map to domain model; the risk label is classified once here
             return new RiskEvaluation(
                 response.score(),
-                response.riskLevel(),
+                RiskLevel.fromLabel(response.riskLevel()),
                 response.detail()
             );
         } catch (RestClientException e) {
@@ -65,18 +80,18 @@ public class RiskCentralAdapter implements RiskCentralPort {
     }
 
     /**
-     * Internal DTO for Risk Central request
+     * Internal DTO for Risk Central request (package-private for {@link RiskCentralJsonModule})
      */
-    private record RiskEvaluationRequestDto(
+    record RiskEvaluationRequestDto(
         String document,
         BigDecimal amount,
         Integer term
     ) {}
 
     /**
-     * Internal DTO for Risk Central response
+     * Internal DTO for Risk Central response (package-private for {@link RiskCentralJsonModule})
      */
-    private record RiskEvaluationResponseDto(
+    record RiskEvaluationResponseDto(
         String document,
         Integer score,
         String riskLevel,
@@ -0,0 +1,74 @@
+package com.coopcredit.credit_application_service.infrastructure.adapter.external;
+
+import com.coopcredit.credit_application_service.infrastructure.adapter.external.RiskCentralAdapter.RiskEvaluationRequestDto;
+import com.coopcredit.credit_application_service.infrastructure.adapter.external.RiskCentralAdapter.RiskEvaluationResponseDto;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.ValueSerializer;
+import tools.jackson.databind.module.SimpleModule;
+
+import static com.coopcredit.credit_application_service.infrastructure.json.JsonCodecSupport.*;
+
+/**
+ * Jackson module: RiskCentralJsonModule
+ * Hand-written codecs for the Risk Central wire DTOs, which stay private to this package.
+ * Registered as a bean and used by the Risk Central RestClient through the application JsonMapper.
+ */
+public class RiskCentralJsonModule extends SimpleModule {
+
+    public RiskCentralJsonModule() {
+        super(RiskCentralJsonModule.class.getSimpleName());
+        addSerializer(RiskEvaluationRequestDto.class, new RequestSerializer());
+        addDeserializer(RiskEvaluationResponseDto.class, new ResponseDeserializer());
+    }
+
+    static final class RequestSerializer extends ValueSerializer<RiskEvaluationRequestDto> {
+
+        private static final SerializableString DOCUMENT = new SerializedString("document");
+        private static final SerializableString AMOUNT = new SerializedString("amount");
+        private static final SerializableString TERM = new SerializedString("term");
+
+        @Override
+        public void serialize(RiskEvaluationRequestDto value, JsonGenerator gen, SerializationContext ctxt) {
+            gen.writeStartObject(value, 3);
+            gen.writeName(DOCUMENT);
+            writeString(gen, value.document());
+            gen.writeName(AMOUNT);
+            writeNumber(gen, value.amount());
+            gen.writeName(TERM);
+            writeNumber(gen, value.term());
+            gen.writeEndObject();
+        }
+    }
+
+    static final class ResponseDeserializer extends ValueDeserializer<RiskEvaluationResponseDto> {
+
+        @Override
+        public RiskEvaluationResponseDto deserialize(JsonParser p, DeserializationContext ctxt) {
+            String document = null;
+            Integer score = null;
+            String riskLevel = null;
+            String detail = null;
+
+            for (JsonToken token = firstProperty(p, ctxt, RiskEvaluationResponseDto.class);
+                 token == JsonToken.PROPERTY_NAME; token = p.nextToken()) {
+                String name = p.currentName();
+                p.nextToken();
+                switch (name) {
+                    case "document" -> document = readString(p, ctxt);
+                    case "score" -> score = readInt(p, ctxt);
+                    case "riskLevel" -> riskLevel = readString(p, ctxt);
+                    case "detail" -> detail = readString(p, ctxt);
+                    default -> p.skipChildren();
+                }
+            }
+            return new RiskEvaluationResponseDto(document, score, riskLevel, detail);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.coopcredit.credit_application_service.infrastructure.adapter.stream;
+
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapper;
+import com.coopcredit.credit_application_service.application.dto.CreditDecisionEvent;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.port.output.CreditDecisionPublisher;
+import com.coopcredit.credit_application_service.infrastructure.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Adapter: CreditDecisionBroadcaster
+ * Fans credit decisions out to Server-Sent Events subscribers, after the deciding transaction
+ * commits. Each event is serialized once, then offered to a bounded buffer per subscriber and
+ * written by that subscriber's own sender (a virtual thread), so a slow client never delays the
+ * request that made the decision. A subscriber whose buffer is full is disconnected; clients
+ * reconnect and re-read the current state through the regular GET endpoints.
+ */
+@Slf4j
+@Component
+public class CreditDecisionBroadcaster implements CreditDecisionPublisher, DisposableBean {
+
+    static final String EVENT_NAME = "credit-decision";
+
+    private static final Message HEARTBEAT = new Message(null, null);
+
+    private final CreditApplicationMapper creditApplicationMapper;
+    private final JsonMapper jsonMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final Duration timeout;
+    private final Counter dropped;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public CreditDecisionBroadcaster(CreditApplicationMapper creditApplicationMapper,
+                                     JsonMapper jsonMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${credit-applications.stream.buffer-size:64}") int bufferSize,
+                                     @Value("${credit-applications.stream.max-subscribers:1000}") int maxSubscribers,
+                                     @Value("${credit-applications.stream.timeout:PT30M}") Duration timeout) {
+        this.creditApplicationMapper = creditApplicationMapper;
+        this.jsonMapper = jsonMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeout = timeout;
+        this.dropped = Counter.builder("credit.decisions.stream.dropped")
+                .description("Decision stream subscribers disconnected for falling behind")
+                .register(meterRegistry);
+        Gauge.builder("credit.decisions.stream.subscribers", subscribers, Set::size)
+                .description("Open decision stream subscriptions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Open a decision stream
+     *
+     * @param affiliateDocument only stream decisions for this affiliate, or all decisions when null
+     * @return the emitter to return from the controller
+     * @throws ServiceOverloadedException if the maximum number of subscriptions is reached
+     */
+    public SseEmitter subscribe(String affiliateDocument) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(affiliateDocument, emitter);
+        return emitter;
+    }
+
+    void register(String affiliateDocument, SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceOverloadedException(
+                    "Se alcanzó el máximo de suscripciones al flujo de decisiones", Duration.ofSeconds(5));
+        }
+        Subscriber subscriber = new Subscriber(affiliateDocument, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        subscribers.add(subscriber);
+        // Flush the response headers right away so clients and proxies see an open stream
+        offer(subscriber, HEARTBEAT);
+    }
+
+    @Override
+    public void publish(CreditApplication decided, String affiliateDocument) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(decided, affiliateDocument);
+                }
+            });
+        } else {
+            broadcast(decided, affiliateDocument);
+        }
+    }
+
+    /**
+     * Keep idle streams alive through proxies, and surface dead or stalled clients
+     */
+    @Scheduled(fixedDelayString = "${credit-applications.stream.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> offer(subscriber, HEARTBEAT));
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @Override
+    public void destroy() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter().complete();
+            } catch (IllegalStateException e) {
+                // The container already released the response
+            }
+        }
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    private void broadcast(CreditApplication decided, String affiliateDocument) {
+        Message message = new Message(String.valueOf(decided.getId()), jsonMapper.writeValueAsString(
+                new CreditDecisionEvent(affiliateDocument, creditApplicationMapper.toResponse(decided))));
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(affiliateDocument)) {
+                offer(subscriber, message);
+            }
+        }
+    }
+
+    private void offer(Subscriber subscriber, Message message) {
+        if (!subscriber.buffer().offer(message)) {
+            drop(subscriber);
+            return;
+        }
+        if (subscriber.sending().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Write buffered messages until the buffer is empty. At most one drain runs per subscriber.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            while (true) {
+                Message message;
+                while ((message = subscriber.buffer().poll()) != null) {
+                    subscriber.emitter().send(message.toEvent());
+                }
+                subscriber.sending().set(false);
+                // A message offered after the last poll but before the flag was cleared is ours to send
+                if (subscriber.buffer().isEmpty() || !subscriber.sending().compareAndSet(false, true)) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; the emitter has already been completed
+            log.debug("Decision stream subscriber disconnected: {}", e.getMessage());
+            subscribers.remove(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            dropped.increment();
+            log.info("Dropping decision stream subscriber that fell {} events behind", bufferSize);
+            subscriber.buffer().clear();
+            // complete() waits for any write in progress, so it must not run on the publishing thread
+            senders.execute(subscriber.emitter()::complete);
+        }
+    }
+
+    /**
+     * An open stream with its pending messages
+     */
+    private static final class Subscriber {
+
+        private final String affiliateDocument;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Message> buffer;
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        Subscriber(String affiliateDocument, SseEmitter emitter, ArrayBlockingQueue<Message> buffer) {
+            this.affiliateDocument = affiliateDocument;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        boolean accepts(String document) {
+            return affiliateDocument == null || affiliateDocument.equals(document);
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        ArrayBlockingQueue<Message> buffer() {
+            return buffer;
+        }
+
+        AtomicBoolean sending() {
+            return sending;
+        }
+    }
+
+    /**
+     * A pre-serialized event; a message without data is a heartbeat comment
+     */
+    private record Message(String id, String json) {
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (json == null) {
+                return SseEmitter.event().comment("heartbeat");
+            }
+            return SseEmitter.event().id(id).name(EVENT_NAME).data(json, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.coopcredit.credit_application_service.infrastructure.config;
+
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Configuration: AffordabilityProperties
+ * Lending rates used for installments and debt-to-income (credit-affordability.*). Without
+ * rates, the built-in CreditApprovalPolicy rates apply.
+ *
+ * @param annualRates nominal annual rate per risk level (0.24 = 24%)
+ * @param tabulatedTerms longest term, in months, with a precomputed annuity factor
+ */
+@ConfigurationProperties(prefix = "credit-affordability")
+public record AffordabilityProperties(
+        Map<RiskLevel, BigDecimal> annualRates,
+        @DefaultValue("360") int tabulatedTerms
+) {
+}
@@ -0,0 +1,41 @@
+package com.coopcredit.credit_application_service.infrastructure.config;
+
+import com.coopcredit.credit_application_service.application.service.ApprovalRuleEngine;
+import com.coopcredit.credit_application_service.domain.service.AffordabilityCalculator;
+import com.coopcredit.credit_application_service.domain.service.ApprovalDecisionTable;
+import com.coopcredit.credit_application_service.domain.service.CreditApprovalPolicy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Configuration: ApprovalRulesConfig
+ * Compiles the configured approval decision table and affordability rate tables at startup;
+ * an invalid table or rate fails the start. The configured table is revision 1; once replaced
+ * through PUT /admin/approval-rules, the stored revision takes precedence on every node.
+ * (The reactive module, without that store, always decides with the configured table.)
+ */
+@Configuration
+@EnableConfigurationProperties({ApprovalRulesProperties.class, AffordabilityProperties.class})
+public class ApprovalRulesConfig {
+
+    @Bean
+    public AffordabilityCalculator affordabilityCalculator(AffordabilityProperties properties) {
+        if (properties.annualRates() == null) {
+            return CreditApprovalPolicy.DEFAULT_AFFORDABILITY;
+        }
+        return AffordabilityCalculator.of(properties.annualRates(), properties.tabulatedTerms());
+    }
+
+    @Bean
+    public ApprovalRuleEngine approvalRuleEngine(ApprovalRulesProperties properties,
+                                                 AffordabilityCalculator affordabilityCalculator,
+                                                 Clock clock) {
+        ApprovalDecisionTable table = properties.rules() == null
+                ? CreditApprovalPolicy.DEFAULT
+                : ApprovalDecisionTable.compile(properties.rules(), properties.defaultDecision());
+        return new ApprovalRuleEngine(table, affordabilityCalculator, clock);
+    }
+}
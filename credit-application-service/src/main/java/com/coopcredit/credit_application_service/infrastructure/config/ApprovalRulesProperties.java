@@ -0,0 +1,22 @@
+package com.coopcredit.credit_application_service.infrastructure.config;
+
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * Configuration: ApprovalRulesProperties
+ * Approval decision table loaded at startup (credit-approval.rules[n].*), evaluated top to
+ * bottom. Without rules, the built-in CreditApprovalPolicy rules apply.
+ *
+ * @param rules ordered approval rules
+ * @param defaultDecision decision when no rule matches
+ */
+@ConfigurationProperties(prefix = "credit-approval")
+public record ApprovalRulesProperties(
+        List<ApprovalRule> rules,
+        @DefaultValue("APPROVE") ApprovalRule.Decision defaultDecision
+) {
+}
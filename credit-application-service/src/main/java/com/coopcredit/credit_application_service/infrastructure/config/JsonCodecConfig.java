@@ -0,0 +1,26 @@
+package com.coopcredit.credit_application_service.infrastructure.config;
+
+import com.coopcredit.credit_application_service.infrastructure.adapter.external.RiskCentralJsonModule;
+import com.coopcredit.credit_application_service.infrastructure.json.HotPathJsonModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.JacksonModule;
+
+/**
+ * Configuration: JsonCodecConfig
+ * Exposes the hand-written codec modules; Spring Boot registers every JacksonModule bean in the
+ * application JsonMapper
+ */
+@Configuration
+public class JsonCodecConfig {
+
+    @Bean
+    public JacksonModule hotPathJsonModule() {
+        return new HotPathJsonModule();
+    }
+
+    @Bean
+    public JacksonModule riskCentralJsonModule() {
+        return new RiskCentralJsonModule();
+    }
+}
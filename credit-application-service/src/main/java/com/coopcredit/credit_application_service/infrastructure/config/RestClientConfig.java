@@ -1,8 +1,19 @@
 package com.coopcredit.credit_application_service.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
 import org.springframework.web.client.RestClient;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
 
 /**
  * Configuration for RestClient to communicate with external Risk Central service
@@ -12,10 +23,30 @@ public class RestClientConfig {
 
     public static final String RISK_CENTRAL_BASE_URL = "http://localhost:8081";
 
+    /**
+     * Uses the application mappers, so the Risk Central codecs (see JsonCodecConfig) apply to
+     * every wire format; which one is sent is chosen by the adapter (risk-central.media-type).
+     * Every call is bounded by the connect and response timeouts, and a thread waiting for a
+     * response can be interrupted, so no caller hangs on an unresponsive bureau.
+     */
     @Bean
-    public RestClient riskCentralRestClient() {
+    public RestClient riskCentralRestClient(JsonMapper jsonMapper, CBORMapper cborMapper,
+                                            @Value("${risk-central.connect-timeout:PT2S}") Duration connectTimeout,
+                                            @Value("${risk-central.timeout:PT5S}") Duration timeout) {
+        SmileMapper smileMapper = SmileMapper.builder()
+                .addModules(jsonMapper.registeredModules())
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(connectTimeout).build());
+        requestFactory.setReadTimeout(timeout);
         return RestClient.builder()
                 .baseUrl(RISK_CENTRAL_BASE_URL)
+                .requestFactory(requestFactory)
+                .configureMessageConverters(converters -> converters
+                        .registerDefaults()
+                        .withJsonConverter(new JacksonJsonHttpMessageConverter(jsonMapper))
+                        .withCborConverter(new JacksonCborHttpMessageConverter(cborMapper))
+                        .withSmileConverter(new JacksonSmileHttpMessageConverter(smileMapper)))
                 .build();
     }
 }
@@ -0,0 +1,13 @@
+package com.coopcredit.credit_application_service.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration: SchedulingConfig
+ * Enables @Scheduled housekeeping jobs (e.g. idempotency key purge)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -12,4 +12,12 @@ public class InfrastructureException extends RuntimeException {
     public InfrastructureException(String message, Throwable cause) {
         super(message, cause);
     }
+
+    /**
+     * For expected rejections (bad credentials, invalid tokens, overload) that are answered
+     * with a 4xx/503 and never logged with a stack trace, so none is captured
+     */
+    protected InfrastructureException(String message, boolean stackless) {
+        super(message, null, !stackless, !stackless);
+    }
 }
@@ -0,0 +1,12 @@
+package com.coopcredit.credit_application_service.infrastructure.exception;
+
+/**
+ * Raised when a login presents an unknown username or a wrong password.
+ * Both cases carry the same message so the response does not reveal which one it was.
+ */
+public class InvalidCredentialsException extends InfrastructureException {
+
+    public InvalidCredentialsException() {
+        super("Credenciales inválidas", true);
+    }
+}
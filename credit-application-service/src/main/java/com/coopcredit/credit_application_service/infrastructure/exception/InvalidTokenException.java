@@ -0,0 +1,11 @@
+package com.coopcredit.credit_application_service.infrastructure.exception;
+
+/**
+ * Raised when a presented token is unknown, expired, revoked or malformed
+ */
+public class InvalidTokenException extends InfrastructureException {
+
+    public InvalidTokenException(String message) {
+        super(message, true);
+    }
+}
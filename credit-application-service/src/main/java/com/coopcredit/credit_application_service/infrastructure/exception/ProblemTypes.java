@@ -0,0 +1,22 @@
+package com.coopcredit.credit_application_service.infrastructure.exception;
+
+import java.net.URI;
+
+/**
+ * RFC 7807 problem type URIs, parsed once instead of on every error response
+ */
+public final class ProblemTypes {
+
+    public static final URI BUSINESS_ERROR = URI.create("https://example.com/problem/business-error");
+    public static final URI CONCURRENT_UPDATE = URI.create("https://example.com/problem/concurrent-update");
+    public static final URI INVALID_TOKEN = URI.create("https://example.com/problem/invalid-token");
+    public static final URI INVALID_CREDENTIALS = URI.create("https://example.com/problem/invalid-credentials");
+    public static final URI USERNAME_TAKEN = URI.create("https://example.com/problem/username-taken");
+    public static final URI OVERLOADED = URI.create("https://example.com/problem/overloaded");
+    public static final URI RATE_LIMITED = URI.create("https://example.com/problem/rate-limited");
+    public static final URI VALIDATION = URI.create("https://example.com/problem/validation");
+    public static final URI INTERNAL = URI.create("https://example.com/problem/internal");
+
+    private ProblemTypes() {
+    }
+}
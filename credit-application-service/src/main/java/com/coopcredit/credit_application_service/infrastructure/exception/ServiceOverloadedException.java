@@ -0,0 +1,20 @@
+package com.coopcredit.credit_application_service.infrastructure.exception;
+
+import java.time.Duration;
+
+/**
+ * Raised when a bounded resource is saturated and the request should be retried later
+ */
+public class ServiceOverloadedException extends InfrastructureException {
+
+    private final Duration retryAfter;
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(message, true);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,11 @@
+package com.coopcredit.credit_application_service.infrastructure.exception;
+
+/**
+ * Raised when a registration uses a username that is already taken
+ */
+public class UsernameAlreadyExistsException extends InfrastructureException {
+
+    public UsernameAlreadyExistsException(String username) {
+        super("El usuario " + username + " ya existe", true);
+    }
+}
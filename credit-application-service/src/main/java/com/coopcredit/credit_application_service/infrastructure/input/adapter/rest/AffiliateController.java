@@ -3,17 +3,19 @@ package com.coopcredit.credit_application_service.infrastructure.input.adapter.r
 import com.coopcredit.credit_application_service.application.dto.AffiliateMapper;
 import com.coopcredit.credit_application_service.application.dto.AffiliateResponse;
 import com.coopcredit.credit_application_service.application.dto.CreateAffiliateRequest;
-import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.application.service.IdempotencyService;
+import com.coopcredit.credit_application_service.domain.exception.AffiliateNotFoundException;
 import com.coopcredit.credit_application_service.domain.port.input.CreateAffiliateUseCase;
 import com.coopcredit.credit_application_service.domain.port.input.GetAffiliateUseCase;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.net.URI;
-import java.util.Optional;
+import java.security.Principal;
 
 @RestController
 @RequestMapping("/affiliates")
@@ -23,41 +25,56 @@ public class AffiliateController {
     private final CreateAffiliateUseCase createUseCase;
     private final GetAffiliateUseCase getUseCase;
     private final com.coopcredit.credit_application_service.application.dto.AffiliateMapper mapper;
+    private final IdempotencyService idempotencyService;
 
-    public AffiliateController(CreateAffiliateUseCase createUseCase, GetAffiliateUseCase getUseCase, AffiliateMapper mapper) {
+    public AffiliateController(CreateAffiliateUseCase createUseCase, GetAffiliateUseCase getUseCase, AffiliateMapper mapper,
+                               IdempotencyService idempotencyService) {
         this.createUseCase = createUseCase;
         this.getUseCase = getUseCase;
         this.mapper = mapper;
+        this.idempotencyService = idempotencyService;
     }
 
     @PostMapping
-    public ResponseEntity<AffiliateResponse> create(@Valid @RequestBody CreateAffiliateRequest request) {
+    public ResponseEntity<AffiliateResponse> create(@Valid @RequestBody CreateAffiliateRequest request,
+            @RequestHeader(value = CreditApplicationController.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Principal principal) {
         // Use the input port command API
         com.coopcredit.credit_application_service.domain.port.input.CreateAffiliateUseCase.CreateAffiliateCommand cmd =
             new com.coopcredit.credit_application_service.domain.port.input.CreateAffiliateUseCase.CreateAffiliateCommand(
                 request.name(), request.document(), request.salary().toString(), request.registrationDate().toString()
             );
 
-        Affiliate created = createUseCase.execute(cmd);
-        AffiliateResponse response = mapper.toResponse(created);
-        URI location = URI.create(String.format("/affiliates/%d", created.getId()));
+        // At most once per Idempotency-Key; a retry gets the original response
+        AffiliateResponse response = idempotencyService.execute("affiliates", CreditApplicationController.username(principal),
+            idempotencyKey, request, AffiliateResponse.class,
+            () -> mapper.toResponse(createUseCase.execute(cmd)));
+        URI location = URI.create(String.format("/affiliates/%d", response.id()));
         return ResponseEntity.created(location).body(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<AffiliateResponse> getById(@PathVariable Long id) {
-        Optional<Affiliate> opt = getUseCase.getById(id);
-        return opt.map(a -> ResponseEntity.ok(mapper.toResponse(a)))
+    public ResponseEntity<AffiliateResponse> getById(@PathVariable Long id, WebRequest request) {
+        // 304 straight from the version lookup when the client's copy is current; an affiliate
+        // removed between the version lookup and the body load gets the usual problem response
+        return getUseCase.getVersionById(id)
+                .map(version -> ConditionalGet.respond(request, version,
+                        () -> getUseCase.getById(id).map(mapper::toResponse)
+                                .orElseThrow(() -> new AffiliateNotFoundException(id))))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 
     @GetMapping
-    public ResponseEntity<AffiliateResponse> getByDocument(@RequestParam(required = false) String document) {
+    public ResponseEntity<AffiliateResponse> getByDocument(@RequestParam(required = false) String document,
+                                                           WebRequest request) {
         if (document == null || document.isBlank()) {
             return ResponseEntity.badRequest().build();
         }
-        Optional<Affiliate> opt = getUseCase.getByDocument(document);
-        return opt.map(a -> ResponseEntity.ok(mapper.toResponse(a)))
+        return getUseCase.getVersionByDocument(document)
+                .map(version -> ConditionalGet.respond(request, version,
+                        () -> getUseCase.getByDocument(document).map(mapper::toResponse)
+                                .orElseThrow(() -> new AffiliateNotFoundException(
+                                        "El afiliado con documento " + document + " no fue encontrado"))))
                 .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).build());
     }
 }
@@ -0,0 +1,48 @@
+package com.coopcredit.credit_application_service.infrastructure.input.adapter.rest;
+
+import com.coopcredit.credit_application_service.application.dto.ApprovalRulesRequest;
+import com.coopcredit.credit_application_service.application.dto.ApprovalRulesResponse;
+import com.coopcredit.credit_application_service.domain.port.input.ManageApprovalRulesUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller: ApprovalRulesController
+ * Reads and hot-swaps the approval decision table (administrators only). Replacements are
+ * stored, so they survive restarts and reach every node within credit-approval.refresh-interval.
+ */
+@RestController
+@RequestMapping("/admin/approval-rules")
+@RequiredArgsConstructor
+public class ApprovalRulesController {
+
+    private final ManageApprovalRulesUseCase manageApprovalRulesUseCase;
+
+    /**
+     * Get the decision table in force
+     *
+     * @return 200 OK with the rules, default decision and revision
+     */
+    @GetMapping
+    public ResponseEntity<ApprovalRulesResponse> getApprovalRules() {
+        return ResponseEntity.ok(manageApprovalRulesUseCase.getApprovalRules());
+    }
+
+    /**
+     * Replace the decision table; applications decided from now on use the new rules, on this
+     * node at once and on the others after their next refresh
+     *
+     * @return 200 OK with the new table, 400 if a rule is invalid, 409 if another replacement
+     *         took the same revision
+     */
+    @PutMapping
+    public ResponseEntity<ApprovalRulesResponse> replaceApprovalRules(@Valid @RequestBody ApprovalRulesRequest request) {
+        return ResponseEntity.ok(manageApprovalRulesUseCase.replaceApprovalRules(request));
+    }
+}
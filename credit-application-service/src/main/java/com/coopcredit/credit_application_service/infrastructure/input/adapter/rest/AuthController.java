@@ -3,12 +3,15 @@ package com.coopcredit.credit_application_service.infrastructure.input.adapter.r
 import com.coopcredit.credit_application_service.domain.model.Role;
 import com.coopcredit.credit_application_service.domain.model.User;
 import com.coopcredit.credit_application_service.domain.port.output.UserRepository;
+import com.coopcredit.credit_application_service.infrastructure.exception.InvalidCredentialsException;
+import com.coopcredit.credit_application_service.infrastructure.exception.UsernameAlreadyExistsException;
 import com.coopcredit.credit_application_service.infrastructure.security.jwt.JwtService;
+import com.coopcredit.credit_application_service.infrastructure.security.jwt.RefreshTokenService;
+import com.coopcredit.credit_application_service.infrastructure.security.password.PasswordHashingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -21,7 +24,8 @@ import java.util.Map;
 
 /**
  * REST Controller: AuthController
- * Handles user authentication: login and registration
+ * Handles user authentication: login, registration and access token refresh.
+ * Login and registration return a short-lived access token plus a rotating refresh token.
  */
 @RestController
 @RequestMapping("/auth")
@@ -31,7 +35,8 @@ public class AuthController {
 
     private final UserRepository userRepository;
     private final JwtService jwtService;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final RefreshTokenService refreshTokenService;
 
     /**
      * POST /auth/login
@@ -40,16 +45,17 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<Map<String, String>> login(@Valid @RequestBody LoginRequest request) {
         var user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+                .orElseThrow(InvalidCredentialsException::new);
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new RuntimeException("Invalid credentials");
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
+            throw new InvalidCredentialsException();
         }
 
         String token = jwtService.generateToken(user.getUsername(), user.getRole().name());
         
         Map<String, String> response = new HashMap<>();
         response.put("token", token);
+        response.put("refreshToken", refreshTokenService.issue(user.getUsername(), user.getRole()));
         response.put("username", user.getUsername());
         response.put("role", user.getRole().name());
 
@@ -65,13 +71,13 @@ public class AuthController {
     public ResponseEntity<Map<String, String>> register(@Valid @RequestBody RegisterRequest request) {
         // Check if user already exists
         if (userRepository.existsByUsername(request.getUsername())) {
-            throw new RuntimeException("Username already exists");
+            throw new UsernameAlreadyExistsException(request.getUsername());
         }
 
         // Create new user with AFILIADO role
         User newUser = User.create(
                 request.getUsername(),
-                passwordEncoder.encode(request.getPassword()),
+                passwordHashingService.encode(request.getPassword()),
                 Role.ROLE_AFILIADO
         );
 
@@ -81,12 +87,32 @@ public class AuthController {
         
         Map<String, String> response = new HashMap<>();
         response.put("token", token);
+        response.put("refreshToken", refreshTokenService.issue(newUser.getUsername(), newUser.getRole()));
         response.put("username", newUser.getUsername());
         response.put("role", newUser.getRole().name());
 
         log.info("New user {} registered successfully", newUser.getUsername());
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    /**
+     * POST /auth/refresh
+     * Exchange a refresh token for a new access token and a new refresh token.
+     * No password hashing: one HMAC and one indexed lookup.
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<Map<String, String>> refresh(@Valid @RequestBody RefreshRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+        Map<String, String> response = new HashMap<>();
+        response.put("token", jwtService.generateToken(rotation.username(), rotation.role().name()));
+        response.put("refreshToken", rotation.refreshToken());
+        response.put("username", rotation.username());
+        response.put("role", rotation.role().name());
+
+        log.debug("Access token refreshed for user {}", rotation.username());
+        return ResponseEntity.ok(response);
+    }
 }
 
 /**
@@ -136,3 +162,18 @@ class RegisterRequest {
         this.password = password;
     }
 }
+
+/**
+ * DTO: RefreshRequest
+ */
+class RefreshRequest {
+    private String refreshToken;
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
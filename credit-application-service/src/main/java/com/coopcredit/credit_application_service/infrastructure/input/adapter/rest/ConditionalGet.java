@@ -0,0 +1,39 @@
+package com.coopcredit.credit_application_service.infrastructure.input.adapter.rest;
+
+import com.coopcredit.credit_application_service.domain.model.ResourceVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+import java.util.function.Supplier;
+
+/**
+ * Helper: ConditionalGet
+ * Answers GETs with ETag/Last-Modified validators taken from a cheap version lookup. When the
+ * client's copy is current the answer is 304 and the resource is neither loaded nor serialized.
+ * The version is read before the body, so a concurrent change can only make the ETag older than
+ * the body (the client then revalidates once more), never newer.
+ */
+final class ConditionalGet {
+
+    /** Authenticated data: cacheable by the client only, and always revalidated */
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    static <T> ResponseEntity<T> respond(WebRequest request, ResourceVersion version, Supplier<T> body) {
+        // Weak, since response compression changes the bytes but not the content
+        String etag = "W/\"" + version.tag() + "\"";
+        long lastModified = version.lastModified() == null ? -1
+                : version.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // Sets the ETag and Last-Modified headers, and the 304 status on a match
+        if (request.checkNotModified(etag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().cacheControl(CACHE_CONTROL).body(body.get());
+    }
+}
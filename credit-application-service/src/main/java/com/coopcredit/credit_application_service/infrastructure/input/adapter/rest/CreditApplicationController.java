@@ -1,16 +1,29 @@
 package com.coopcredit.credit_application_service.infrastructure.input.adapter.rest;
 
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationBatchRequest;
 import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationBatchResponse;
 import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
+import com.coopcredit.credit_application_service.application.dto.CreditSimulationResponse;
+import com.coopcredit.credit_application_service.application.dto.SimulateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.service.CreditApplicationBatchService;
+import com.coopcredit.credit_application_service.application.service.CreditSimulationService;
+import com.coopcredit.credit_application_service.application.service.IdempotencyService;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
 import com.coopcredit.credit_application_service.domain.port.input.CreateCreditApplicationUseCase;
 import com.coopcredit.credit_application_service.domain.port.input.GetCreditApplicationUseCase;
+import com.coopcredit.credit_application_service.infrastructure.adapter.stream.CreditDecisionBroadcaster;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.security.Principal;
 import java.util.List;
 
 /**
@@ -23,60 +36,131 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CreditApplicationController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final CreateCreditApplicationUseCase createCreditApplicationUseCase;
     private final GetCreditApplicationUseCase getCreditApplicationUseCase;
+    private final IdempotencyService idempotencyService;
+    private final CreditApplicationBatchService creditApplicationBatchService;
+    private final CreditDecisionBroadcaster creditDecisionBroadcaster;
+    private final CreditSimulationService creditSimulationService;
 
     /**
      * Create a new credit application
      *
      * @param request the credit application request
-     * @return 201 Created with the response
+     * @param idempotencyKey optional key; a retry with the same key returns the original response
+     * @return 201 Created with the decided application, or 202 Accepted when the risk central was
+     *         unavailable and the decision is deferred (poll GET /credit-applications/{id})
      */
     @PostMapping
     public ResponseEntity<CreditApplicationResponse> createCreditApplication(
-            @Valid @RequestBody CreateCreditApplicationRequest request) {
+            @Valid @RequestBody CreateCreditApplicationRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Principal principal) {
         
         log.info("Received request to create credit application for affiliate ID: {}", request.affiliateId());
         
-        // Delegate to service
-        CreditApplicationResponse response = ((com.coopcredit.credit_application_service.application.service.CreditApplicationService) 
-                createCreditApplicationUseCase).create(request);
+        // Delegate to service (at most once per Idempotency-Key)
+        CreditApplicationResponse response = idempotencyService.execute(
+                "credit-applications", username(principal), idempotencyKey, request, CreditApplicationResponse.class,
+                () -> ((com.coopcredit.credit_application_service.application.service.CreditApplicationService)
+                        createCreditApplicationUseCase).create(request));
         
         log.info("Credit application created successfully with ID: {}", response.id());
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        boolean deferred = CreditApplication.CreditApplicationStatus.PENDING.getLabel().equals(response.status());
+        return ResponseEntity.status(deferred ? HttpStatus.ACCEPTED : HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Create and decide a batch of credit applications in one call
+     *
+     * @param request the applications to submit
+     * @param idempotencyKey optional key; a retry with the same key returns the original response
+     * @return 200 OK with one result (decided application or error) per submitted application
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<CreditApplicationBatchResponse> createCreditApplicationBatch(
+            @Valid @RequestBody CreateCreditApplicationBatchRequest request,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            Principal principal) {
+
+        log.info("Received batch of {} credit applications", request.applications().size());
+
+        CreditApplicationBatchResponse response = idempotencyService.execute(
+                "credit-applications-batch", username(principal), idempotencyKey, request,
+                CreditApplicationBatchResponse.class,
+                () -> creditApplicationBatchService.create(request));
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Quote every combination of the given amounts and terms for an affiliate, without
+     * creating applications
+     *
+     * @param request the affiliate and the amount/term grid
+     * @return 200 OK with the decision and amortisation of each combination
+     */
+    @PostMapping("/simulate")
+    public ResponseEntity<CreditSimulationResponse> simulateCreditApplications(
+            @Valid @RequestBody SimulateCreditApplicationRequest request) {
+
+        log.debug("Received simulation of {} amounts x {} terms for affiliate ID: {}",
+                request.amounts().size(), request.terms().size(), request.affiliateId());
+
+        return ResponseEntity.ok(creditSimulationService.simulate(request));
     }
 
     /**
      * Get a credit application by ID
      *
      * @param id the credit application ID
-     * @return 200 OK with the credit application
+     * @return 200 OK with the credit application, or 304 Not Modified if the client's ETag is current
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CreditApplicationResponse> getCreditApplication(@PathVariable Long id) {
+    public ResponseEntity<CreditApplicationResponse> getCreditApplication(@PathVariable Long id, WebRequest request) {
         log.debug("Received request to get credit application by ID: {}", id);
-        
-        CreditApplicationResponse response = getCreditApplicationUseCase.getById(id);
-        
-        log.debug("Credit application found with ID: {}", id);
-        return ResponseEntity.ok(response);
+
+        return ConditionalGet.respond(request, getCreditApplicationUseCase.getVersion(id),
+                () -> getCreditApplicationUseCase.getById(id));
     }
 
     /**
      * Get all credit applications for an affiliate by document
      *
      * @param document the affiliate's document identifier
-     * @return 200 OK with list of credit applications
+     * @return 200 OK with list of credit applications, or 304 Not Modified if the client's ETag is current
      */
     @GetMapping("/by-affiliate/{document}")
     public ResponseEntity<List<CreditApplicationResponse>> getCreditApplicationsByAffiliate(
-            @PathVariable String document) {
+            @PathVariable String document, WebRequest request) {
         
         log.debug("Received request to get credit applications for affiliate document: {}", document);
-        
-        List<CreditApplicationResponse> applications = getCreditApplicationUseCase.getAllByAffiliate(document);
-        
-        log.info("Retrieved {} credit applications for affiliate document: {}", applications.size(), document);
-        return ResponseEntity.ok(applications);
+
+        return ConditionalGet.respond(request, getCreditApplicationUseCase.getVersionByAffiliate(document), () -> {
+            List<CreditApplicationResponse> applications = getCreditApplicationUseCase.getAllByAffiliate(document);
+            log.info("Retrieved {} credit applications for affiliate document: {}", applications.size(), document);
+            return applications;
+        });
+    }
+
+    /**
+     * Stream credit decisions as Server-Sent Events ("credit-decision" events), instead of polling
+     *
+     * @param document optional affiliate document; when present only that affiliate's decisions are sent
+     * @return an open event stream
+     */
+    @GetMapping(value = "/decisions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDecisions(@RequestParam(required = false) String document) {
+        log.debug("Opening credit decision stream for affiliate document: {}", document);
+        return creditDecisionBroadcaster.subscribe(document);
+    }
+
+    /**
+     * The authenticated username that scopes Idempotency-Keys, null for anonymous calls
+     */
+    static String username(Principal principal) {
+        return principal != null ? principal.getName() : null;
     }
 }
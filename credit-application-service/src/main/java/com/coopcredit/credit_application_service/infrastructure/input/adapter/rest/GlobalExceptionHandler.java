@@ -1,7 +1,15 @@
 package com.coopcredit.credit_application_service.infrastructure.input.adapter.rest;
 
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
 import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.infrastructure.exception.InvalidCredentialsException;
+import com.coopcredit.credit_application_service.infrastructure.exception.InvalidTokenException;
+import com.coopcredit.credit_application_service.infrastructure.exception.ProblemTypes;
+import com.coopcredit.credit_application_service.infrastructure.exception.ServiceOverloadedException;
+import com.coopcredit.credit_application_service.infrastructure.exception.UsernameAlreadyExistsException;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
@@ -9,21 +17,64 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 import java.net.URI;
 import java.util.stream.Collectors;
 
+/**
+ * Maps exceptions to RFC 7807 problem responses.
+ * Expected rejections (domain errors, bad credentials, invalid tokens, overload) are stackless and
+ * are not logged, so answering them costs no more than a success. Only unexpected errors are
+ * logged with their stack trace, through the asynchronous appender (see logback-spring.xml).
+ */
+@Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<ProblemDetail> handleDomainException(DomainException ex, HttpServletRequest request) {
-        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
-        problem.setType(URI.create("https://example.com/problem/business-error"));
-        problem.setTitle("Business Rule Violation");
-        problem.setDetail(ex.getMessage()); // Spanish message expected in DomainException
+        // Spanish message expected in DomainException
+        return problem(HttpStatus.BAD_REQUEST, ProblemTypes.BUSINESS_ERROR, "Business Rule Violation",
+                ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    public ResponseEntity<ProblemDetail> handleConcurrentUpdate(ConcurrentUpdateException ex, HttpServletRequest request) {
+        ResponseEntity<ProblemDetail> response = problem(HttpStatus.CONFLICT, ProblemTypes.CONCURRENT_UPDATE,
+                "Concurrent Update", ex.getMessage(), request);
+        response.getBody().setProperty("code", ex.getCode());
+        return response;
+    }
+
+    @ExceptionHandler(InvalidTokenException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidToken(InvalidTokenException ex, HttpServletRequest request) {
+        return problem(HttpStatus.UNAUTHORIZED, ProblemTypes.INVALID_TOKEN, "Invalid Token", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(InvalidCredentialsException.class)
+    public ResponseEntity<ProblemDetail> handleInvalidCredentials(InvalidCredentialsException ex,
+            HttpServletRequest request) {
+        return problem(HttpStatus.UNAUTHORIZED, ProblemTypes.INVALID_CREDENTIALS, "Invalid Credentials",
+                ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(UsernameAlreadyExistsException.class)
+    public ResponseEntity<ProblemDetail> handleUsernameAlreadyExists(UsernameAlreadyExistsException ex,
+            HttpServletRequest request) {
+        return problem(HttpStatus.CONFLICT, ProblemTypes.USERNAME_TAKEN, "Username Taken", ex.getMessage(), request);
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ProblemDetail> handleServiceOverloaded(ServiceOverloadedException ex, HttpServletRequest request) {
+        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        problem.setType(ProblemTypes.OVERLOADED);
+        problem.setTitle("Service Overloaded");
+        problem.setDetail(ex.getMessage());
         problem.setInstance(URI.create(request.getRequestURI()));
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(problem);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -39,23 +90,32 @@ public class GlobalExceptionHandler {
                 })
                 .collect(Collectors.joining("; "));
 
-        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
-        problem.setType(URI.create("https://example.com/problem/validation"));
-        problem.setTitle("Validation Failed");
-        problem.setDetail(detail); // in Spanish because validation messages are Spanish
-        problem.setInstance(URI.create(request.getRequestURI()));
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(problem);
+        // in Spanish because validation messages are Spanish
+        return problem(HttpStatus.BAD_REQUEST, ProblemTypes.VALIDATION, "Validation Failed", detail, request);
+    }
+
+    /**
+     * The client of a long-lived response (e.g. the decision stream) went away; there is nobody to answer
+     */
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleAsyncRequestNotUsable(AsyncRequestNotUsableException ex) {
+        // Nothing to write
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ProblemDetail> handleGeneric(Exception ex, HttpServletRequest request) {
-        ProblemDetail problem = ProblemDetail.forStatus(HttpStatus.INTERNAL_SERVER_ERROR);
-        problem.setType(URI.create("https://example.com/problem/internal"));
-        problem.setTitle("Internal Server Error");
-        ex.printStackTrace(); // DEBUG: Print stack trace to stderr
-        problem.setDetail("Error interno en el servidor: " + ex.getMessage()); // OPTIONAL: Include message in response
+        log.error("Unhandled error on {} {}", request.getMethod(), request.getRequestURI(), ex);
+        return problem(HttpStatus.INTERNAL_SERVER_ERROR, ProblemTypes.INTERNAL, "Internal Server Error",
+                "Error interno en el servidor: " + ex.getMessage(), request);
+    }
 
+    private static ResponseEntity<ProblemDetail> problem(HttpStatus status, URI type, String title, String detail,
+                                                         HttpServletRequest request) {
+        ProblemDetail problem = ProblemDetail.forStatus(status);
+        problem.setType(type);
+        problem.setTitle(title);
+        problem.setDetail(detail);
         problem.setInstance(URI.create(request.getRequestURI()));
-        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(problem);
+        return ResponseEntity.status(status).body(problem);
     }
 }
@@ -0,0 +1,66 @@
+package com.coopcredit.credit_application_service.infrastructure.input.adapter.rest;
+
+import com.coopcredit.credit_application_service.application.dto.RescoringJobResponse;
+import com.coopcredit.credit_application_service.application.dto.StartRescoringJobRequest;
+import com.coopcredit.credit_application_service.domain.port.input.ManageRescoringJobsUseCase;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller: RescoringJobController
+ * Starts and follows bulk risk re-scoring jobs (administrators only)
+ */
+@RestController
+@RequestMapping("/admin/rescoring-jobs")
+@RequiredArgsConstructor
+public class RescoringJobController {
+
+    private final ManageRescoringJobsUseCase manageRescoringJobsUseCase;
+
+    /**
+     * Start re-scoring the applications of the given scope in the background
+     *
+     * @return 202 Accepted with the new job, 400 if a job is already running
+     */
+    @PostMapping
+    public ResponseEntity<RescoringJobResponse> start(@Valid @RequestBody StartRescoringJobRequest request) {
+        return ResponseEntity.accepted().body(manageRescoringJobsUseCase.start(request));
+    }
+
+    /**
+     * Progress and throughput of a job
+     *
+     * @return 200 OK with the job
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<RescoringJobResponse> get(@PathVariable Long id) {
+        return ResponseEntity.ok(manageRescoringJobsUseCase.get(id));
+    }
+
+    /**
+     * Stop a job after its current chunk
+     *
+     * @return 202 Accepted with the job
+     */
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<RescoringJobResponse> stop(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(manageRescoringJobsUseCase.stop(id));
+    }
+
+    /**
+     * Resume a job from its checkpoint
+     *
+     * @return 202 Accepted with the job
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<RescoringJobResponse> resume(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(manageRescoringJobsUseCase.resume(id));
+    }
+}
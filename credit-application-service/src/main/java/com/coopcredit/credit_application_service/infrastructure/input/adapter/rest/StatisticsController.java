@@ -0,0 +1,31 @@
+package com.coopcredit.credit_application_service.infrastructure.input.adapter.rest;
+
+import com.coopcredit.credit_application_service.application.dto.PortfolioStatisticsResponse;
+import com.coopcredit.credit_application_service.domain.port.input.GetPortfolioStatisticsUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller: StatisticsController
+ * Exposes live portfolio statistics for management dashboards
+ */
+@RestController
+@RequestMapping("/stats")
+@RequiredArgsConstructor
+public class StatisticsController {
+
+    private final GetPortfolioStatisticsUseCase getPortfolioStatisticsUseCase;
+
+    /**
+     * Get the live portfolio statistics (served from memory, no database access)
+     *
+     * @return 200 OK with the portfolio statistics snapshot
+     */
+    @GetMapping("/portfolio")
+    public ResponseEntity<PortfolioStatisticsResponse> getPortfolioStatistics() {
+        return ResponseEntity.ok(getPortfolioStatisticsUseCase.getPortfolioStatistics());
+    }
+}
@@ -0,0 +1,53 @@
+package com.coopcredit.credit_application_service.infrastructure.json;
+
+import com.coopcredit.credit_application_service.application.dto.AffiliateResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+import static com.coopcredit.credit_application_service.infrastructure.json.JsonCodecSupport.*;
+
+/**
+ * Codec: AffiliateResponseSerializer
+ * Writes AffiliateResponse field by field with pre-encoded property names
+ */
+public class AffiliateResponseSerializer extends ValueSerializer<AffiliateResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DOCUMENT = new SerializedString("document");
+    private static final SerializableString SALARY = new SerializedString("salary");
+    private static final SerializableString REGISTRATION_DATE = new SerializedString("registrationDate");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    @Override
+    public void serialize(AffiliateResponse value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(value, 8);
+        gen.writeName(ID);
+        writeNumber(gen, value.id());
+        gen.writeName(NAME);
+        writeString(gen, value.name());
+        gen.writeName(DOCUMENT);
+        writeString(gen, value.document());
+        gen.writeName(SALARY);
+        writeNumber(gen, value.salary());
+        gen.writeName(REGISTRATION_DATE);
+        writeDate(gen, value.registrationDate());
+        gen.writeName(STATUS);
+        writeString(gen, value.status());
+        gen.writeName(CREATED_AT);
+        writeDateTime(gen, value.createdAt());
+        gen.writeName(UPDATED_AT);
+        writeDateTime(gen, value.updatedAt());
+        gen.writeEndObject();
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return AffiliateResponse.class;
+    }
+}
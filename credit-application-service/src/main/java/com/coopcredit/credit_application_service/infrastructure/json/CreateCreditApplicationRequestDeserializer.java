@@ -0,0 +1,44 @@
+package com.coopcredit.credit_application_service.infrastructure.json;
+
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.ValueDeserializer;
+
+import java.math.BigDecimal;
+
+import static com.coopcredit.credit_application_service.infrastructure.json.JsonCodecSupport.*;
+
+/**
+ * Codec: CreateCreditApplicationRequestDeserializer
+ * Reads the create request straight into the record's constructor. Unknown properties are
+ * skipped and missing ones stay null, so Bean Validation still reports them as before.
+ */
+public class CreateCreditApplicationRequestDeserializer extends ValueDeserializer<CreateCreditApplicationRequest> {
+
+    @Override
+    public CreateCreditApplicationRequest deserialize(JsonParser p, DeserializationContext ctxt) {
+        Long affiliateId = null;
+        BigDecimal amount = null;
+        Integer term = null;
+
+        for (JsonToken token = firstProperty(p, ctxt, CreateCreditApplicationRequest.class);
+             token == JsonToken.PROPERTY_NAME; token = p.nextToken()) {
+            String name = p.currentName();
+            p.nextToken();
+            switch (name) {
+                case "affiliateId" -> affiliateId = readLong(p, ctxt);
+                case "amount" -> amount = readDecimal(p, ctxt);
+                case "term" -> term = readInt(p, ctxt);
+                default -> p.skipChildren();
+            }
+        }
+        return new CreateCreditApplicationRequest(affiliateId, amount, term);
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return CreateCreditApplicationRequest.class;
+    }
+}
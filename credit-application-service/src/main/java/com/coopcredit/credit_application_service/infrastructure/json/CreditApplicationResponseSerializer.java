@@ -0,0 +1,60 @@
+package com.coopcredit.credit_application_service.infrastructure.json;
+
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueSerializer;
+
+import static com.coopcredit.credit_application_service.infrastructure.json.JsonCodecSupport.*;
+
+/**
+ * Codec: CreditApplicationResponseSerializer
+ * Writes CreditApplicationResponse field by field with pre-encoded property names, skipping
+ * the reflective bean serializer on the most frequent response of the API
+ */
+public class CreditApplicationResponseSerializer extends ValueSerializer<CreditApplicationResponse> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString AFFILIATE_ID = new SerializedString("affiliateId");
+    private static final SerializableString AMOUNT = new SerializedString("amount");
+    private static final SerializableString TERM = new SerializedString("term");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString SUBMISSION_DATE = new SerializedString("submissionDate");
+    private static final SerializableString RISK_SCORE = new SerializedString("riskScore");
+    private static final SerializableString RISK_LEVEL = new SerializedString("riskLevel");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    @Override
+    public void serialize(CreditApplicationResponse value, JsonGenerator gen, SerializationContext ctxt) {
+        gen.writeStartObject(value, 10);
+        gen.writeName(ID);
+        writeNumber(gen, value.id());
+        gen.writeName(AFFILIATE_ID);
+        writeNumber(gen, value.affiliateId());
+        gen.writeName(AMOUNT);
+        writeNumber(gen, value.amount());
+        gen.writeName(TERM);
+        writeNumber(gen, value.term());
+        gen.writeName(STATUS);
+        writeString(gen, value.status());
+        gen.writeName(SUBMISSION_DATE);
+        writeDate(gen, value.submissionDate());
+        gen.writeName(RISK_SCORE);
+        writeNumber(gen, value.riskScore());
+        gen.writeName(RISK_LEVEL);
+        writeString(gen, value.riskLevel());
+        gen.writeName(CREATED_AT);
+        writeDateTime(gen, value.createdAt());
+        gen.writeName(UPDATED_AT);
+        writeDateTime(gen, value.updatedAt());
+        gen.writeEndObject();
+    }
+
+    @Override
+    public Class<?> handledType() {
+        return CreditApplicationResponse.class;
+    }
+}
@@ -0,0 +1,21 @@
+package com.coopcredit.credit_application_service.infrastructure.json;
+
+import com.coopcredit.credit_application_service.application.dto.AffiliateResponse;
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
+import tools.jackson.databind.module.SimpleModule;
+
+/**
+ * Jackson module: HotPathJsonModule
+ * Hand-written codecs for the DTOs on every request path. Registered as a bean, Spring Boot adds
+ * it to the application JsonMapper used by MVC, the idempotency store and the decision stream.
+ */
+public class HotPathJsonModule extends SimpleModule {
+
+    public HotPathJsonModule() {
+        super(HotPathJsonModule.class.getSimpleName());
+        addSerializer(CreditApplicationResponse.class, new CreditApplicationResponseSerializer());
+        addSerializer(AffiliateResponse.class, new AffiliateResponseSerializer());
+        addDeserializer(CreateCreditApplicationRequest.class, new CreateCreditApplicationRequestDeserializer());
+    }
+}
@@ -0,0 +1,168 @@
+package com.coopcredit.credit_application_service.infrastructure.json;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Helper: JsonCodecSupport
+ * Value reads and writes shared by the hand-written codecs. Writes produce exactly what the
+ * reflective serializers produce (ISO dates, nulls included). Reads take the native token
+ * directly and hand anything else (quoted numbers, unexpected shapes) to the mapper, so
+ * coercion rules and error messages stay the configured ones.
+ */
+public final class JsonCodecSupport {
+
+    private static final int DATE_LENGTH = 10;
+    private static final int DATE_TIME_MAX_LENGTH = 29;
+
+    private JsonCodecSupport() {
+    }
+
+    public static void writeString(JsonGenerator gen, String value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    public static void writeNumber(JsonGenerator gen, Long value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    public static void writeNumber(JsonGenerator gen, Integer value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    public static void writeNumber(JsonGenerator gen, BigDecimal value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    public static void writeDate(JsonGenerator gen, LocalDate value) {
+        if (value == null) {
+            gen.writeNull();
+        } else if (!isFourDigitYear(value.getYear())) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE.format(value));
+        } else {
+            char[] buffer = new char[DATE_LENGTH];
+            appendDate(buffer, value);
+            gen.writeString(buffer, 0, DATE_LENGTH);
+        }
+    }
+
+    /**
+     * Same text as {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} (seconds always present,
+     * fraction without trailing zeros), written without a formatter or intermediate String
+     */
+    public static void writeDateTime(JsonGenerator gen, LocalDateTime value) {
+        if (value == null) {
+            gen.writeNull();
+        } else if (!isFourDigitYear(value.getYear())) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        } else {
+            char[] buffer = new char[DATE_TIME_MAX_LENGTH];
+            appendDate(buffer, value.toLocalDate());
+            buffer[10] = 'T';
+            appendTwoDigits(buffer, 11, value.getHour());
+            buffer[13] = ':';
+            appendTwoDigits(buffer, 14, value.getMinute());
+            buffer[16] = ':';
+            appendTwoDigits(buffer, 17, value.getSecond());
+            int length = 19;
+            int nano = value.getNano();
+            if (nano > 0) {
+                buffer[length++] = '.';
+                for (int divisor = 100_000_000; nano > 0; divisor /= 10) {
+                    buffer[length++] = (char) ('0' + nano / divisor);
+                    nano %= divisor;
+                }
+            }
+            gen.writeString(buffer, 0, length);
+        }
+    }
+
+    public static String readString(JsonParser p, DeserializationContext ctxt) {
+        return switch (p.currentToken()) {
+            case VALUE_STRING -> p.getString();
+            case VALUE_NULL -> null;
+            default -> ctxt.readValue(p, String.class);
+        };
+    }
+
+    public static Long readLong(JsonParser p, DeserializationContext ctxt) {
+        return switch (p.currentToken()) {
+            case VALUE_NUMBER_INT -> p.getLongValue();
+            case VALUE_NULL -> null;
+            default -> ctxt.readValue(p, Long.class);
+        };
+    }
+
+    public static Integer readInt(JsonParser p, DeserializationContext ctxt) {
+        return switch (p.currentToken()) {
+            case VALUE_NUMBER_INT -> p.getIntValue();
+            case VALUE_NULL -> null;
+            default -> ctxt.readValue(p, Integer.class);
+        };
+    }
+
+    public static BigDecimal readDecimal(JsonParser p, DeserializationContext ctxt) {
+        return switch (p.currentToken()) {
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> p.getDecimalValue();
+            case VALUE_NULL -> null;
+            default -> ctxt.readValue(p, BigDecimal.class);
+        };
+    }
+
+    /**
+     * Positions the parser on the first property of an object and returns its token
+     * (END_OBJECT for an empty one); any other shape is rejected
+     */
+    public static JsonToken firstProperty(JsonParser p, DeserializationContext ctxt, Class<?> type) {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            return p.nextToken();
+        }
+        if (token != JsonToken.PROPERTY_NAME && token != JsonToken.END_OBJECT) {
+            ctxt.reportWrongTokenException(type, JsonToken.START_OBJECT, "Se esperaba un objeto JSON");
+        }
+        return token;
+    }
+
+    private static boolean isFourDigitYear(int year) {
+        return year >= 0 && year <= 9999;
+    }
+
+    private static void appendDate(char[] buffer, LocalDate date) {
+        int year = date.getYear();
+        appendTwoDigits(buffer, 0, year / 100);
+        appendTwoDigits(buffer, 2, year % 100);
+        buffer[4] = '-';
+        appendTwoDigits(buffer, 5, date.getMonthValue());
+        buffer[7] = '-';
+        appendTwoDigits(buffer, 8, date.getDayOfMonth());
+    }
+
+    private static void appendTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
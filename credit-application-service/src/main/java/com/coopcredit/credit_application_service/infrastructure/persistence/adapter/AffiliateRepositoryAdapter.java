@@ -1,12 +1,18 @@
 package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
 
 import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.model.ResourceVersion;
 import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
 import com.coopcredit.credit_application_service.infrastructure.persistence.entity.AffiliateEntity;
 import com.coopcredit.credit_application_service.infrastructure.persistence.repository.AffiliateJpaRepository;
+import com.coopcredit.credit_application_service.infrastructure.persistence.repository.VersionView;
 import com.coopcredit.credit_application_service.application.dto.AffiliateMapper;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -26,8 +32,14 @@ public class AffiliateRepositoryAdapter implements AffiliateRepository {
     @Override
     public Affiliate save(Affiliate affiliate) {
         AffiliateEntity entity = mapper.toEntity(affiliate);
-        AffiliateEntity saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        try {
+            // Flush here so a stale version surfaces as a domain conflict, not at commit time
+            AffiliateEntity saved = jpaRepository.saveAndFlush(entity);
+            return mapper.toDomain(saved);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException(
+                "El afiliado con ID " + affiliate.getId() + " fue modificado por otra operación", e);
+        }
     }
 
     @Override
@@ -51,6 +63,14 @@ public class AffiliateRepositoryAdapter implements AffiliateRepository {
         return jpaRepository.existsById(id);
     }
 
+    @Override
+    public List<Affiliate> findAllById(Collection<Long> ids) {
+        return jpaRepository.findAllById(ids)
+            .stream()
+            .map(mapper::toDomain)
+            .toList();
+    }
+
     @Override
     public Iterable<Affiliate> findAllActive() {
         return jpaRepository.findByStatus("ACTIVE")
@@ -70,4 +90,19 @@ public class AffiliateRepositoryAdapter implements AffiliateRepository {
         if (document == null) return Optional.empty();
         return jpaRepository.findByDocument(document).map(mapper::toDomain);
     }
+
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id).map(AffiliateRepositoryAdapter::toVersion);
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionByDocument(String document) {
+        if (document == null) return Optional.empty();
+        return jpaRepository.findVersionByDocument(document).map(AffiliateRepositoryAdapter::toVersion);
+    }
+
+    private static ResourceVersion toVersion(VersionView view) {
+        return ResourceVersion.of(view.getId(), view.getVersion(), view.getUpdatedAt());
+    }
 }
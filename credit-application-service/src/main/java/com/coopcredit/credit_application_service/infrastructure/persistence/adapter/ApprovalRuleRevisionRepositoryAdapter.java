@@ -0,0 +1,58 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRuleRevision;
+import com.coopcredit.credit_application_service.domain.port.output.ApprovalRuleRevisionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adapter: ApprovalRuleRevisionRepositoryAdapter
+ * Implements the ApprovalRuleRevisionRepository output port with plain JDBC, the rules stored
+ * as JSON written by the application mapper. Revisions are only ever inserted: the primary key
+ * on the revision number arbitrates between nodes replacing the rules at the same time.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApprovalRuleRevisionRepositoryAdapter implements ApprovalRuleRevisionRepository {
+
+    private static final String FIND_LATEST_SQL = "SELECT revision, rules, default_decision, created_at "
+            + "FROM approval_rule_revisions ORDER BY revision DESC LIMIT 1";
+    private static final String INSERT_SQL = "INSERT INTO approval_rule_revisions "
+            + "(revision, rules, default_decision, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+
+    @Override
+    public Optional<ApprovalRuleRevision> findLatest() {
+        return jdbcTemplate.query(FIND_LATEST_SQL, (rs, rowNum) -> new ApprovalRuleRevision(
+                        rs.getLong("revision"),
+                        List.of(jsonMapper.readValue(rs.getString("rules"), ApprovalRule[].class)),
+                        ApprovalRule.Decision.valueOf(rs.getString("default_decision")),
+                        rs.getTimestamp("created_at").toLocalDateTime()))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public boolean saveIfAbsent(ApprovalRuleRevision revision) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, revision.revision(), jsonMapper.writeValueAsString(revision.rules()),
+                    revision.defaultDecision().name(), Timestamp.valueOf(revision.createdAt()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueViolations.isUniqueViolation(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+}
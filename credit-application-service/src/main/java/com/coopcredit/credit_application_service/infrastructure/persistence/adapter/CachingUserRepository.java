@@ -0,0 +1,121 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_service.domain.model.User;
+import com.coopcredit.credit_application_service.domain.port.output.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Adapter: CachingUserRepository
+ * Bounded cache in front of {@link UserRepositoryAdapter}, injected wherever the UserRepository
+ * port is used. Unknown usernames are cached too (with a shorter TTL), so credential-stuffing
+ * traffic with random usernames does not reach the database either; the cache's frequency-based
+ * admission keeps those one-off misses from evicting regular users.
+ * Entries are invalidated on save; the TTLs bound staleness for changes made by other nodes.
+ * Misses are loaded outside Caffeine's compute lock, so a database round trip never pins a
+ * (virtual thread's) carrier or blocks lookups of other usernames. A save bumps the username's
+ * generation before invalidating it, and a load is only cached if the generation is unchanged
+ * since it started, so an invalidation racing a load wins over its stale "not found".
+ * existsByUsername never trusts a cached "not found": registration must not be refused, or
+ * let through, on the strength of a negative entry.
+ */
+@Primary
+@Component
+public class CachingUserRepository implements UserRepository {
+
+    /**
+     * Generations are striped by username hash to stay bounded under random usernames; a save
+     * colliding with another username only costs that username's in-flight load its caching
+     */
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final UserRepositoryAdapter delegate;
+    private final Cache<String, Optional<User>> usersByUsername;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public CachingUserRepository(UserRepositoryAdapter delegate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${users.cache.max-size:10000}") long maxSize,
+                                 @Value("${users.cache.ttl:PT5M}") Duration ttl,
+                                 @Value("${users.cache.negative-ttl:PT30S}") Duration negativeTtl) {
+        this.delegate = delegate;
+        this.usersByUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new PositiveAndNegativeExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByUsername, "users");
+    }
+
+    @Override
+    public Optional<User> findByUsername(String username) {
+        Optional<User> cached = usersByUsername.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+        int stripe = stripe(username);
+        long generation = generations.get(stripe);
+        Optional<User> loaded = delegate.findByUsername(username);
+        // The compute lock is held for the comparison only: a save that bumped the generation
+        // either happened before (nothing is cached) or invalidates after this put
+        usersByUsername.asMap().compute(username, (key, current) ->
+                generations.get(stripe) == generation ? loaded : current);
+        return loaded;
+    }
+
+    @Override
+    public User save(User user) {
+        try {
+            return delegate.save(user);
+        } finally {
+            // Also when the username turned out to be taken: a cached "not found" is wrong then too
+            generations.incrementAndGet(stripe(user.getUsername()));
+            usersByUsername.invalidate(user.getUsername());
+        }
+    }
+
+    @Override
+    public boolean existsByUsername(String username) {
+        Optional<User> cached = usersByUsername.getIfPresent(username);
+        if (cached != null && cached.isPresent()) {
+            return true;
+        }
+        return delegate.existsByUsername(username);
+    }
+
+    private static int stripe(String username) {
+        return Math.floorMod(username.hashCode(), GENERATION_STRIPES);
+    }
+
+    /**
+     * Keeps found users for the regular TTL and unknown usernames for the negative TTL
+     */
+    private record PositiveAndNegativeExpiry(long ttlNanos, long negativeTtlNanos)
+            implements Expiry<String, Optional<User>> {
+
+        @Override
+        public long expireAfterCreate(String key, Optional<User> value, long currentTime) {
+            return value.isPresent() ? ttlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Optional<User> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,13 +2,32 @@ package com.coopcredit.credit_application_service.infrastructure.persistence.ada
 
 import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapper;
 import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.model.ResourceVersion;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
 import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import com.coopcredit.credit_application_service.infrastructure.persistence.converter.CreditApplicationStatusConverter;
 import com.coopcredit.credit_application_service.infrastructure.persistence.entity.CreditApplicationEntity;
 import com.coopcredit.credit_application_service.infrastructure.persistence.repository.CreditApplicationJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -20,14 +39,160 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CreditApplicationRepositoryAdapter implements CreditApplicationRepository {
 
+    private static final String INSERT_SQL = "INSERT INTO credit_applications "
+            + "(affiliate_id, amount, term, status, submission_date, risk_score, risk_level, created_at, updated_at, "
+            + "version, risk_attempts, next_risk_attempt_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String UPDATE_SQL = "UPDATE credit_applications "
+            + "SET status = ?, risk_score = ?, risk_level = ?, updated_at = ?, risk_attempts = ?, "
+            + "next_risk_attempt_at = ?, version = version + 1 "
+            + "WHERE id = ? AND version = ?";
+    private static final String CLAIM_DUE_RISK_RETRIES_SQL = "SELECT id FROM credit_applications "
+            + "WHERE status = ? AND next_risk_attempt_at <= ? "
+            + "ORDER BY next_risk_attempt_at LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String LEASE_RISK_RETRY_SQL = "UPDATE credit_applications "
+            + "SET next_risk_attempt_at = ? WHERE id = ?";
+    private static final CreditApplicationStatusConverter STATUS_CONVERTER = new CreditApplicationStatusConverter();
+
     private final CreditApplicationJpaRepository jpaRepository;
     private final CreditApplicationMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public CreditApplication save(CreditApplication creditApplication) {
         CreditApplicationEntity entity = mapper.toEntity(creditApplication);
-        CreditApplicationEntity saved = jpaRepository.save(entity);
-        return mapper.toDomain(saved);
+        try {
+            // Flush here so a stale version surfaces as a domain conflict, not at commit time
+            CreditApplicationEntity saved = jpaRepository.saveAndFlush(entity);
+            return mapper.toDomain(saved);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException(
+                    "La solicitud de crédito con ID " + creditApplication.getId() + " fue modificada por otra operación", e);
+        }
+    }
+
+    /**
+     * One JDBC batch instead of one INSERT round trip per application: Hibernate cannot
+     * batch inserts of IDENTITY-generated entities, so this path bypasses it.
+     */
+    @Override
+    @Transactional
+    public List<CreditApplication> saveAll(List<CreditApplication> creditApplications) {
+        if (creditApplications.isEmpty()) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        CreditApplication app = creditApplications.get(i);
+                        ps.setLong(1, app.getAffiliateId());
+                        ps.setBigDecimal(2, app.getAmount().toBigDecimal());
+                        ps.setInt(3, app.getTerm());
+                        ps.setString(4, STATUS_CONVERTER.convertToDatabaseColumn(app.getStatus()));
+                        ps.setDate(5, Date.valueOf(app.getSubmissionDate()));
+                        if (app.isEvaluated()) {
+                            ps.setInt(6, app.getRiskScore());
+                        } else {
+                            ps.setNull(6, Types.INTEGER);
+                        }
+                        ps.setString(7, RiskLevel.labelOf(app.getRiskLevel()));
+                        ps.setTimestamp(8, Timestamp.valueOf(app.getCreatedAt()));
+                        ps.setTimestamp(9, Timestamp.valueOf(app.getUpdatedAt()));
+                        ps.setInt(10, app.getRiskAttempts());
+                        ps.setTimestamp(11, timestampOrNull(app.getNextRiskAttemptAt()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return creditApplications.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        List<CreditApplication> saved = new ArrayList<>(creditApplications.size());
+        for (int i = 0; i < creditApplications.size(); i++) {
+            CreditApplication app = creditApplications.get(i);
+            Long id = ((Number) keys.get(i).values().iterator().next()).longValue();
+            saved.add(CreditApplication.reconstruct(id, app.getAffiliateId(), app.getAmount(), app.getTerm(),
+                    app.getStatus(), app.getSubmissionDate(), app.isEvaluated() ? app.getRiskScore() : null,
+                    app.getRiskLevel(), app.getCreatedAt(), app.getUpdatedAt(), 0L,
+                    app.getRiskAttempts(), app.getNextRiskAttemptAt()));
+        }
+        return saved;
+    }
+
+    /**
+     * One JDBC batch of version-checked UPDATEs; a row changed since it was read matches no
+     * row and is left out of the result instead of failing the whole batch.
+     */
+    @Override
+    @Transactional
+    public List<CreditApplication> updateAll(List<CreditApplication> creditApplications) {
+        if (creditApplications.isEmpty()) {
+            return List.of();
+        }
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                CreditApplication app = creditApplications.get(i);
+                ps.setString(1, STATUS_CONVERTER.convertToDatabaseColumn(app.getStatus()));
+                if (app.isEvaluated()) {
+                    ps.setInt(2, app.getRiskScore());
+                } else {
+                    ps.setNull(2, Types.INTEGER);
+                }
+                ps.setString(3, RiskLevel.labelOf(app.getRiskLevel()));
+                ps.setTimestamp(4, Timestamp.valueOf(app.getUpdatedAt()));
+                ps.setInt(5, app.getRiskAttempts());
+                ps.setTimestamp(6, timestampOrNull(app.getNextRiskAttemptAt()));
+                ps.setLong(7, app.getId());
+                ps.setLong(8, app.getVersion());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return creditApplications.size();
+            }
+        });
+
+        List<CreditApplication> updated = new ArrayList<>(creditApplications.size());
+        for (int i = 0; i < creditApplications.size(); i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            CreditApplication app = creditApplications.get(i);
+            updated.add(CreditApplication.reconstruct(app.getId(), app.getAffiliateId(), app.getAmount(),
+                    app.getTerm(), app.getStatus(), app.getSubmissionDate(),
+                    app.isEvaluated() ? app.getRiskScore() : null, app.getRiskLevel(),
+                    app.getCreatedAt(), app.getUpdatedAt(), app.getVersion() + 1,
+                    app.getRiskAttempts(), app.getNextRiskAttemptAt()));
+        }
+        return updated;
+    }
+
+    /**
+     * Due rows are locked with SKIP LOCKED, so nodes polling at the same time claim disjoint
+     * sets instead of queueing on each other's locks. The lease is written without a version
+     * bump: it is bookkeeping of the queue, not a change clients should see as a conflict.
+     */
+    @Override
+    @Transactional
+    public List<Long> claimDueRiskRetries(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<Long> ids = jdbcTemplate.queryForList(CLAIM_DUE_RISK_RETRIES_SQL, Long.class,
+                STATUS_CONVERTER.convertToDatabaseColumn(CreditApplication.CreditApplicationStatus.PENDING),
+                Timestamp.valueOf(now), limit);
+        if (!ids.isEmpty()) {
+            Timestamp lease = Timestamp.valueOf(leaseUntil);
+            jdbcTemplate.batchUpdate(LEASE_RISK_RETRY_SQL, ids, ids.size(), (ps, id) -> {
+                ps.setTimestamp(1, lease);
+                ps.setLong(2, id);
+            });
+        }
+        return ids;
     }
 
     @Override
@@ -36,6 +201,19 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                 .map(mapper::toDomain);
     }
 
+    @Override
+    public Optional<ResourceVersion> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id)
+                .map(view -> ResourceVersion.of(view.getId(), view.getVersion(), view.getUpdatedAt()));
+    }
+
+    @Override
+    public Optional<ResourceVersion> findVersionByAffiliateDocument(String affiliateDocument) {
+        return jpaRepository.findVersionByAffiliateDocument(affiliateDocument)
+                .map(view -> ResourceVersion.ofCollection(view.getAffiliateId(), view.getCount(),
+                        view.getVersionSum(), view.getMaxId(), view.getLastUpdatedAt()));
+    }
+
     @Override
     public List<CreditApplication> findAllByAffiliateId(Long affiliateId) {
         return jpaRepository.findAllByAffiliateId(affiliateId).stream()
@@ -43,6 +221,25 @@ public class CreditApplicationRepositoryAdapter implements CreditApplicationRepo
                 .toList();
     }
 
+    @Override
+    public List<CreditApplication> findChunkAfter(Long afterId, int limit) {
+        return jpaRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<CreditApplication> findChunkAfter(Long afterId, CreditApplication.CreditApplicationStatus status,
+                                                  int limit) {
+        return jpaRepository.findByIdGreaterThanAndStatusOrderByIdAsc(afterId, status, Limit.of(limit)).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    private static Timestamp timestampOrNull(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
     @Override
     public boolean existsById(Long id) {
         return jpaRepository.existsById(id);
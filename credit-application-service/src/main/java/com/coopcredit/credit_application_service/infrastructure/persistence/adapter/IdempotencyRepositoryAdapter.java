@@ -0,0 +1,90 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_service.domain.model.IdempotencyRecord;
+import com.coopcredit.credit_application_service.domain.port.output.IdempotencyRepository;
+import com.coopcredit.credit_application_service.infrastructure.persistence.entity.IdempotencyKeyEntity;
+import com.coopcredit.credit_application_service.infrastructure.persistence.repository.IdempotencyKeyJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Adapter: IdempotencyRepositoryAdapter
+ * Implements the IdempotencyRepository output port using Spring Data JPA.
+ * The unique (scope, idempotency_key) constraint arbitrates between nodes.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdempotencyRepositoryAdapter implements IdempotencyRepository {
+
+    private final IdempotencyKeyJpaRepository jpaRepository;
+
+    @Override
+    public Optional<IdempotencyRecord> find(String scope, String key) {
+        return jpaRepository.findByScopeAndIdempotencyKey(scope, key)
+                .map(this::entityToDomain);
+    }
+
+    @Override
+    public boolean saveIfAbsent(IdempotencyRecord record) {
+        // An expired record (an abandoned claim or an old outcome) no longer holds the key
+        jpaRepository.deleteExpired(record.scope(), record.key(), record.createdAt());
+        try {
+            jpaRepository.saveAndFlush(domainToEntity(record));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Only a lost race for the key means "already claimed"; anything else (a value too
+            // long, a missing column) must fail the request rather than let a retry run it again
+            if (UniqueViolations.isUniqueViolation(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void complete(IdempotencyRecord record) {
+        jpaRepository.complete(record.scope(), record.key(), record.responseBody(), record.expiresAt());
+    }
+
+    @Override
+    public void release(String scope, String key) {
+        jpaRepository.deleteInProgress(scope, key);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return jpaRepository.deleteExpired(now);
+    }
+
+    /**
+     * Convert JPA entity to domain model
+     */
+    private IdempotencyRecord entityToDomain(IdempotencyKeyEntity entity) {
+        return new IdempotencyRecord(
+                entity.getScope(),
+                entity.getIdempotencyKey(),
+                entity.getRequestHash(),
+                entity.getResponseBody(),
+                entity.getCreatedAt(),
+                entity.getExpiresAt()
+        );
+    }
+
+    /**
+     * Convert domain model to JPA entity
+     */
+    private IdempotencyKeyEntity domainToEntity(IdempotencyRecord record) {
+        return IdempotencyKeyEntity.builder()
+                .scope(record.scope())
+                .idempotencyKey(record.key())
+                .requestHash(record.requestHash())
+                .responseBody(record.responseBody())
+                .createdAt(record.createdAt())
+                .expiresAt(record.expiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_service.domain.model.RefreshToken;
+import com.coopcredit.credit_application_service.domain.port.output.RefreshTokenRepository;
+import com.coopcredit.credit_application_service.infrastructure.persistence.entity.RefreshTokenEntity;
+import com.coopcredit.credit_application_service.infrastructure.persistence.repository.RefreshTokenJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Adapter: RefreshTokenRepositoryAdapter
+ * Implements the RefreshTokenRepository output port using Spring Data JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenRepositoryAdapter implements RefreshTokenRepository {
+
+    private final RefreshTokenJpaRepository jpaRepository;
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        jpaRepository.save(domainToEntity(refreshToken));
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return jpaRepository.findByTokenHash(tokenHash)
+                .map(this::entityToDomain);
+    }
+
+    @Override
+    public boolean revoke(String tokenHash) {
+        return jpaRepository.revoke(tokenHash) == 1;
+    }
+
+    @Override
+    public int revokeFamily(String familyId) {
+        return jpaRepository.revokeFamily(familyId);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return jpaRepository.deleteExpired(now);
+    }
+
+    /**
+     * Convert JPA entity to domain model
+     */
+    private RefreshToken entityToDomain(RefreshTokenEntity entity) {
+        return new RefreshToken(
+                entity.getTokenHash(),
+                entity.getUsername(),
+                entity.getRole(),
+                entity.getFamilyId(),
+                entity.isRevoked(),
+                entity.getCreatedAt(),
+                entity.getExpiresAt()
+        );
+    }
+
+    /**
+     * Convert domain model to JPA entity
+     */
+    private RefreshTokenEntity domainToEntity(RefreshToken refreshToken) {
+        return RefreshTokenEntity.builder()
+                .tokenHash(refreshToken.tokenHash())
+                .username(refreshToken.username())
+                .role(refreshToken.role())
+                .familyId(refreshToken.familyId())
+                .revoked(refreshToken.revoked())
+                .createdAt(refreshToken.createdAt())
+                .expiresAt(refreshToken.expiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,90 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.model.RescoringJob;
+import com.coopcredit.credit_application_service.domain.port.output.RescoringJobRepository;
+import com.coopcredit.credit_application_service.infrastructure.persistence.entity.RescoringJobEntity;
+import com.coopcredit.credit_application_service.infrastructure.persistence.repository.RescoringJobJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Adapter: RescoringJobRepositoryAdapter
+ * Implements the RescoringJobRepository output port using Spring Data JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class RescoringJobRepositoryAdapter implements RescoringJobRepository {
+
+    private final RescoringJobJpaRepository jpaRepository;
+
+    @Override
+    public RescoringJob save(RescoringJob job) {
+        try {
+            // Flush here so a stale version surfaces as a domain conflict, not at commit time
+            return entityToDomain(jpaRepository.saveAndFlush(domainToEntity(job)));
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException(
+                    "El trabajo de re-evaluación " + job.id() + " fue modificado por otra operación", e);
+        }
+    }
+
+    @Override
+    public Optional<RescoringJob> findById(Long id) {
+        return jpaRepository.findById(id)
+                .map(this::entityToDomain);
+    }
+
+    /**
+     * Convert JPA entity to domain model
+     */
+    private RescoringJob entityToDomain(RescoringJobEntity entity) {
+        return new RescoringJob(
+                entity.getId(),
+                entity.getScope(),
+                entity.getStatus(),
+                entity.getCheckpoint(),
+                entity.getProcessed(),
+                entity.getDecided(),
+                entity.getRefreshed(),
+                entity.getFailed(),
+                entity.getSkipped(),
+                entity.getActiveMillis(),
+                entity.getError(),
+                entity.getStartedAt(),
+                entity.getUpdatedAt(),
+                entity.getFinishedAt(),
+                entity.getOwner(),
+                entity.getHeartbeatAt(),
+                entity.getVersion()
+        );
+    }
+
+    /**
+     * Convert domain model to JPA entity
+     */
+    private RescoringJobEntity domainToEntity(RescoringJob job) {
+        return RescoringJobEntity.builder()
+                .id(job.id())
+                .scope(job.scope())
+                .status(job.status())
+                .checkpoint(job.checkpoint())
+                .processed(job.processed())
+                .decided(job.decided())
+                .refreshed(job.refreshed())
+                .failed(job.failed())
+                .skipped(job.skipped())
+                .activeMillis(job.activeMillis())
+                .error(job.error())
+                .startedAt(job.startedAt())
+                .updatedAt(job.updatedAt())
+                .finishedAt(job.finishedAt())
+                .owner(job.owner())
+                .heartbeatAt(job.heartbeatAt())
+                .version(job.version())
+                .build();
+    }
+}
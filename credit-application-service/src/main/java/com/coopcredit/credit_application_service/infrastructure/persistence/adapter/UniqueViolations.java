@@ -0,0 +1,33 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.sql.SQLException;
+
+/**
+ * Tells unique-key violations apart from the other integrity errors Spring reports as
+ * DataIntegrityViolationException (value too long, not-null, foreign key...), which adapters
+ * must not mistake for "the row already exists".
+ */
+final class UniqueViolations {
+
+    /** SQLSTATE of a unique violation on PostgreSQL and H2 */
+    private static final String UNIQUE_VIOLATION = "23505";
+
+    private UniqueViolations() {
+    }
+
+    static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        if (e instanceof DuplicateKeyException) {
+            return true;
+        }
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException
+                    && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
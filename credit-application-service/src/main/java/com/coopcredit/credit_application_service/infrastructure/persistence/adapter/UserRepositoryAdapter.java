@@ -2,9 +2,11 @@ package com.coopcredit.credit_application_service.infrastructure.persistence.ada
 
 import com.coopcredit.credit_application_service.domain.model.User;
 import com.coopcredit.credit_application_service.domain.port.output.UserRepository;
+import com.coopcredit.credit_application_service.infrastructure.exception.UsernameAlreadyExistsException;
 import com.coopcredit.credit_application_service.infrastructure.persistence.entity.UserEntity;
 import com.coopcredit.credit_application_service.infrastructure.persistence.repository.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -25,11 +27,22 @@ public class UserRepositoryAdapter implements UserRepository {
                 .map(this::entityToDomain);
     }
 
+    /**
+     * Flushes immediately so that a registration racing another one for the same username
+     * fails here, on the unique constraint, rather than at some later commit
+     */
     @Override
     public User save(User user) {
         UserEntity entity = domainToEntity(user);
-        UserEntity savedEntity = userJpaRepository.save(entity);
-        return entityToDomain(savedEntity);
+        try {
+            UserEntity savedEntity = userJpaRepository.saveAndFlush(entity);
+            return entityToDomain(savedEntity);
+        } catch (DataIntegrityViolationException e) {
+            if (UniqueViolations.isUniqueViolation(e)) {
+                throw new UsernameAlreadyExistsException(user.getUsername());
+            }
+            throw e;
+        }
     }
 
     @Override
@@ -59,4 +59,14 @@ public class CreditApplicationEntity {
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Column(name = "risk_attempts", nullable = false)
+    private Integer riskAttempts;
+
+    @Column(name = "next_risk_attempt_at")
+    private LocalDateTime nextRiskAttemptAt;
 }
@@ -0,0 +1,78 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.entity;
+
+import com.coopcredit.credit_application_service.domain.model.RescoringJob;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity: RescoringJobEntity
+ * Maps the progress of a re-scoring job to the rescoring_jobs table
+ */
+@Entity
+@Table(name = "rescoring_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RescoringJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope", nullable = false, length = 20)
+    private RescoringJob.Scope scope;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private RescoringJob.Status status;
+
+    @Column(name = "checkpoint", nullable = false)
+    private long checkpoint;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @Column(name = "decided", nullable = false)
+    private long decided;
+
+    @Column(name = "refreshed", nullable = false)
+    private long refreshed;
+
+    @Column(name = "failed", nullable = false)
+    private long failed;
+
+    @Column(name = "skipped", nullable = false)
+    private long skipped;
+
+    @Column(name = "active_millis", nullable = false)
+    private long activeMillis;
+
+    @Column(name = "error", length = 500)
+    private String error;
+
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "owner", length = 100)
+    private String owner;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+}
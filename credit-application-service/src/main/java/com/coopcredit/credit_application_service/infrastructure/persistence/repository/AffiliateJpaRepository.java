@@ -17,4 +17,7 @@ public interface AffiliateJpaRepository extends JpaRepository<AffiliateEntity, L
     Optional<AffiliateEntity> findByName(String name);
     Optional<AffiliateEntity> findByDocument(String document);
 
+    Optional<VersionView> findVersionById(Long id);
+    Optional<VersionView> findVersionByDocument(String document);
+
 }
@@ -1,10 +1,16 @@
 package com.coopcredit.credit_application_service.infrastructure.persistence.repository;
 
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
 import com.coopcredit.credit_application_service.infrastructure.persistence.entity.CreditApplicationEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data JPA Repository for CreditApplicationEntity
@@ -16,4 +22,46 @@ public interface CreditApplicationJpaRepository extends JpaRepository<CreditAppl
      * Find all credit applications for a specific affiliate
      */
     List<CreditApplicationEntity> findAllByAffiliateId(Long affiliateId);
+
+    /**
+     * Find the next chunk of credit applications after the given ID, ordered by ID
+     */
+    List<CreditApplicationEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Find the next chunk of credit applications in the given status after the given ID, ordered by ID
+     */
+    List<CreditApplicationEntity> findByIdGreaterThanAndStatusOrderByIdAsc(
+            Long id, CreditApplication.CreditApplicationStatus status, Limit limit);
+
+    /**
+     * Read the version columns of a credit application without loading it
+     */
+    Optional<VersionView> findVersionById(Long id);
+
+    /**
+     * Aggregate the versions of all credit applications of the affiliate with the given document.
+     * Empty when the affiliate does not exist; count 0 when it has no applications.
+     */
+    @Query("select a.id as affiliateId, count(c.id) as count, coalesce(sum(c.version), 0) as versionSum, "
+            + "max(c.id) as maxId, max(c.updatedAt) as lastUpdatedAt "
+            + "from AffiliateEntity a left join CreditApplicationEntity c on c.affiliateId = a.id "
+            + "where a.document = :document group by a.id")
+    Optional<AffiliateApplicationsVersionView> findVersionByAffiliateDocument(@Param("document") String document);
+
+    /**
+     * Projection of the aggregated versions of an affiliate's credit applications
+     */
+    interface AffiliateApplicationsVersionView {
+
+        Long getAffiliateId();
+
+        Long getCount();
+
+        Long getVersionSum();
+
+        Long getMaxId();
+
+        LocalDateTime getLastUpdatedAt();
+    }
 }
@@ -0,0 +1,59 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.repository;
+
+import com.coopcredit.credit_application_service.infrastructure.persistence.entity.IdempotencyKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA Repository for IdempotencyKeyEntity
+ */
+@Repository
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyEntity, Long> {
+
+    /**
+     * Find a stored outcome by scope and key
+     */
+    Optional<IdempotencyKeyEntity> findByScopeAndIdempotencyKey(String scope, String idempotencyKey);
+
+    /**
+     * Delete the record of a key if it expired before the given instant
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyKeyEntity e where e.scope = :scope and e.idempotencyKey = :key and e.expiresAt <= :now")
+    int deleteExpired(@Param("scope") String scope, @Param("key") String key, @Param("now") LocalDateTime now);
+
+    /**
+     * Write the response of an in-progress claim
+     */
+    @Modifying
+    @Transactional
+    @Query("update IdempotencyKeyEntity e set e.responseBody = :responseBody, e.expiresAt = :expiresAt "
+            + "where e.scope = :scope and e.idempotencyKey = :key and e.responseBody is null")
+    int complete(@Param("scope") String scope, @Param("key") String key,
+                 @Param("responseBody") String responseBody, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Delete an in-progress claim
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyKeyEntity e where e.scope = :scope and e.idempotencyKey = :key "
+            + "and e.responseBody is null")
+    int deleteInProgress(@Param("scope") String scope, @Param("key") String key);
+
+    /**
+     * Delete every outcome that expired before the given instant
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from IdempotencyKeyEntity e where e.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,48 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.repository;
+
+import com.coopcredit.credit_application_service.infrastructure.persistence.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Spring Data JPA Repository for RefreshTokenEntity
+ */
+@Repository
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    /**
+     * Find a refresh token by the hash of its value
+     */
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    /**
+     * Revoke a refresh token; the revoked = false guard makes concurrent rotations race-free
+     */
+    @Modifying
+    @Transactional
+    @Query("update RefreshTokenEntity e set e.revoked = true where e.tokenHash = :tokenHash and e.revoked = false")
+    int revoke(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Revoke every token of a family
+     */
+    @Modifying
+    @Transactional
+    @Query("update RefreshTokenEntity e set e.revoked = true where e.familyId = :familyId and e.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * Delete every token that expired before the given instant
+     */
+    @Modifying
+    @Transactional
+    @Query("delete from RefreshTokenEntity e where e.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,12 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.repository;
+
+import com.coopcredit.credit_application_service.infrastructure.persistence.entity.RescoringJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Spring Data JPA Repository for RescoringJobEntity
+ */
+@Repository
+public interface RescoringJobJpaRepository extends JpaRepository<RescoringJobEntity, Long> {
+}
@@ -0,0 +1,15 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of the columns that identify a row's version, for conditional GETs
+ */
+public interface VersionView {
+
+    Long getId();
+
+    Long getVersion();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,43 @@
+package com.coopcredit.credit_application_service.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * Writes ProblemDetail responses from servlet filters, which run before the
+ * GlobalExceptionHandler can be reached
+ */
+@Component
+@RequiredArgsConstructor
+public class ProblemResponseWriter {
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * Write a ProblemDetail response carrying a Retry-After header
+     */
+    public void writeRetryLater(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                                URI type, String title, String detail, long retryAfterSeconds) throws IOException {
+        ProblemDetail problem = ProblemDetail.forStatus(status);
+        problem.setType(type);
+        problem.setTitle(title);
+        problem.setDetail(detail);
+        problem.setInstance(URI.create(request.getRequestURI()));
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(jsonMapper.writeValueAsString(problem));
+    }
+}
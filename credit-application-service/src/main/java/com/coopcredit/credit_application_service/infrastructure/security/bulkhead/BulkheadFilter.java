@@ -0,0 +1,93 @@
+package com.coopcredit.credit_application_service.infrastructure.security.bulkhead;
+
+import com.coopcredit.credit_application_service.infrastructure.exception.ProblemTypes;
+import com.coopcredit.credit_application_service.infrastructure.security.ProblemResponseWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Filter: BulkheadFilter
+ * Classifies each request by the role in its JWT and runs it inside that role's lane,
+ * so an affiliate-side flood cannot take the request threads analysts and admins need.
+ * Runs after the rate limiter; a request that finds its lane and queue full gets 503.
+ */
+@Slf4j
+@Component
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    static final String ANONYMOUS_LANE = "ANONYMOUS";
+
+    private final BulkheadProperties properties;
+    private final ProblemResponseWriter problemResponseWriter;
+    private final Map<String, BulkheadLane> lanes = new HashMap<>();
+
+    public BulkheadFilter(BulkheadProperties properties, MeterRegistry meterRegistry,
+                          ProblemResponseWriter problemResponseWriter) {
+        this.properties = properties;
+        this.problemResponseWriter = problemResponseWriter;
+        properties.lanes().forEach((name, limits) -> lanes.put(name, new BulkheadLane(name, limits, meterRegistry)));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String laneName = classify(SecurityContextHolder.getContext().getAuthentication());
+        BulkheadLane lane = lanes.get(laneName);
+        if (lane == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean entered;
+        try {
+            entered = lane.tryEnter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            entered = false;
+        }
+        if (!entered) {
+            log.debug("Bulkhead lane {} is full", laneName);
+            problemResponseWriter.writeRetryLater(request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                    ProblemTypes.OVERLOADED,
+                    "Service Overloaded",
+                    "El servicio está saturado, intente nuevamente en unos segundos",
+                    1);
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            lane.release();
+        }
+    }
+
+    private static String classify(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated() || authentication.getAuthorities() == null) {
+            return ANONYMOUS_LANE;
+        }
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse(ANONYMOUS_LANE);
+    }
+}
@@ -0,0 +1,82 @@
+package com.coopcredit.credit_application_service.infrastructure.security.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One bulkhead lane: a semaphore bounding concurrent requests plus a bounded wait queue.
+ * A lane can therefore hold at most maxConcurrent + maxQueued request threads, whatever
+ * the load on it, which leaves the rest of the server pool to the other lanes.
+ */
+final class BulkheadLane {
+
+    private final BulkheadProperties.Lane limits;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter rejections;
+    private final Timer waitTimer;
+
+    BulkheadLane(String name, BulkheadProperties.Lane limits, MeterRegistry meterRegistry) {
+        this.limits = limits;
+        this.permits = new Semaphore(limits.maxConcurrent());
+
+        Gauge.builder("bulkhead.active", permits, p -> limits.maxConcurrent() - p.availablePermits())
+                .description("Requests currently running in the lane")
+                .tag("lane", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.queued", queued, AtomicInteger::get)
+                .description("Requests waiting for a slot in the lane")
+                .tag("lane", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.saturation", permits,
+                        p -> (double) (limits.maxConcurrent() - p.availablePermits()) / limits.maxConcurrent())
+                .description("Fraction of the lane's concurrency in use")
+                .tag("lane", name)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("bulkhead.rejected")
+                .description("Requests rejected because the lane and its queue were full")
+                .tag("lane", name)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("bulkhead.wait")
+                .description("Time queued requests waited for a slot")
+                .tag("lane", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take a slot in the lane, waiting up to maxWait if the queue has room
+     *
+     * @return true if a slot was taken and must be released with {@link #release()}
+     */
+    boolean tryEnter() throws InterruptedException {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > limits.maxQueued()) {
+            queued.decrementAndGet();
+            rejections.increment();
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            boolean acquired = permits.tryAcquire(limits.maxWait().toNanos(), TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                rejections.increment();
+            }
+            return acquired;
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void release() {
+        permits.release();
+    }
+}
@@ -0,0 +1,43 @@
+package com.coopcredit.credit_application_service.infrastructure.security.bulkhead;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration: BulkheadProperties
+ * Execution lanes keyed by role name (ROLE_AFILIADO, ROLE_ANALISTA, ROLE_ADMIN) plus ANONYMOUS.
+ * Requests of a role without a configured lane are not limited.
+ *
+ * @param enabled whether the bulkheads are active
+ * @param lanes lane limits keyed by role name
+ */
+@ConfigurationProperties(prefix = "bulkhead")
+public record BulkheadProperties(
+        @DefaultValue("true") boolean enabled,
+        Map<String, Lane> lanes
+) {
+
+    public BulkheadProperties {
+        lanes = lanes == null ? Map.of() : Map.copyOf(lanes);
+    }
+
+    /**
+     * Lane limits
+     *
+     * @param maxConcurrent requests of the lane allowed to run at the same time
+     * @param maxQueued requests allowed to wait for a slot; beyond that they are rejected at once
+     * @param maxWait how long a queued request waits for a slot before being rejected
+     */
+    public record Lane(int maxConcurrent, int maxQueued, Duration maxWait) {
+
+        public Lane {
+            if (maxConcurrent < 1 || maxQueued < 0) {
+                throw new IllegalArgumentException("Bulkhead concurrency must be positive and queue non-negative");
+            }
+            maxWait = maxWait == null ? Duration.ofMillis(500) : maxWait;
+        }
+    }
+}
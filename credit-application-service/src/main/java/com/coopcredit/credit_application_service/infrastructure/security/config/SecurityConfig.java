@@ -1,7 +1,14 @@
 package com.coopcredit.credit_application_service.infrastructure.security.config;
 
+import com.coopcredit.credit_application_service.infrastructure.security.bulkhead.BulkheadFilter;
+import com.coopcredit.credit_application_service.infrastructure.security.bulkhead.BulkheadProperties;
 import com.coopcredit.credit_application_service.infrastructure.security.jwt.JwtAuthenticationFilter;
+import com.coopcredit.credit_application_service.infrastructure.security.ratelimit.RateLimitFilter;
+import com.coopcredit.credit_application_service.infrastructure.security.ratelimit.RateLimitProperties;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,10 +28,13 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({RateLimitProperties.class, BulkheadProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final BulkheadFilter bulkheadFilter;
 
     /**
      * Configure HTTP security with JWT filter and public/protected endpoints
@@ -49,6 +59,9 @@ public class SecurityConfig {
                                 "/configuration/security")
                         .permitAll()
 
+                        // Async re-dispatches of an already authorized request (e.g. a closing decision stream)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Allow preflight requests
                         .requestMatchers(HttpMethod.OPTIONS).permitAll()
 
@@ -62,20 +75,27 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/affiliates/**").authenticated()
                         .requestMatchers(HttpMethod.POST, "/credit-applications/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/credit-applications/**").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/stats/**").hasAnyRole("ADMIN", "ANALISTA")
+                        .requestMatchers("/admin/**").hasRole("ADMIN")
 
                         // All other requests require authentication
                         .anyRequest().authenticated())
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // Rate limiting needs the authenticated principal, so it runs right after the JWT filter
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                // Requests that passed the rate limiter then run inside their role's lane
+                .addFilterAfter(bulkheadFilter, RateLimitFilter.class);
 
         return http.build();
     }
 
     /**
-     * Password encoder bean using BCrypt
+     * Password encoder bean using BCrypt.
+     * Existing hashes keep verifying after a strength change, since the cost is stored in each hash.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -35,18 +35,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = extractToken(request);
 
-            if (token != null && jwtService.validateToken(token)) {
-                String username = jwtService.extractUsername(token);
-                String role = jwtService.extractRole(token);
-
-                // Create authentication token with user and role
-                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        username,
-                        null,
-                        Collections.singletonList(new SimpleGrantedAuthority(role))
-                );
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("JWT authentication successful for user: {}", username);
+            if (token != null) {
+                // Single parse (or cache hit) yields both the username and the role
+                jwtService.verify(token).ifPresent(verified -> {
+                    // Create authentication token with user and role
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                            verified.username(),
+                            null,
+                            Collections.singletonList(new SimpleGrantedAuthority(verified.role()))
+                    );
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("JWT authentication successful for user: {}", verified.username());
+                });
             }
         } catch (Exception e) {
             log.error("Could not set user authentication in security context: {}", e.getMessage());
@@ -1,32 +1,60 @@
 package com.coopcredit.credit_application_service.infrastructure.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.DecodingException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Service: JwtService
- * Handles JWT token generation, validation, and claim extraction
+ * Handles JWT token generation and verification.
+ * The signing key and the parser are built once and shared (both are immutable and thread-safe).
+ * Verified tokens are cached by SHA-256 hash until their own expiration, so a client reusing
+ * its token pays one hash and one map lookup instead of a signature check and a JSON parse.
  */
 @Service
 @Slf4j
 public class JwtService {
 
-    @Value("${jwt.secret:your-secret-key-change-this-in-production-minimum-256-bits}")
-    private String secretKey;
+    private final long jwtExpirationMs;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
 
-    @Value("${jwt.expiration:3600000}")
-    private long jwtExpirationMs;
+    public JwtService(@Value("${jwt.secret:your-secret-key-change-this-in-production-minimum-256-bits}") String secretKey,
+                      @Value("${jwt.expiration:900000}") long jwtExpirationMs,
+                      @Value("${jwt.cache.max-size:10000}") long cacheMaxSize) {
+        this.jwtExpirationMs = jwtExpirationMs;
+        this.signingKey = Keys.hmacShaKeyFor(decodeSecret(secretKey));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
 
     /**
      * Generate a JWT token for the given username and role
@@ -38,32 +66,32 @@ public class JwtService {
     }
 
     /**
-     * Extract username from JWT token
-     */
-    public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
-    }
-
-    /**
-     * Extract role from JWT token
+     * Verify a JWT token and extract its principal with a single parse.
+     * Recently verified tokens are answered from the cache until they expire.
+     *
+     * @param token the compact JWT
+     * @return the verified principal, or empty if the token is invalid or expired
      */
-    public String extractRole(String token) {
-        return (String) extractAllClaims(token).get("role");
-    }
+    public Optional<VerifiedToken> verify(String token) {
+        ByteBuffer key = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return Optional.of(cached);
+        }
 
-    /**
-     * Validate JWT token
-     */
-    public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Date expiration = claims.getExpiration();
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    expiration != null ? expiration.toInstant() : Instant.now().plusMillis(jwtExpirationMs)
+            );
+            verifiedTokens.put(key, verified);
+            return Optional.of(verified);
         } catch (Exception e) {
-            log.error("Token validation failed: {}", e.getMessage());
-            return false;
+            log.debug("Token validation failed: {}", e.getMessage());
+            return Optional.empty();
         }
     }
 
@@ -79,26 +107,53 @@ public class JwtService {
                 .setSubject(subject)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     /**
-     * Extract all claims from JWT token
+     * Decode the configured secret: Base64 when it is valid Base64, raw UTF-8 bytes otherwise
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    private static byte[] decodeSecret(String secretKey) {
+        try {
+            return Decoders.BASE64.decode(secretKey);
+        } catch (DecodingException e) {
+            return secretKey.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static ByteBuffer hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     /**
-     * Get signing key from secret
+     * Principal extracted from a verified token
+     */
+    public record VerifiedToken(String username, String role, Instant expiresAt) {}
+
+    /**
+     * Keeps each cache entry exactly until the token's own exp claim
      */
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static final class UntilTokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,145 @@
+package com.coopcredit.credit_application_service.infrastructure.security.jwt;
+
+import com.coopcredit.credit_application_service.domain.model.RefreshToken;
+import com.coopcredit.credit_application_service.domain.model.Role;
+import com.coopcredit.credit_application_service.domain.model.User;
+import com.coopcredit.credit_application_service.domain.port.output.RefreshTokenRepository;
+import com.coopcredit.credit_application_service.domain.port.output.UserRepository;
+import com.coopcredit.credit_application_service.infrastructure.exception.InvalidTokenException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Service: RefreshTokenService
+ * Issues and rotates long-lived refresh tokens so clients renew their short-lived access
+ * token without sending the password again (and without paying a BCrypt verification).
+ * Token values are random and only their HMAC-SHA256 is stored, so a refresh costs one
+ * HMAC and one indexed lookup. Every refresh revokes the presented token and issues a new
+ * one in the same family; presenting an already rotated token revokes the whole family.
+ * The new access token carries the user's current role, and the family of a user who no
+ * longer exists is revoked.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final SecretKeySpec hashKey;
+    private final Duration expiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               @Value("${jwt.refresh.hash-secret:${jwt.secret}}") String hashSecret,
+                               @Value("${jwt.refresh.expiration:P30D}") Duration expiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.hashKey = new SecretKeySpec(hashSecret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.expiration = expiration;
+    }
+
+    /**
+     * Issue a refresh token starting a new family (on login or registration)
+     *
+     * @return the token value to hand to the client
+     */
+    public String issue(String username, Role role) {
+        return issue(username, role, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Rotate a refresh token: revoke it and issue its successor in the same family
+     *
+     * @param presentedToken the token value sent by the client
+     * @return the owner of the token, their current role and the new token value
+     * @throws InvalidTokenException if the token is unknown, expired or already rotated, or its
+     *                               user no longer exists
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public Rotation rotate(String presentedToken) {
+        if (presentedToken == null || presentedToken.isBlank()) {
+            throw new InvalidTokenException("Refresh token inválido");
+        }
+        String tokenHash = hash(presentedToken);
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(tokenHash)
+                .orElseThrow(() -> new InvalidTokenException("Refresh token inválido"));
+
+        if (stored.revoked() || !refreshTokenRepository.revoke(tokenHash)) {
+            // A rotated token came back: it was stolen or replayed, so end the whole session
+            int revoked = refreshTokenRepository.revokeFamily(stored.familyId());
+            log.warn("Refresh token reuse detected for user {}; revoked {} tokens of its family",
+                    stored.username(), revoked);
+            throw new InvalidTokenException("Refresh token inválido");
+        }
+        if (stored.isExpired(LocalDateTime.now())) {
+            throw new InvalidTokenException("Refresh token expirado");
+        }
+
+        User user = userRepository.findByUsername(stored.username()).orElse(null);
+        if (user == null) {
+            int revoked = refreshTokenRepository.revokeFamily(stored.familyId());
+            log.warn("Refresh token presented for deleted user {}; revoked {} tokens of its family",
+                    stored.username(), revoked);
+            throw new InvalidTokenException("Refresh token inválido");
+        }
+
+        String next = issue(user.getUsername(), user.getRole(), stored.familyId());
+        return new Rotation(user.getUsername(), user.getRole(), next);
+    }
+
+    /**
+     * Purge expired refresh tokens
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.purge-interval:PT6H}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(String username, Role role, String familyId) {
+        byte[] value = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(value);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(new RefreshToken(
+                hash(token), username, role, familyId, false, now, now.plus(expiration)
+        ));
+        return token;
+    }
+
+    private String hash(String token) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(hashKey);
+            return HexFormat.of().formatHex(mac.doFinal(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 not available", e);
+        }
+    }
+
+    /**
+     * Result of a rotation: the token owner and the successor token value
+     */
+    public record Rotation(String username, Role role, String refreshToken) {}
+}
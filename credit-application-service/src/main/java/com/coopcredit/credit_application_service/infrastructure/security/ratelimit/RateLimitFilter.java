@@ -0,0 +1,108 @@
+package com.coopcredit.credit_application_service.infrastructure.security.ratelimit;
+
+import com.coopcredit.credit_application_service.infrastructure.exception.ProblemTypes;
+import com.coopcredit.credit_application_service.infrastructure.security.ProblemResponseWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter: RateLimitFilter
+ * Token-bucket rate limiting, placed right after JwtAuthenticationFilter.
+ * Authenticated requests are limited per username with the limit of their role; anonymous
+ * requests to /auth/** are limited per client IP. Buckets live in a bounded Caffeine map
+ * and are evicted after being idle. Rejected requests get 429 with Retry-After.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/auth/";
+    private static final String ANONYMOUS = "ANONYMOUS";
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ProblemResponseWriter problemResponseWriter;
+    private final Cache<String, TokenBucket> buckets;
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry,
+                           ProblemResponseWriter problemResponseWriter) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.problemResponseWriter = problemResponseWriter;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxBuckets())
+                .expireAfterAccess(properties.idleEviction())
+                .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key;
+        String role;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && authentication.getAuthorities() != null
+                && !authentication.getAuthorities().isEmpty()) {
+            role = authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .findFirst()
+                    .orElse(ANONYMOUS);
+            key = "user:" + authentication.getName();
+        } else if (request.getRequestURI().startsWith(AUTH_PATH_PREFIX)) {
+            // Behind a proxy, set server.forward-headers-strategy so this is the real client address
+            role = ANONYMOUS;
+            key = "ip:" + request.getRemoteAddr();
+        } else {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        RateLimitProperties.Limit limit = properties.limitFor(role);
+        long now = System.nanoTime();
+        long waitNanos = buckets.get(key, k -> new TokenBucket(limit, now)).tryConsume(now);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejections.computeIfAbsent(role, r -> Counter.builder("http.server.requests.rate_limited")
+                .description("Requests rejected by the rate limiter")
+                .tag("role", r)
+                .register(meterRegistry)).increment();
+        log.debug("Rate limit exceeded for {}", key);
+        reject(request, response, waitNanos);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        problemResponseWriter.writeRetryLater(request, response, HttpStatus.TOO_MANY_REQUESTS,
+                ProblemTypes.RATE_LIMITED,
+                "Too Many Requests",
+                "Se superó el límite de solicitudes, intente nuevamente en " + retryAfterSeconds + " segundos",
+                retryAfterSeconds);
+    }
+}
@@ -0,0 +1,53 @@
+package com.coopcredit.credit_application_service.infrastructure.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Configuration: RateLimitProperties
+ * Token-bucket limits per role (authenticated requests) and per client IP (anonymous /auth/** requests)
+ *
+ * @param enabled whether the rate limiter is active
+ * @param idleEviction how long an unused bucket is kept before it is evicted
+ * @param maxBuckets upper bound on the number of buckets kept in memory
+ * @param anonymous limit applied per client IP to anonymous /auth/** requests
+ * @param roles limit applied per user, keyed by role name (e.g. ROLE_AFILIADO)
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("PT10M") Duration idleEviction,
+        @DefaultValue("100000") long maxBuckets,
+        @DefaultValue({"10", "1"}) Limit anonymous,
+        Map<String, Limit> roles
+) {
+
+    public RateLimitProperties {
+        roles = roles == null ? Map.of() : Map.copyOf(roles);
+    }
+
+    /**
+     * Limit for a role; roles without an explicit limit get the anonymous one
+     */
+    public Limit limitFor(String role) {
+        return roles.getOrDefault(role, anonymous);
+    }
+
+    /**
+     * Token-bucket limit
+     *
+     * @param capacity maximum burst size
+     * @param refillPerSecond sustained requests per second
+     */
+    public record Limit(long capacity, double refillPerSecond) {
+
+        public Limit {
+            if (capacity < 1 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("Rate limit capacity and refill rate must be positive");
+            }
+        }
+    }
+}
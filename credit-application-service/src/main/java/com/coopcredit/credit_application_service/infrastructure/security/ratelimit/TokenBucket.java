@@ -0,0 +1,44 @@
+package com.coopcredit.credit_application_service.infrastructure.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket.
+ * The token count and the last refill time are swapped together with a CAS on an immutable
+ * state, so concurrent requests of the same principal never block each other.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(RateLimitProperties.Limit limit, long nowNanos) {
+        this.capacity = limit.capacity();
+        this.tokensPerNano = limit.refillPerSecond() / NANOS_PER_SECOND;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Take one token if available
+     *
+     * @param nowNanos the current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double refilled = Math.min(capacity, current.tokens() + (nowNanos - current.refilledAt()) * tokensPerNano);
+            if (refilled < 1) {
+                return (long) Math.ceil((1 - refilled) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(refilled - 1, nowNanos))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {}
+}
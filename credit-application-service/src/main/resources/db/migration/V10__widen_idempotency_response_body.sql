@@ -0,0 +1,6 @@
+-- Flyway Migration: Unbounded idempotent responses
+-- Version: V10
+-- Description: A batch response outgrows 10000 characters at a few dozen items; the failed
+-- write used to be taken for a lost race and the operation re-run on retry.
+
+ALTER TABLE idempotency_keys ALTER COLUMN response_body SET DATA TYPE TEXT;
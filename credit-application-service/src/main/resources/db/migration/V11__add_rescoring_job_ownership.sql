@@ -0,0 +1,9 @@
+-- Flyway Migration: Rescoring job ownership
+-- Version: V11
+-- Description: The node running a job writes a heartbeat with every checkpoint, so another
+-- node can tell a live run from one left behind by a crash. The version column makes every
+-- write conditional: a stop issued on one node is not overwritten by the runner on another.
+
+ALTER TABLE rescoring_jobs ADD COLUMN owner VARCHAR(100);
+ALTER TABLE rescoring_jobs ADD COLUMN heartbeat_at TIMESTAMP;
+ALTER TABLE rescoring_jobs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,6 @@
+-- Flyway Migration: Widen the idempotency scope
+-- Version: V12
+-- Description: The scope is the operation followed by '/' and the username; usernames hold up
+-- to 255 characters, so the longest operation prefix (credit-applications-batch/) must fit too.
+
+ALTER TABLE idempotency_keys ALTER COLUMN scope SET DATA TYPE VARCHAR(300);
@@ -0,0 +1,12 @@
+-- Flyway Migration: Store approval decision tables
+-- Version: V13
+-- Description: Every replacement of the approval rules is appended as a new revision, rules
+-- as JSON. Nodes put the highest revision in force at startup and when polling; the primary
+-- key makes two nodes replacing the rules at once conflict instead of overwriting each other.
+
+CREATE TABLE approval_rule_revisions (
+    revision BIGINT PRIMARY KEY,
+    rules TEXT NOT NULL,
+    default_decision VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
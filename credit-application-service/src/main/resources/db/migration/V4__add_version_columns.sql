@@ -0,0 +1,7 @@
+-- Flyway Migration: Add optimistic locking version columns
+-- Version: V4
+-- Description: version counters used by JPA @Version to detect concurrent state transitions
+
+ALTER TABLE affiliates ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE credit_applications ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,19 @@
+-- Flyway Migration: Create idempotency keys table
+-- Version: V5
+-- Description: Stores responses of POST requests carrying an Idempotency-Key header
+-- so client retries are answered without re-running the operation
+
+CREATE TABLE idempotency_keys (
+    id BIGSERIAL PRIMARY KEY,
+    scope VARCHAR(50) NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    response_body VARCHAR(10000) NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT uk_idempotency_keys_scope_key UNIQUE (scope, idempotency_key)
+);
+
+-- Create index on expires_at for the purge job
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
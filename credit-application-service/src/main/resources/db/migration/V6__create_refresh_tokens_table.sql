@@ -0,0 +1,21 @@
+-- Flyway Migration: Create refresh tokens table
+-- Version: V6
+-- Description: Long-lived rotating refresh tokens, stored as HMAC hashes only.
+-- Tokens issued from the same login share a family; reusing a rotated token revokes the family.
+
+CREATE TABLE refresh_tokens (
+    id BIGSERIAL PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    role VARCHAR(50) NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    revoked BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash)
+);
+
+-- Create indexes for family revocation and the purge job
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
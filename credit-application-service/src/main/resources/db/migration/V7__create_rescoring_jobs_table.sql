@@ -0,0 +1,24 @@
+-- Flyway Migration: Create rescoring jobs table
+-- Version: V7
+-- Description: Progress of bulk risk re-scoring jobs. The checkpoint is the highest
+-- credit application ID whose chunk was committed, so a stopped or crashed job resumes after it.
+
+CREATE TABLE rescoring_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    scope VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    checkpoint BIGINT NOT NULL DEFAULT 0,
+    processed BIGINT NOT NULL DEFAULT 0,
+    decided BIGINT NOT NULL DEFAULT 0,
+    refreshed BIGINT NOT NULL DEFAULT 0,
+    failed BIGINT NOT NULL DEFAULT 0,
+    skipped BIGINT NOT NULL DEFAULT 0,
+    active_millis BIGINT NOT NULL DEFAULT 0,
+    error VARCHAR(500),
+    started_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+
+    CONSTRAINT check_rescoring_scope CHECK (scope IN ('PENDING', 'ALL')),
+    CONSTRAINT check_rescoring_status CHECK (status IN ('RUNNING', 'STOPPED', 'COMPLETED', 'FAILED'))
+);
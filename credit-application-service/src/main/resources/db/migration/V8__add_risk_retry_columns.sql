@@ -0,0 +1,11 @@
+-- Flyway Migration: Add risk evaluation retry columns
+-- Version: V8
+-- Description: A PENDING application whose risk evaluation failed keeps its failed attempts
+-- and the time of the next one. Rows with a due next_risk_attempt_at form the retry queue;
+-- the column is cleared once the application is decided or its attempts are exhausted.
+
+ALTER TABLE credit_applications ADD COLUMN risk_attempts INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE credit_applications ADD COLUMN next_risk_attempt_at TIMESTAMP;
+
+CREATE INDEX idx_credit_applications_next_risk_attempt ON credit_applications(next_risk_attempt_at);
@@ -0,0 +1,9 @@
+-- Flyway Migration: Claim idempotency keys before running the operation
+-- Version: V9
+-- Description: A row without response_body is an in-progress claim, written before the
+-- operation runs so other nodes wait for it instead of running it again. The scope now
+-- includes the authenticated username, so keys of different users never collide.
+
+ALTER TABLE idempotency_keys ALTER COLUMN response_body DROP NOT NULL;
+
+ALTER TABLE idempotency_keys ALTER COLUMN scope SET DATA TYPE VARCHAR(200);
@@ -0,0 +1,75 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class AffiliateLocksTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AffiliateLocks locks = new AffiliateLocks(mock(PlatformTransactionManager.class),
+            meterRegistry, 16, Duration.ofMillis(200));
+
+    @Test
+    void onlySubmissionsOfTheSameAffiliateShouldWait() throws Exception {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> locks.withLock(1L, () -> {
+            holding.countDown();
+            await(release);
+            return null;
+        }));
+        assertTrue(holding.await(5, TimeUnit.SECONDS));
+
+        // Another affiliate on another stripe goes straight through
+        assertEquals("2", locks.withLock(2L, () -> "2"));
+        assertEquals(0, meterRegistry.timer("affiliate.lock.wait").count());
+
+        // The same affiliate waits, and gives up after the timeout
+        assertThrows(ConcurrentUpdateException.class, () -> locks.withLock(1L, () -> "1"));
+        assertEquals(1, meterRegistry.timer("affiliate.lock.wait").count());
+        assertEquals(1, meterRegistry.counter("affiliate.lock.timeouts").count());
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        assertEquals("1", locks.withLock(1L, () -> "1"));
+    }
+
+    @Test
+    void overlappingBatchesShouldNotDeadlock() throws Exception {
+        List<CompletableFuture<Integer>> batches = List.of(
+                CompletableFuture.supplyAsync(() -> repeat(List.of(3L, 7L, 11L))),
+                CompletableFuture.supplyAsync(() -> repeat(List.of(11L, 7L, 3L))),
+                CompletableFuture.supplyAsync(() -> repeat(List.of(7L, 19L))));
+
+        for (CompletableFuture<Integer> batch : batches) {
+            assertEquals(1_000, batch.get(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private int repeat(List<Long> affiliateIds) {
+        int done = 0;
+        for (int i = 0; i < 1_000; i++) {
+            done += locks.withLocks(affiliateIds, () -> 1);
+        }
+        return done;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
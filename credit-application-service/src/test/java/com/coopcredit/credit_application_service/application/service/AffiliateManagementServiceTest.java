@@ -5,7 +5,9 @@ import com.coopcredit.credit_application_service.application.dto.AffiliateRespon
 import com.coopcredit.credit_application_service.application.dto.CreateAffiliateRequest;
 import com.coopcredit.credit_application_service.domain.entity.Affiliate;
 import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.Money;
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
 import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
 import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
 import org.junit.jupiter.api.Test;
@@ -45,14 +47,14 @@ class AffiliateManagementServiceTest {
             LocalDate.now()
         );
 
-        Affiliate domain = Affiliate.create(req.name(), req.salary(), req.registrationDate(), req.document());
-        Affiliate saved = Affiliate.reconstruct(1L, domain.getName(), domain.getSalary(), domain.getRegistrationDate(), domain.getStatus(), domain.getCreatedAt(), domain.getUpdatedAt(), domain.getDocument());
+        Affiliate domain = Affiliate.create(req.name(), Money.of(req.salary()), req.registrationDate(), req.document());
+        Affiliate saved = Affiliate.reconstruct(1L, domain.getName(), domain.getSalary(), domain.getRegistrationDate(), domain.getStatus(), domain.getCreatedAt(), domain.getUpdatedAt(), domain.getDocument(), 0L);
 
         AffiliateResponse response = new AffiliateResponse(
             saved.getId(),
             saved.getName(),
             req.document(),
-            saved.getSalary(),
+            saved.getSalary().toBigDecimal(),
             saved.getRegistrationDate(),
             saved.getStatus().getLabel(),
             saved.getCreatedAt(),
@@ -63,8 +65,8 @@ class AffiliateManagementServiceTest {
         when(affiliateMapper.toDomain(req)).thenReturn(domain);
         when(affiliateRepository.save(domain)).thenReturn(saved);
         when(affiliateMapper.toResponse(saved)).thenReturn(response);
-        when(riskCentralPort.evaluateRisk("12345678", 5000.0, 12))
-            .thenReturn(new RiskEvaluation(500, "BAJO", "Risk assessment completed"));
+        when(riskCentralPort.evaluateRisk("12345678", Money.of(new BigDecimal("5000")), 12))
+            .thenReturn(new RiskEvaluation(500, RiskLevel.LOW, "Risk assessment completed"));
 
         AffiliateResponse result = service.create(req);
 
@@ -72,7 +74,7 @@ class AffiliateManagementServiceTest {
         assertEquals(1L, result.id());
         assertEquals("Juan", result.name());
         assertEquals(req.document(), result.document());
-        verify(riskCentralPort, times(1)).evaluateRisk("12345678", 5000.0, 12);
+        verify(riskCentralPort, times(1)).evaluateRisk("12345678", Money.of(new BigDecimal("5000")), 12);
     }
 
     @Test
@@ -84,7 +86,7 @@ class AffiliateManagementServiceTest {
             LocalDate.now()
         );
 
-        Affiliate existing = Affiliate.create(req.name(), new BigDecimal("4000"), LocalDate.now().minusDays(10), "1001");
+        Affiliate existing = Affiliate.create(req.name(), Money.of(new BigDecimal("4000")), LocalDate.now().minusDays(10), "1001");
         when(affiliateRepository.findByName(req.name())).thenReturn(Optional.of(existing));
 
         DomainException ex = assertThrows(DomainException.class, () -> service.create(req));
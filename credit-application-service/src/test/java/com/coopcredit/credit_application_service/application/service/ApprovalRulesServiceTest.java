@@ -0,0 +1,104 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.ApprovalRulesRequest;
+import com.coopcredit.credit_application_service.application.dto.ApprovalRulesResponse;
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRuleRevision;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.port.output.ApprovalRuleRevisionRepository;
+import com.coopcredit.credit_application_service.domain.service.CreditApprovalPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalRulesServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 10, 30);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private static final List<ApprovalRule> REJECT_MEDIUM = List.of(new ApprovalRule("medio", RiskLevel.MEDIUM,
+            null, null, null, null, null, null, null, null, ApprovalRule.Decision.REJECT));
+
+    @Mock
+    private ApprovalRuleRevisionRepository approvalRuleRevisionRepository;
+
+    private ApprovalRuleEngine engine;
+    private ApprovalRulesService service;
+
+    @BeforeEach
+    void setUp() {
+        engine = new ApprovalRuleEngine(CreditApprovalPolicy.DEFAULT, CreditApprovalPolicy.DEFAULT_AFFORDABILITY, CLOCK);
+        service = new ApprovalRulesService(engine, approvalRuleRevisionRepository, CLOCK);
+    }
+
+    @Test
+    void replaceApprovalRules_storesTheNextRevisionBeforePuttingItInForce() {
+        when(approvalRuleRevisionRepository.findLatest()).thenReturn(Optional.empty());
+        when(approvalRuleRevisionRepository.saveIfAbsent(any())).thenReturn(true);
+
+        ApprovalRulesResponse response = service.replaceApprovalRules(
+                new ApprovalRulesRequest(REJECT_MEDIUM, ApprovalRule.Decision.APPROVE));
+
+        ArgumentCaptor<ApprovalRuleRevision> stored = ArgumentCaptor.forClass(ApprovalRuleRevision.class);
+        verify(approvalRuleRevisionRepository).saveIfAbsent(stored.capture());
+        assertEquals(2, stored.getValue().revision());
+        assertEquals(REJECT_MEDIUM, stored.getValue().rules());
+        assertEquals(NOW, stored.getValue().createdAt());
+        assertEquals(2, response.revision());
+        assertEquals(NOW, response.loadedAt());
+        assertEquals(REJECT_MEDIUM, engine.current().rules());
+    }
+
+    @Test
+    void replaceApprovalRules_revisionTakenByAnotherNode_isAConflict() {
+        when(approvalRuleRevisionRepository.findLatest()).thenReturn(Optional.of(revision(4)));
+        when(approvalRuleRevisionRepository.saveIfAbsent(any())).thenReturn(false);
+
+        assertThrows(ConcurrentUpdateException.class, () -> service.replaceApprovalRules(
+                new ApprovalRulesRequest(REJECT_MEDIUM, ApprovalRule.Decision.REJECT)));
+        assertEquals(1, engine.revision());
+    }
+
+    @Test
+    void replaceApprovalRules_invalidRules_areRejectedWithoutStoring() {
+        List<ApprovalRule> unnamed = List.of(new ApprovalRule(null, null, null, null, null, null, null, null,
+                null, null, null));
+
+        assertThrows(DomainException.class, () -> service.replaceApprovalRules(
+                new ApprovalRulesRequest(unnamed, ApprovalRule.Decision.APPROVE)));
+        verify(approvalRuleRevisionRepository, never()).saveIfAbsent(any());
+    }
+
+    @Test
+    void refresh_putsANewerStoredRevisionInForceOnce() {
+        when(approvalRuleRevisionRepository.findLatest()).thenReturn(Optional.of(revision(3)));
+
+        service.refresh();
+        service.refresh();
+
+        assertEquals(3, engine.revision());
+        assertEquals(REJECT_MEDIUM, engine.current().rules());
+        assertEquals(3, service.getApprovalRules().revision());
+    }
+
+    private static ApprovalRuleRevision revision(long number) {
+        return new ApprovalRuleRevision(number, REJECT_MEDIUM, ApprovalRule.Decision.APPROVE, NOW.minusHours(1));
+    }
+}
@@ -0,0 +1,191 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationBatchRequest;
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationBatchResponse;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapperImpl;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditDecisionPublisher;
+import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
+import com.coopcredit.credit_application_service.domain.service.CreditApprovalPolicy;
+import com.coopcredit.credit_application_service.infrastructure.exception.InfrastructureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreditApplicationBatchServiceTest {
+
+    @Mock
+    private AffiliateRepository affiliateRepository;
+
+    @Mock
+    private CreditApplicationRepository creditApplicationRepository;
+
+    @Mock
+    private RiskCentralPort riskCentralPort;
+
+    @Mock
+    private PortfolioStatisticsService portfolioStatisticsService;
+
+    @Mock
+    private CreditDecisionPublisher creditDecisionPublisher;
+
+    private CreditApplicationBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        RiskRetryPolicy riskRetryPolicy = new RiskRetryPolicy(Duration.ofSeconds(30), Duration.ofMinutes(30), 3);
+        AffiliateLocks affiliateLocks = new AffiliateLocks(mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 16, Duration.ofSeconds(1));
+        CreditApplicationService creditApplicationService = new CreditApplicationService(affiliateRepository,
+                creditApplicationRepository, riskCentralPort, new CreditApplicationMapperImpl(),
+                portfolioStatisticsService, null, creditDecisionPublisher,
+                new ApprovalRuleEngine(CreditApprovalPolicy.DEFAULT,
+                        CreditApprovalPolicy.DEFAULT_AFFORDABILITY, Clock.systemDefaultZone()), affiliateLocks, riskRetryPolicy,
+                Clock.systemDefaultZone());
+        service = new CreditApplicationBatchService(affiliateRepository, creditApplicationRepository,
+                riskCentralPort, creditApplicationService, new CreditApplicationMapperImpl(),
+                portfolioStatisticsService, creditDecisionPublisher, affiliateLocks, riskRetryPolicy,
+                Clock.systemDefaultZone(), 3, 4, Duration.ofSeconds(5));
+
+        lenient().when(creditApplicationRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CreditApplication> apps = invocation.getArgument(0);
+            List<CreditApplication> saved = new ArrayList<>();
+            for (CreditApplication app : apps) {
+                saved.add(CreditApplication.reconstruct((long) saved.size() + 1, app.getAffiliateId(),
+                        app.getAmount(), app.getTerm(), app.getStatus(), app.getSubmissionDate(),
+                        app.getRiskScore(), app.getRiskLevel(), app.getCreatedAt(), app.getUpdatedAt(), 0L,
+                        app.getRiskAttempts(), app.getNextRiskAttemptAt()));
+            }
+            return saved;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.destroy();
+    }
+
+    @Test
+    void create_mixedBatch_returnsOneResultPerItemInOrder() {
+        when(affiliateRepository.findAllById(anyList())).thenReturn(List.of(affiliate(1L, "DOC1"), affiliate(2L, "DOC2")));
+        when(riskCentralPort.evaluateRisk(eq("DOC1"), any(), any()))
+                .thenReturn(new RiskEvaluation(800, RiskLevel.LOW, ""));
+        when(riskCentralPort.evaluateRisk(eq("DOC2"), any(), any()))
+                .thenThrow(new InfrastructureException("Error al comunicarse con el servicio de riesgo"));
+
+        CreditApplicationBatchResponse response = service.create(new CreateCreditApplicationBatchRequest(List.of(
+                request(1L), request(99L), request(2L))));
+
+        assertEquals(3, response.total());
+        assertEquals(1, response.approved());
+        assertEquals(1, response.pending());
+        assertEquals(1, response.failed());
+        assertEquals("Aprobado", response.results().get(0).application().status());
+        assertEquals("AFFILIATE_NOT_FOUND", response.results().get(1).errorCode());
+        // The risk central failure defers the decision instead of failing the item
+        assertEquals("Pendiente", response.results().get(2).application().status());
+        verify(affiliateRepository, times(1)).findAllById(anyList());
+        verify(creditApplicationRepository, times(1)).saveAll(anyList());
+        verify(portfolioStatisticsService, times(1)).recordDecision(any());
+        verify(creditDecisionPublisher, times(1)).publish(any(), eq("DOC1"));
+    }
+
+    @Test
+    void create_evaluatesRiskConcurrently() {
+        when(affiliateRepository.findAllById(anyList())).thenReturn(List.of(affiliate(1L, "DOC1")));
+        // Each call waits until all three are in flight: only passes if they run in parallel
+        CountDownLatch inFlight = new CountDownLatch(3);
+        when(riskCentralPort.evaluateRisk(any(), any(), any())).thenAnswer(invocation -> {
+            inFlight.countDown();
+            assertTrue(inFlight.await(2, TimeUnit.SECONDS));
+            return new RiskEvaluation(800, RiskLevel.LOW, "");
+        });
+
+        CreditApplicationBatchResponse response = service.create(new CreateCreditApplicationBatchRequest(List.of(
+                request(1L), request(1L), request(1L))));
+
+        assertEquals(3, response.approved());
+        assertEquals(0, response.failed());
+    }
+
+    @Test
+    void create_riskCallPastTheDeadline_isInterruptedAndDeferred() throws InterruptedException {
+        CreditApplicationBatchService shortDeadline = new CreditApplicationBatchService(affiliateRepository,
+                creditApplicationRepository, riskCentralPort, null, new CreditApplicationMapperImpl(),
+                portfolioStatisticsService, creditDecisionPublisher,
+                new AffiliateLocks(mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), 16,
+                        Duration.ofSeconds(1)),
+                new RiskRetryPolicy(Duration.ofSeconds(30), Duration.ofMinutes(30), 3),
+                Clock.systemDefaultZone(), 3, 4, Duration.ofMillis(200));
+        when(affiliateRepository.findAllById(anyList())).thenReturn(List.of(affiliate(1L, "DOC1")));
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(riskCentralPort.evaluateRisk(any(), any(), any())).thenAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            throw new InfrastructureException("Error al comunicarse con el servicio de riesgo");
+        });
+
+        try {
+            CreditApplicationBatchResponse response = shortDeadline.create(
+                    new CreateCreditApplicationBatchRequest(List.of(request(1L))));
+
+            assertEquals(1, response.pending());
+            assertEquals("Pendiente", response.results().get(0).application().status());
+            assertTrue(interrupted.await(2, TimeUnit.SECONDS), "the timed-out risk call was not interrupted");
+        } finally {
+            shortDeadline.destroy();
+        }
+    }
+
+    @Test
+    void create_tooLarge_shouldThrow() {
+        CreateCreditApplicationBatchRequest request = new CreateCreditApplicationBatchRequest(List.of(
+                request(1L), request(1L), request(1L), request(1L)));
+
+        DomainException ex = assertThrows(DomainException.class, () -> service.create(request));
+        assertEquals("BATCH_TOO_LARGE", ex.getCode());
+        verifyNoInteractions(riskCentralPort);
+    }
+
+    private static CreateCreditApplicationRequest request(Long affiliateId) {
+        return new CreateCreditApplicationRequest(affiliateId, new BigDecimal("1000000"), 12);
+    }
+
+    private static Affiliate affiliate(Long id, String document) {
+        return Affiliate.reconstruct(id, "Afiliado " + id, Money.of(new BigDecimal("5000000")),
+                LocalDate.now().minusYears(1), Affiliate.AffiliateStatus.ACTIVE,
+                null, null, document, 0L);
+    }
+}
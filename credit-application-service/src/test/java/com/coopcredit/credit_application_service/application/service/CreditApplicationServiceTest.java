@@ -6,28 +6,51 @@ import com.coopcredit.credit_application_service.application.dto.CreditApplicati
 import com.coopcredit.credit_application_service.domain.entity.Affiliate;
 import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
 import com.coopcredit.credit_application_service.domain.exception.AffiliateNotFoundException;
+import com.coopcredit.credit_application_service.domain.model.Money;
 import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
 import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
 import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditDecisionPublisher;
 import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
+import com.coopcredit.credit_application_service.domain.service.CreditApprovalPolicy;
+import com.coopcredit.credit_application_service.infrastructure.exception.InfrastructureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
 
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class CreditApplicationServiceTest {
 
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 10, 30);
+
     @Mock
     private AffiliateRepository affiliateRepository;
 
@@ -40,6 +63,29 @@ class CreditApplicationServiceTest {
     @Mock
     private CreditApplicationMapper creditApplicationMapper;
 
+    @Mock
+    private PortfolioStatisticsService portfolioStatisticsService;
+
+    @Mock
+    private OptimisticRetryPolicy optimisticRetryPolicy;
+
+    @Mock
+    private CreditDecisionPublisher creditDecisionPublisher;
+
+    @Spy
+    private ApprovalRuleEngine approvalRuleEngine = new ApprovalRuleEngine(CreditApprovalPolicy.DEFAULT,
+            CreditApprovalPolicy.DEFAULT_AFFORDABILITY, Clock.systemDefaultZone());
+
+    @Spy
+    private AffiliateLocks affiliateLocks = new AffiliateLocks(mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(), 16, Duration.ofSeconds(1));
+
+    @Spy
+    private RiskRetryPolicy riskRetryPolicy = new RiskRetryPolicy(Duration.ofSeconds(30), Duration.ofMinutes(30), 3);
+
+    @Spy
+    private Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
     @InjectMocks
     private CreditApplicationService service;
 
@@ -53,12 +99,12 @@ class CreditApplicationServiceTest {
         );
 
         Affiliate affiliate = createTestAffiliate(1L);
-        CreditApplication creditApp = CreditApplication.create(1L, new BigDecimal("5000000"), 12);
-        creditApp.updateRiskEvaluation(400, "BAJO");
-        creditApp.approve();
-        CreditApplication saved = CreditApplication.reconstruct(1L, 1L, new BigDecimal("5000000"), 12,
-                CreditApplication.CreditApplicationStatus.APPROVED, LocalDate.now(), 400, "BAJO",
-                LocalDateTime.now(), LocalDateTime.now());
+        CreditApplication creditApp = CreditApplication.create(1L, Money.of(new BigDecimal("5000000")), 12, NOW);
+        creditApp.updateRiskEvaluation(400, RiskLevel.LOW, NOW);
+        creditApp.approve(NOW);
+        CreditApplication saved = CreditApplication.reconstruct(1L, 1L, Money.of(new BigDecimal("5000000")), 12,
+                CreditApplication.CreditApplicationStatus.APPROVED, LocalDate.now(), 400, RiskLevel.LOW,
+                LocalDateTime.now(), LocalDateTime.now(), 0L);
 
         CreditApplicationResponse response = new CreditApplicationResponse(
                 1L, 1L, new BigDecimal("5000000"), 12, "Aprobado", LocalDate.now(),
@@ -67,8 +113,8 @@ class CreditApplicationServiceTest {
 
         // Mock
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(affiliate));
-        when(riskCentralPort.evaluateRisk("12345678", 5000000.0, 12))
-                .thenReturn(new RiskEvaluation(400, "BAJO", "Low risk profile"));
+        when(riskCentralPort.evaluateRisk("12345678", Money.of(new BigDecimal("5000000")), 12))
+                .thenReturn(new RiskEvaluation(400, RiskLevel.LOW, "Low risk profile"));
         when(creditApplicationRepository.save(any(CreditApplication.class))).thenReturn(saved);
         when(creditApplicationMapper.toResponse(saved)).thenReturn(response);
 
@@ -79,6 +125,14 @@ class CreditApplicationServiceTest {
         assertNotNull(result);
         assertEquals(1L, result.id());
         assertEquals("Aprobado", result.status());
+
+        // One clock read for the whole operation
+        ArgumentCaptor<CreditApplication> decided = ArgumentCaptor.forClass(CreditApplication.class);
+        verify(creditApplicationRepository).save(decided.capture());
+        assertEquals(NOW, decided.getValue().getCreatedAt());
+        assertSame(decided.getValue().getCreatedAt(), decided.getValue().getUpdatedAt());
+        assertEquals(NOW.toLocalDate(), decided.getValue().getSubmissionDate());
+        assertEquals(RiskLevel.LOW, decided.getValue().getRiskLevel());
     }
 
     @Test
@@ -91,9 +145,9 @@ class CreditApplicationServiceTest {
         );
 
         Affiliate affiliate = createTestAffiliate(1L);
-        CreditApplication saved = CreditApplication.reconstruct(1L, 1L, new BigDecimal("5000000"), 12,
-                CreditApplication.CreditApplicationStatus.REJECTED, LocalDate.now(), 900, "ALTO",
-                LocalDateTime.now(), LocalDateTime.now());
+        CreditApplication saved = CreditApplication.reconstruct(1L, 1L, Money.of(new BigDecimal("5000000")), 12,
+                CreditApplication.CreditApplicationStatus.REJECTED, LocalDate.now(), 900, RiskLevel.HIGH,
+                LocalDateTime.now(), LocalDateTime.now(), 0L);
 
         CreditApplicationResponse response = new CreditApplicationResponse(
                 1L, 1L, new BigDecimal("5000000"), 12, "Rechazado", LocalDate.now(),
@@ -102,8 +156,8 @@ class CreditApplicationServiceTest {
 
         // Mock
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(affiliate));
-        when(riskCentralPort.evaluateRisk("12345678", 5000000.0, 12))
-                .thenReturn(new RiskEvaluation(900, "ALTO", "High risk profile"));
+        when(riskCentralPort.evaluateRisk("12345678", Money.of(new BigDecimal("5000000")), 12))
+                .thenReturn(new RiskEvaluation(900, RiskLevel.HIGH, "High risk profile"));
         when(creditApplicationRepository.save(any(CreditApplication.class))).thenReturn(saved);
         when(creditApplicationMapper.toResponse(saved)).thenReturn(response);
 
@@ -126,9 +180,9 @@ class CreditApplicationServiceTest {
         );
 
         Affiliate affiliate = createTestAffiliate(1L);
-        CreditApplication saved = CreditApplication.reconstruct(1L, 1L, new BigDecimal("15000000"), 12,
-                CreditApplication.CreditApplicationStatus.REJECTED, LocalDate.now(), 600, "MEDIO",
-                LocalDateTime.now(), LocalDateTime.now());
+        CreditApplication saved = CreditApplication.reconstruct(1L, 1L, Money.of(new BigDecimal("15000000")), 12,
+                CreditApplication.CreditApplicationStatus.REJECTED, LocalDate.now(), 600, RiskLevel.MEDIUM,
+                LocalDateTime.now(), LocalDateTime.now(), 0L);
 
         CreditApplicationResponse response = new CreditApplicationResponse(
                 1L, 1L, new BigDecimal("15000000"), 12, "Rechazado", LocalDate.now(),
@@ -137,8 +191,8 @@ class CreditApplicationServiceTest {
 
         // Mock
         when(affiliateRepository.findById(1L)).thenReturn(Optional.of(affiliate));
-        when(riskCentralPort.evaluateRisk("12345678", 15000000.0, 12))
-                .thenReturn(new RiskEvaluation(600, "MEDIO", "Medium risk profile"));
+        when(riskCentralPort.evaluateRisk("12345678", Money.of(new BigDecimal("15000000")), 12))
+                .thenReturn(new RiskEvaluation(600, RiskLevel.MEDIUM, "Medium risk profile"));
         when(creditApplicationRepository.save(any(CreditApplication.class))).thenReturn(saved);
         when(creditApplicationMapper.toResponse(saved)).thenReturn(response);
 
@@ -175,7 +229,7 @@ class CreditApplicationServiceTest {
                 12
         );
 
-        Affiliate inactiveAffiliate = Affiliate.create("John Doe", new BigDecimal("50000"),
+        Affiliate inactiveAffiliate = Affiliate.create("John Doe", Money.of(new BigDecimal("50000")),
                 LocalDate.now().minusYears(2), "12345678");
         inactiveAffiliate.deactivate();
 
@@ -186,12 +240,106 @@ class CreditApplicationServiceTest {
         assertThrows(AffiliateNotFoundException.class, () -> service.create(request));
     }
 
+    @Test
+    void createCreditApplication_riskCentralUnavailable_shouldSavePendingWithRetry() {
+        // Setup
+        CreateCreditApplicationRequest request = new CreateCreditApplicationRequest(
+                1L,
+                new BigDecimal("5000000"),
+                12
+        );
+
+        // Mock
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(createTestAffiliate(1L)));
+        when(riskCentralPort.evaluateRisk(any(), any(), anyInt()))
+                .thenThrow(new InfrastructureException("Error al comunicarse con el servicio de riesgo"));
+        when(creditApplicationRepository.save(any(CreditApplication.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Execute
+        service.create(request);
+
+        // Assert: saved PENDING, first retry 15-30s later, nothing decided or published
+        ArgumentCaptor<CreditApplication> deferred = ArgumentCaptor.forClass(CreditApplication.class);
+        verify(creditApplicationRepository).save(deferred.capture());
+        assertEquals(CreditApplication.CreditApplicationStatus.PENDING, deferred.getValue().getStatus());
+        assertEquals(1, deferred.getValue().getRiskAttempts());
+        assertFalse(deferred.getValue().getNextRiskAttemptAt().isBefore(NOW.plusSeconds(15)));
+        assertFalse(deferred.getValue().getNextRiskAttemptAt().isAfter(NOW.plusSeconds(30)));
+        verifyNoInteractions(portfolioStatisticsService, creditDecisionPublisher);
+    }
+
+    @Test
+    void createCreditApplication_commitFails_shouldNotRecordOrPublish() {
+        // Setup
+        CreateCreditApplicationRequest request = new CreateCreditApplicationRequest(
+                1L,
+                new BigDecimal("5000000"),
+                12
+        );
+
+        // Mock: the decision is saved, then the commit fails
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(createTestAffiliate(1L)));
+        when(riskCentralPort.evaluateRisk("12345678", Money.of(new BigDecimal("5000000")), 12))
+                .thenReturn(new RiskEvaluation(400, RiskLevel.LOW, "Low risk profile"));
+        when(creditApplicationRepository.save(any(CreditApplication.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doAnswer(invocation -> {
+            invocation.<Supplier<?>>getArgument(1).get();
+            throw new TransactionSystemException("Could not commit JPA transaction");
+        }).when(affiliateLocks).executeInTransaction(anyLong(), any());
+
+        // Execute & Assert
+        assertThrows(TransactionSystemException.class, () -> service.create(request));
+        verifyNoInteractions(portfolioStatisticsService, creditDecisionPublisher);
+    }
+
+    @Test
+    void retryRiskEvaluation_lastAttemptFails_shouldStopRetrying() {
+        // Setup: two failed attempts already, policy allows three
+        CreditApplication pending = CreditApplication.reconstruct(7L, 1L, Money.of(new BigDecimal("5000000")), 12,
+                CreditApplication.CreditApplicationStatus.PENDING, NOW.toLocalDate(), null, null,
+                NOW, NOW, 3L, 2, NOW);
+
+        // Mock
+        when(creditApplicationRepository.findById(7L)).thenReturn(Optional.of(pending));
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(createTestAffiliate(1L)));
+        when(riskCentralPort.evaluateRisk(any(), any(), anyInt()))
+                .thenThrow(new InfrastructureException("Error al comunicarse con el servicio de riesgo"));
+        when(optimisticRetryPolicy.executeInTransaction(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        when(creditApplicationRepository.save(any(CreditApplication.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Execute
+        CreditApplication result = service.retryRiskEvaluation(7L);
+
+        // Assert
+        assertEquals(CreditApplication.CreditApplicationStatus.PENDING, result.getStatus());
+        assertEquals(3, result.getRiskAttempts());
+        assertNull(result.getNextRiskAttemptAt());
+    }
+
+    @Test
+    void retryRiskEvaluation_unexpectedError_shouldPropagateWithoutRescheduling() {
+        // Setup
+        CreditApplication pending = CreditApplication.reconstruct(7L, 1L, Money.of(new BigDecimal("5000000")), 12,
+                CreditApplication.CreditApplicationStatus.PENDING, NOW.toLocalDate(), null, null,
+                NOW, NOW, 3L, 1, NOW);
+
+        // Mock: the affiliate lookup fails for a reason other than the risk central being down
+        when(creditApplicationRepository.findById(7L)).thenReturn(Optional.of(pending));
+        when(affiliateRepository.findById(1L)).thenThrow(new IllegalStateException("Unexpected row"));
+
+        // Execute & Assert
+        assertThrows(IllegalStateException.class, () -> service.retryRiskEvaluation(7L));
+        verifyNoInteractions(riskCentralPort, optimisticRetryPolicy);
+        verify(creditApplicationRepository, never()).save(any());
+    }
+
     private Affiliate createTestAffiliate(Long id) {
-        Affiliate affiliate = Affiliate.create("John Doe", new BigDecimal("50000"),
+        Affiliate affiliate = Affiliate.create("John Doe", Money.of(new BigDecimal("50000")),
                 LocalDate.now().minusYears(2), "12345678");
         // Reconstruct with ID to simulate persisted affiliate
         return Affiliate.reconstruct(id, affiliate.getName(), affiliate.getSalary(),
                 affiliate.getRegistrationDate(), affiliate.getStatus(),
-                LocalDateTime.now(), LocalDateTime.now(), affiliate.getDocument());
+                LocalDateTime.now(), LocalDateTime.now(), affiliate.getDocument(), 0L);
     }
 }
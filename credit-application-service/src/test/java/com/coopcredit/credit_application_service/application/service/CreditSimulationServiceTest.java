@@ -0,0 +1,77 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.CreditSimulationResponse;
+import com.coopcredit.credit_application_service.application.dto.SimulateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule.Decision;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
+import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
+import com.coopcredit.credit_application_service.domain.service.CreditApprovalPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CreditSimulationServiceTest {
+
+    @Mock
+    private AffiliateRepository affiliateRepository;
+
+    @Mock
+    private RiskCentralPort riskCentralPort;
+
+    private CreditSimulationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CreditSimulationService(affiliateRepository, riskCentralPort,
+                new ApprovalRuleEngine(CreditApprovalPolicy.DEFAULT,
+                        CreditApprovalPolicy.DEFAULT_AFFORDABILITY, Clock.systemDefaultZone()), Clock.systemDefaultZone(), 6);
+    }
+
+    @Test
+    void shouldDecideTheWholeGridWithOneRiskCall() {
+        when(affiliateRepository.findById(1L)).thenReturn(Optional.of(Affiliate.reconstruct(1L, "Afiliado",
+                Money.of(new BigDecimal("5000000")), LocalDate.now().minusYears(1), Affiliate.AffiliateStatus.ACTIVE,
+                null, null, "DOC1", 0L)));
+        when(riskCentralPort.evaluateRisk(any(), any(), anyInt()))
+                .thenReturn(new RiskEvaluation(600, RiskLevel.MEDIUM, ""));
+
+        CreditSimulationResponse response = service.simulate(new SimulateCreditApplicationRequest(1L,
+                List.of(new BigDecimal("5000000"), new BigDecimal("20000000")), List.of(12, 24, 60)));
+
+        verify(riskCentralPort).evaluateRisk("DOC1", Money.of(new BigDecimal("20000000")), 60);
+        assertEquals(3, response.approved());
+        assertEquals(3, response.rejected());
+        assertEquals(Decision.APPROVE, response.rows().get(0).quotes().get(2).decision());
+        assertEquals(Decision.REJECT, response.rows().get(1).quotes().get(0).decision());
+        assertEquals(60, response.rows().get(0).quotes().get(2).term());
+        assertNotNull(response.rows().get(0).quotes().get(0).debtToIncome());
+    }
+
+    @Test
+    void shouldRejectGridsAboveTheLimitBeforeCallingRiskCentral() {
+        SimulateCreditApplicationRequest request = new SimulateCreditApplicationRequest(1L,
+                List.of(BigDecimal.ONE, BigDecimal.TEN), List.of(6, 12, 24, 36));
+
+        DomainException ex = assertThrows(DomainException.class, () -> service.simulate(request));
+        assertEquals("SIMULATION_TOO_LARGE", ex.getCode());
+        verifyNoInteractions(affiliateRepository, riskCentralPort);
+    }
+}
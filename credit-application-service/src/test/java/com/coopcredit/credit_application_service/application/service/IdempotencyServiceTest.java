@@ -0,0 +1,190 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.IdempotencyRecord;
+import com.coopcredit.credit_application_service.domain.port.output.IdempotencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-03-14T10:30:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private IdempotencyRepository idempotencyRepository;
+
+    private IdempotencyService service;
+
+    private final CreateCreditApplicationRequest request =
+            new CreateCreditApplicationRequest(1L, new BigDecimal("5000000"), 12);
+
+    @BeforeEach
+    void setUp() {
+        service = new IdempotencyService(idempotencyRepository, JsonMapper.builder().build(), CLOCK,
+                Duration.ofHours(24), Duration.ofMillis(300), Duration.ofMinutes(5), 100);
+    }
+
+    @Test
+    void execute_withoutKey_alwaysRunsOperation() {
+        AtomicInteger runs = new AtomicInteger();
+
+        service.execute("credit-applications", "ana", null, request, CreditApplicationResponse.class, () -> response(runs.incrementAndGet()));
+        service.execute("credit-applications", "ana", null, request, CreditApplicationResponse.class, () -> response(runs.incrementAndGet()));
+
+        assertEquals(2, runs.get());
+        verifyNoInteractions(idempotencyRepository);
+    }
+
+    @Test
+    void execute_duplicateKey_returnsStoredResponseWithoutRerunning() {
+        AtomicInteger runs = new AtomicInteger();
+        when(idempotencyRepository.find("credit-applications/ana", "key-1")).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(true);
+
+        CreditApplicationResponse first = service.execute("credit-applications", "ana", "key-1", request,
+                CreditApplicationResponse.class, () -> response(runs.incrementAndGet()));
+        CreditApplicationResponse retry = service.execute("credit-applications", "ana", "key-1", request,
+                CreditApplicationResponse.class, () -> response(runs.incrementAndGet()));
+
+        assertEquals(1, runs.get());
+        assertEquals(first, retry);
+    }
+
+    @Test
+    void execute_keyStoredByAnotherNode_isRestoredFromRepository() {
+        CreditApplicationResponse original = response(7);
+        AtomicInteger runs = new AtomicInteger();
+        when(idempotencyRepository.find("credit-applications/ana", "key-2")).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(true);
+        service.execute("credit-applications", "ana", "key-2", request, CreditApplicationResponse.class, () -> original);
+        ArgumentCaptor<IdempotencyRecord> stored = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRepository).complete(stored.capture());
+
+        IdempotencyService otherNode = new IdempotencyService(idempotencyRepository, JsonMapper.builder().build(), CLOCK,
+                Duration.ofHours(24), Duration.ofMillis(300), Duration.ofMinutes(5), 100);
+        when(idempotencyRepository.find("credit-applications/ana", "key-2")).thenReturn(Optional.of(stored.getValue()));
+
+        CreditApplicationResponse replayed = otherNode.execute("credit-applications", "ana", "key-2", request,
+                CreditApplicationResponse.class, () -> response(runs.incrementAndGet()));
+
+        assertEquals(0, runs.get());
+        assertEquals(original, replayed);
+    }
+
+    @Test
+    void execute_sameKeyDifferentPayload_isRejected() {
+        when(idempotencyRepository.find("credit-applications/ana", "key-3")).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(true);
+        service.execute("credit-applications", "ana", "key-3", request, CreditApplicationResponse.class, () -> response(1));
+
+        CreateCreditApplicationRequest other = new CreateCreditApplicationRequest(1L, new BigDecimal("9000000"), 24);
+
+        DomainException ex = assertThrows(DomainException.class, () -> service.execute("credit-applications", "ana", "key-3",
+                other, CreditApplicationResponse.class, () -> response(2)));
+        assertEquals("IDEMPOTENCY_KEY_REUSED", ex.getCode());
+    }
+
+    @Test
+    void execute_keyClaimedByAnotherNode_waitsForItsOutcome() {
+        AtomicInteger runs = new AtomicInteger();
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        IdempotencyRecord claim = IdempotencyRecord.inProgress("credit-applications/ana", "key-4", hash(request),
+                now, now.plusMinutes(5));
+        IdempotencyRecord completed = claim.complete(JsonMapper.builder().build().writeValueAsString(response(9)),
+                now.plusHours(24));
+        when(idempotencyRepository.find("credit-applications/ana", "key-4"))
+                .thenReturn(Optional.of(claim), Optional.of(claim), Optional.of(completed));
+
+        CreditApplicationResponse replayed = service.execute("credit-applications", "ana", "key-4", request,
+                CreditApplicationResponse.class, () -> response(runs.incrementAndGet()));
+
+        assertEquals(0, runs.get());
+        assertEquals(9L, replayed.id());
+        verify(idempotencyRepository, never()).saveIfAbsent(any());
+    }
+
+    @Test
+    void execute_keyStillClaimedAfterTimeout_isRejectedWithoutRunning() {
+        AtomicInteger runs = new AtomicInteger();
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        when(idempotencyRepository.find("credit-applications/ana", "key-5")).thenReturn(Optional.of(
+                IdempotencyRecord.inProgress("credit-applications/ana", "key-5", hash(request), now, now.plusMinutes(5))));
+
+        assertThrows(ConcurrentUpdateException.class, () -> service.execute("credit-applications", "ana", "key-5",
+                request, CreditApplicationResponse.class, () -> response(runs.incrementAndGet())));
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void execute_operationFails_releasesTheClaim() {
+        when(idempotencyRepository.find("credit-applications/ana", "key-6")).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> service.execute("credit-applications", "ana", "key-6",
+                request, CreditApplicationResponse.class, () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        verify(idempotencyRepository).release("credit-applications/ana", "key-6");
+        verify(idempotencyRepository, never()).complete(any());
+    }
+
+    @Test
+    void execute_sameKeyOfAnotherUser_runsSeparately() {
+        AtomicInteger runs = new AtomicInteger();
+        when(idempotencyRepository.find(any(), eq("key-7"))).thenReturn(Optional.empty());
+        when(idempotencyRepository.saveIfAbsent(any())).thenReturn(true);
+
+        service.execute("credit-applications", "ana", "key-7", request, CreditApplicationResponse.class,
+                () -> response(runs.incrementAndGet()));
+        CreditApplicationResponse other = service.execute("credit-applications", "luis", "key-7", request,
+                CreditApplicationResponse.class, () -> response(runs.incrementAndGet()));
+
+        assertEquals(2, runs.get());
+        assertEquals(2L, other.id());
+        verify(idempotencyRepository).find("credit-applications/luis", "key-7");
+    }
+
+    private static String hash(Object request) {
+        try {
+            byte[] json = JsonMapper.builder().build().writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private CreditApplicationResponse response(long id) {
+        LocalDateTime timestamp = LocalDateTime.of(2025, 1, 9, 15, 30);
+        return new CreditApplicationResponse(id, 1L, new BigDecimal("5000000"), 12, "Aprobado",
+                LocalDate.of(2025, 1, 9), 800, "BAJO RIESGO", timestamp, timestamp);
+    }
+}
@@ -0,0 +1,66 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OptimisticRetryPolicyTest {
+
+    private PlatformTransactionManager transactionManager;
+    private OptimisticRetryPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+        policy = new OptimisticRetryPolicy(transactionManager, 3, 0);
+    }
+
+    @Test
+    void executeInTransaction_retriesConflictsUntilSuccess() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = policy.executeInTransaction(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConcurrentUpdateException("conflict");
+            }
+            return "decided";
+        });
+
+        assertEquals("decided", result);
+        assertEquals(3, attempts.get());
+        verify(transactionManager, times(3)).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void executeInTransaction_givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ConcurrentUpdateException.class, () -> policy.executeInTransaction(() -> {
+            attempts.incrementAndGet();
+            throw new ConcurrentUpdateException("conflict");
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void executeInTransaction_doesNotRetryOtherFailures() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> policy.executeInTransaction(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(1, attempts.get());
+    }
+}
@@ -0,0 +1,104 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.PortfolioStatisticsResponse;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioStatisticsServiceTest {
+
+    @Mock
+    private CreditApplicationRepository creditApplicationRepository;
+
+    @InjectMocks
+    private PortfolioStatisticsService service;
+
+    @Test
+    void recordDecision_updatesCountersAndHistograms() {
+        service.recordDecision(application(1L, "5000000", 12, CreditApplication.CreditApplicationStatus.APPROVED, 800, "BAJO RIESGO"));
+        service.recordDecision(application(2L, "15000000", 36, CreditApplication.CreditApplicationStatus.REJECTED, 600, "MEDIO RIESGO"));
+        service.recordDecision(application(3L, "2000000", 12, CreditApplication.CreditApplicationStatus.APPROVED, 700, "BAJO RIESGO"));
+
+        PortfolioStatisticsResponse stats = service.getPortfolioStatistics();
+
+        assertEquals(3, stats.totalDecisions());
+        assertEquals(2, stats.approved());
+        assertEquals(1, stats.rejected());
+        assertEquals(2.0 / 3, stats.approvalRate(), 1e-9);
+        assertEquals(700.0, stats.averageScore(), 1e-9);
+        assertEquals(2L, stats.decisionsByRiskLevel().get("BAJO RIESGO"));
+        assertEquals(1L, stats.decisionsByRiskLevel().get("MEDIO RIESGO"));
+
+        PortfolioStatisticsResponse.TermBucket twelveMonths = stats.amountDistributionByTerm().get(1);
+        assertEquals("7-12", twelveMonths.term());
+        assertEquals(2, twelveMonths.count());
+        assertEquals(new BigDecimal("7000000.00"), twelveMonths.totalAmount());
+        assertEquals(2L, twelveMonths.amountHistogram().get("1000001-5000000"));
+    }
+
+    @Test
+    void recordDecision_pendingApplicationIsIgnored() {
+        service.recordDecision(CreditApplication.create(1L, Money.of(new BigDecimal("1000")), 6, LocalDateTime.now()));
+
+        PortfolioStatisticsResponse stats = service.getPortfolioStatistics();
+
+        assertEquals(0, stats.totalDecisions());
+        assertEquals(0.0, stats.approvalRate());
+        assertNull(stats.averageScore());
+    }
+
+    @Test
+    void recordRescore_replacesTheScoreAndLevelTheDecisionWasCountedWith() {
+        service.recordDecision(application(1L, "5000000", 12, CreditApplication.CreditApplicationStatus.APPROVED, 800, "BAJO RIESGO"));
+        service.recordDecision(application(2L, "5000000", 12, CreditApplication.CreditApplicationStatus.REJECTED, 600, "MEDIO RIESGO"));
+
+        service.recordRescore(application(1L, "5000000", 12, CreditApplication.CreditApplicationStatus.APPROVED, 400, "ALTO RIESGO"),
+                800, RiskLevel.LOW);
+
+        PortfolioStatisticsResponse stats = service.getPortfolioStatistics();
+        assertEquals(2, stats.totalDecisions());
+        assertEquals(1, stats.approved());
+        assertEquals(500.0, stats.averageScore(), 1e-9);
+        assertFalse(stats.decisionsByRiskLevel().containsKey("BAJO RIESGO"));
+        assertEquals(1L, stats.decisionsByRiskLevel().get("ALTO RIESGO"));
+    }
+
+    @Test
+    void afterSingletonsInstantiated_rebuildsFromRepositoryInChunks() {
+        when(creditApplicationRepository.findChunkAfter(eq(0L), anyInt())).thenReturn(List.of(
+                application(1L, "1000000", 6, CreditApplication.CreditApplicationStatus.APPROVED, 900, "BAJO RIESGO"),
+                application(2L, "1000000", 6, CreditApplication.CreditApplicationStatus.REJECTED, 400, "ALTO RIESGO")
+        ));
+
+        service.afterSingletonsInstantiated();
+
+        PortfolioStatisticsResponse stats = service.getPortfolioStatistics();
+        assertEquals(2, stats.totalDecisions());
+        assertEquals(0.5, stats.approvalRate(), 1e-9);
+        assertEquals(1L, stats.decisionsByRiskLevel().get("ALTO RIESGO"));
+    }
+
+    private CreditApplication application(Long id, String amount, int term,
+                                          CreditApplication.CreditApplicationStatus status,
+                                          int score, String riskLevel) {
+        return CreditApplication.reconstruct(id, 1L, Money.of(new BigDecimal(amount)), term, status,
+                LocalDate.now(), score, RiskLevel.classify(riskLevel), LocalDateTime.now(), LocalDateTime.now(), 0L);
+    }
+}
@@ -0,0 +1,251 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.application.dto.RescoringJobResponse;
+import com.coopcredit.credit_application_service.domain.entity.Affiliate;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication.CreditApplicationStatus;
+import com.coopcredit.credit_application_service.domain.exception.ConcurrentUpdateException;
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RescoringJob;
+import com.coopcredit.credit_application_service.domain.model.RiskEvaluation;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.port.output.AffiliateRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import com.coopcredit.credit_application_service.domain.port.output.CreditDecisionPublisher;
+import com.coopcredit.credit_application_service.domain.port.output.RescoringJobRepository;
+import com.coopcredit.credit_application_service.domain.port.output.RiskCentralPort;
+import com.coopcredit.credit_application_service.domain.service.CreditApprovalPolicy;
+import com.coopcredit.credit_application_service.infrastructure.exception.InfrastructureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RescoringJobServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 10, 30);
+
+    @Mock
+    private CreditApplicationRepository creditApplicationRepository;
+
+    @Mock
+    private AffiliateRepository affiliateRepository;
+
+    @Mock
+    private RiskCentralPort riskCentralPort;
+
+    @Mock
+    private RescoringJobRepository rescoringJobRepository;
+
+    @Mock
+    private PortfolioStatisticsService portfolioStatisticsService;
+
+    @Mock
+    private CreditDecisionPublisher creditDecisionPublisher;
+
+    @Mock
+    private OptimisticRetryPolicy optimisticRetryPolicy;
+
+    private RescoringJobService service;
+
+    @BeforeEach
+    void setUp() {
+        AffiliateLocks affiliateLocks = new AffiliateLocks(mock(PlatformTransactionManager.class),
+                new SimpleMeterRegistry(), 16, Duration.ofSeconds(1));
+        CreditApplicationService creditApplicationService = new CreditApplicationService(affiliateRepository,
+                creditApplicationRepository, riskCentralPort, null, portfolioStatisticsService, null,
+                creditDecisionPublisher, new ApprovalRuleEngine(CreditApprovalPolicy.DEFAULT,
+                        CreditApprovalPolicy.DEFAULT_AFFORDABILITY, Clock.systemDefaultZone()), affiliateLocks, null,
+                Clock.systemDefaultZone());
+        service = new RescoringJobService(creditApplicationRepository, affiliateRepository, riskCentralPort,
+                rescoringJobRepository, creditApplicationService, portfolioStatisticsService,
+                creditDecisionPublisher, affiliateLocks, optimisticRetryPolicy,
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC), 2, 4, Duration.ofMinutes(5));
+        lenient().when(rescoringJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(optimisticRetryPolicy.executeInTransaction(any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(0).get());
+        lenient().when(creditApplicationRepository.updateAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void shouldDecidePendingApplicationsChunkByChunkAndAdvanceTheCheckpoint() {
+        when(creditApplicationRepository.findChunkAfter(eq(0L), eq(CreditApplicationStatus.PENDING), anyInt()))
+                .thenReturn(List.of(pending(3L, 1L), pending(5L, 2L)));
+        when(creditApplicationRepository.findChunkAfter(eq(5L), eq(CreditApplicationStatus.PENDING), anyInt()))
+                .thenReturn(List.of(pending(8L, 1L)));
+        when(creditApplicationRepository.findChunkAfter(eq(8L), eq(CreditApplicationStatus.PENDING), anyInt()))
+                .thenReturn(List.of());
+        when(affiliateRepository.findAllById(anyList())).thenReturn(List.of(affiliate(1L, "DOC1"), affiliate(2L, "DOC2")));
+        when(riskCentralPort.evaluateRisk(eq("DOC1"), any(), any()))
+                .thenReturn(new RiskEvaluation(800, RiskLevel.LOW, ""));
+        when(riskCentralPort.evaluateRisk(eq("DOC2"), any(), any()))
+                .thenThrow(new InfrastructureException("Error al comunicarse con el servicio de riesgo"));
+
+        RescoringJob job = service.run(job(RescoringJob.Scope.PENDING, RescoringJob.Status.RUNNING, 0, "node-a", NOW),
+                new AtomicBoolean());
+
+        assertEquals(RescoringJob.Status.COMPLETED, job.status());
+        assertEquals(8L, job.checkpoint());
+        assertEquals(3, job.processed());
+        assertEquals(2, job.decided());
+        assertEquals(1, job.failed());
+
+        // The failed evaluation is left out of the write and stays pending
+        ArgumentCaptor<List<CreditApplication>> written = ArgumentCaptor.captor();
+        verify(creditApplicationRepository, times(2)).updateAll(written.capture());
+        assertEquals(List.of(3L), written.getAllValues().get(0).stream().map(CreditApplication::getId).toList());
+        assertEquals(CreditApplicationStatus.APPROVED, written.getAllValues().get(1).get(0).getStatus());
+        verify(creditDecisionPublisher, times(2)).publish(any(), eq("DOC1"));
+    }
+
+    @Test
+    void allScopeShouldRefreshDecidedApplicationsInThePortfolioStatistics() {
+        CreditApplication decided = CreditApplication.reconstruct(3L, 1L, Money.of(new BigDecimal("1000000")), 12,
+                CreditApplicationStatus.APPROVED, LocalDate.now(), 800, RiskLevel.LOW, NOW, NOW, 0L);
+        when(creditApplicationRepository.findChunkAfter(eq(0L), anyInt())).thenReturn(List.of(decided));
+        when(creditApplicationRepository.findChunkAfter(eq(3L), anyInt())).thenReturn(List.of());
+        when(affiliateRepository.findAllById(anyList())).thenReturn(List.of(affiliate(1L, "DOC1")));
+        when(riskCentralPort.evaluateRisk(eq("DOC1"), any(), any()))
+                .thenReturn(new RiskEvaluation(400, RiskLevel.HIGH, ""));
+
+        RescoringJob job = service.run(job(RescoringJob.Scope.ALL, RescoringJob.Status.RUNNING, 0, "node-a", NOW),
+                new AtomicBoolean());
+
+        assertEquals(RescoringJob.Status.COMPLETED, job.status());
+        assertEquals(1, job.refreshed());
+        assertEquals(400, decided.getRiskScore());
+        verify(portfolioStatisticsService).recordRescore(decided, 800, RiskLevel.LOW);
+        verify(portfolioStatisticsService, never()).recordDecision(any());
+    }
+
+    @Test
+    void pendingApplicationsOfInactiveAffiliatesShouldBeSkippedWithoutARiskCall() {
+        when(creditApplicationRepository.findChunkAfter(eq(0L), eq(CreditApplicationStatus.PENDING), anyInt()))
+                .thenReturn(List.of(pending(3L, 1L)));
+        when(creditApplicationRepository.findChunkAfter(eq(3L), eq(CreditApplicationStatus.PENDING), anyInt()))
+                .thenReturn(List.of());
+        when(affiliateRepository.findAllById(anyList())).thenReturn(List.of(
+                affiliate(1L, "DOC1", Affiliate.AffiliateStatus.INACTIVE)));
+
+        RescoringJob job = service.run(job(RescoringJob.Scope.PENDING, RescoringJob.Status.RUNNING, 0, "node-a", NOW),
+                new AtomicBoolean());
+
+        assertEquals(RescoringJob.Status.COMPLETED, job.status());
+        assertEquals(3L, job.checkpoint());
+        assertEquals(1, job.processed());
+        assertEquals(0, job.decided());
+        assertEquals(1, job.skipped());
+        verifyNoInteractions(riskCentralPort, creditDecisionPublisher);
+    }
+
+    @Test
+    void stoppedJobShouldKeepItsCheckpoint() {
+        AtomicBoolean stopRequested = new AtomicBoolean(true);
+
+        RescoringJob job = service.run(job(RescoringJob.Scope.ALL, RescoringJob.Status.RUNNING, 42, "node-a", NOW),
+                stopRequested);
+
+        assertEquals(RescoringJob.Status.STOPPED, job.status());
+        assertEquals(42L, job.checkpoint());
+        verifyNoInteractions(creditApplicationRepository, riskCentralPort);
+    }
+
+    @Test
+    void stopFromAnotherNodeShouldNotBeOverwrittenByTheRunner() {
+        RescoringJob running = job(RescoringJob.Scope.PENDING, RescoringJob.Status.RUNNING, 0, "node-a", NOW);
+        RescoringJob stopped = running.withStatus(RescoringJob.Status.STOPPED, null, NOW);
+        when(creditApplicationRepository.findChunkAfter(eq(0L), eq(CreditApplicationStatus.PENDING), anyInt()))
+                .thenReturn(List.of(pending(3L, 1L)));
+        when(affiliateRepository.findAllById(anyList())).thenReturn(List.of(affiliate(1L, "DOC1")));
+        when(riskCentralPort.evaluateRisk(eq("DOC1"), any(), any()))
+                .thenReturn(new RiskEvaluation(800, RiskLevel.LOW, ""));
+        when(rescoringJobRepository.save(any()))
+                .thenThrow(new ConcurrentUpdateException("El trabajo de re-evaluación 7 fue modificado por otra operación"));
+        when(rescoringJobRepository.findById(7L)).thenReturn(Optional.of(stopped));
+
+        RescoringJob job = service.run(running, new AtomicBoolean());
+
+        assertEquals(RescoringJob.Status.STOPPED, job.status());
+        // Only the checkpoint write was attempted: no COMPLETED or STOPPED written over the other node's stop
+        verify(rescoringJobRepository, times(1)).save(any());
+    }
+
+    @Test
+    void resumeShouldBeRejectedWhileAnotherNodeHeartbeats() {
+        when(rescoringJobRepository.findById(7L)).thenReturn(Optional.of(
+                job(RescoringJob.Scope.ALL, RescoringJob.Status.RUNNING, 42, "node-b", NOW.minusMinutes(1))));
+
+        DomainException ex = assertThrows(DomainException.class, () -> service.resume(7L));
+
+        assertEquals("RESCORING_JOB_RUNNING", ex.getCode());
+        verify(rescoringJobRepository, never()).save(any());
+    }
+
+    @Test
+    void resumeShouldTakeOverAJobWhoseNodeStoppedHeartbeating() throws InterruptedException {
+        when(rescoringJobRepository.findById(7L)).thenReturn(Optional.of(
+                job(RescoringJob.Scope.ALL, RescoringJob.Status.RUNNING, 42, "node-b", NOW.minusMinutes(10))));
+
+        RescoringJobResponse response = service.resume(7L);
+        service.destroy();
+
+        assertTrue(response.active());
+        assertNotEquals("node-b", response.owner());
+        assertEquals(42L, response.checkpoint());
+    }
+
+    @Test
+    void stopShouldStopAJobRunningOnAnotherNode() {
+        when(rescoringJobRepository.findById(7L)).thenReturn(Optional.of(
+                job(RescoringJob.Scope.ALL, RescoringJob.Status.RUNNING, 42, "node-b", NOW.minusMinutes(1))));
+
+        RescoringJobResponse response = service.stop(7L);
+
+        assertEquals(RescoringJob.Status.STOPPED, response.status());
+        assertEquals(42L, response.checkpoint());
+    }
+
+    private static RescoringJob job(RescoringJob.Scope scope, RescoringJob.Status status, long checkpoint,
+                                    String owner, LocalDateTime heartbeatAt) {
+        return new RescoringJob(7L, scope, status, checkpoint, checkpoint, 0, checkpoint, 0, 0, 1000, null,
+                NOW.minusHours(1), heartbeatAt, null, owner, heartbeatAt, 3L);
+    }
+
+    private static CreditApplication pending(Long id, long affiliateId) {
+        return CreditApplication.reconstruct(id, affiliateId, Money.of(new BigDecimal("1000000")), 12,
+                CreditApplicationStatus.PENDING, LocalDate.now(), null, null, NOW, NOW, 0L);
+    }
+
+    private static Affiliate affiliate(Long id, String document) {
+        return affiliate(id, document, Affiliate.AffiliateStatus.ACTIVE);
+    }
+
+    private static Affiliate affiliate(Long id, String document, Affiliate.AffiliateStatus status) {
+        return Affiliate.reconstruct(id, "Afiliado " + id, Money.of(new BigDecimal("5000000")),
+                LocalDate.now().minusYears(1), status, null, null, document, 0L);
+    }
+}
@@ -0,0 +1,49 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RiskRetryPolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 10, 30);
+
+    private final RiskRetryPolicy policy = new RiskRetryPolicy(Duration.ofSeconds(30), Duration.ofMinutes(30), 12);
+
+    @Test
+    void delay_doublesPerAttemptUpToTheMaximum() {
+        assertEquals(30_000, policy.delayMs(1));
+        assertEquals(60_000, policy.delayMs(2));
+        assertEquals(120_000, policy.delayMs(3));
+        assertEquals(1_800_000, policy.delayMs(8));
+        assertEquals(1_800_000, policy.delayMs(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void nextAttempt_isJitteredWithinTheUpperHalfOfTheDelay() {
+        for (int i = 0; i < 1000; i++) {
+            LocalDateTime next = policy.nextAttempt(3, NOW);
+            assertFalse(next.isBefore(NOW.plusSeconds(60)), next::toString);
+            assertFalse(next.isAfter(NOW.plusSeconds(120)), next::toString);
+        }
+    }
+
+    @Test
+    void nextAttempt_afterMaxAttempts_isNull() {
+        assertNotNull(policy.nextAttempt(11, NOW));
+        assertNull(policy.nextAttempt(12, NOW));
+    }
+
+    @Test
+    void constructor_invalidSettings_shouldThrow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RiskRetryPolicy(Duration.ZERO, Duration.ofMinutes(1), 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RiskRetryPolicy(Duration.ofMinutes(2), Duration.ofMinutes(1), 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RiskRetryPolicy(Duration.ofSeconds(1), Duration.ofMinutes(1), 0));
+    }
+}
@@ -0,0 +1,110 @@
+package com.coopcredit.credit_application_service.application.service;
+
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.port.output.CreditApplicationRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RiskRetryWorkerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 10, 30);
+
+    private final CreditApplicationRepository creditApplicationRepository = mock(CreditApplicationRepository.class);
+    private final CreditApplicationService creditApplicationService = mock(CreditApplicationService.class);
+    private final Clock clock = mock(Clock.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void retryDue_countsEveryOutcomeAndKeepsGoingAfterAFailure() {
+        fixedClock();
+        RiskRetryWorker worker = worker(10, Duration.ofMinutes(2));
+        when(creditApplicationRepository.claimDueRiskRetries(NOW, NOW.plusMinutes(2), 10))
+                .thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(creditApplicationService.retryRiskEvaluation(1L))
+                .thenReturn(application(1L, CreditApplication.CreditApplicationStatus.APPROVED, null));
+        when(creditApplicationService.retryRiskEvaluation(2L)).thenThrow(new IllegalStateException("Unexpected row"));
+        when(creditApplicationService.retryRiskEvaluation(3L))
+                .thenReturn(application(3L, CreditApplication.CreditApplicationStatus.PENDING, NOW.plusMinutes(1)));
+        when(creditApplicationService.retryRiskEvaluation(4L))
+                .thenReturn(application(4L, CreditApplication.CreditApplicationStatus.PENDING, null));
+
+        assertEquals(5, worker.retryDue());
+
+        verify(creditApplicationService).retryRiskEvaluation(5L);
+        assertEquals(1, attempts("decided"));
+        assertEquals(1, attempts("deferred"));
+        assertEquals(1, attempts("exhausted"));
+    }
+
+    @Test
+    void retryDue_leaseRunningOut_leavesTheRestUnprocessed() {
+        // Three calls of up to two seconds each fit exactly in the six second lease
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(
+                NOW.toInstant(ZoneOffset.UTC),
+                NOW.toInstant(ZoneOffset.UTC),
+                NOW.plusSeconds(5).toInstant(ZoneOffset.UTC));
+        RiskRetryWorker worker = worker(3, Duration.ofSeconds(6));
+        when(creditApplicationRepository.claimDueRiskRetries(NOW, NOW.plusSeconds(6), 3))
+                .thenReturn(List.of(1L, 2L, 3L));
+
+        worker.retryDue();
+
+        verify(creditApplicationService).retryRiskEvaluation(1L);
+        verify(creditApplicationService, never()).retryRiskEvaluation(2L);
+        verify(creditApplicationService, never()).retryRiskEvaluation(3L);
+    }
+
+    @Test
+    void retryDue_nothingDue_shouldNotRetry() {
+        fixedClock();
+        RiskRetryWorker worker = worker(10, Duration.ofMinutes(2));
+        when(creditApplicationRepository.claimDueRiskRetries(NOW, NOW.plusMinutes(2), 10)).thenReturn(List.of());
+
+        assertEquals(0, worker.retryDue());
+        verify(creditApplicationService, never()).retryRiskEvaluation(anyLong());
+    }
+
+    @Test
+    void constructor_leaseShorterThanTheBatchTimeouts_shouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> worker(61, Duration.ofMinutes(2)));
+        assertThrows(IllegalArgumentException.class, () -> worker(0, Duration.ofMinutes(2)));
+        assertDoesNotThrow(() -> worker(60, Duration.ofMinutes(2)));
+    }
+
+    private RiskRetryWorker worker(int batchSize, Duration lease) {
+        return new RiskRetryWorker(creditApplicationRepository, creditApplicationService, clock, meterRegistry,
+                batchSize, lease, Duration.ofSeconds(1), Duration.ofSeconds(1));
+    }
+
+    private void fixedClock() {
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(NOW.toInstant(ZoneOffset.UTC));
+    }
+
+    private double attempts(String outcome) {
+        return meterRegistry.get("risk.retry.attempts").tag("outcome", outcome).counter().count();
+    }
+
+    private static CreditApplication application(Long id, CreditApplication.CreditApplicationStatus status,
+                                                 LocalDateTime nextRiskAttemptAt) {
+        return CreditApplication.reconstruct(id, 1L, Money.of(new BigDecimal("5000000")), 12, status,
+                NOW.toLocalDate(), null, null, NOW, NOW, 1L, 2, nextRiskAttemptAt);
+    }
+}
@@ -0,0 +1,83 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.service.AffordabilityCalculator;
+import com.coopcredit.credit_application_service.domain.service.CreditApprovalPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one debt-to-income computation: precomputed annuity factor table against
+ * computing the factor per quote, with doubles (Math.pow) and with BigDecimal.
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.coopcredit.credit_application_service.benchmark.AffordabilityBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AffordabilityBenchmark {
+
+    private static final long AMOUNT = 1_500_000_000L;
+    private static final long SALARY = 350_000_000L;
+
+    private AffordabilityCalculator calculator;
+    private int term;
+
+    @Setup
+    public void setUp() {
+        calculator = CreditApprovalPolicy.DEFAULT_AFFORDABILITY;
+        term = 48;
+    }
+
+    @Benchmark
+    public int table() {
+        return calculator.debtToIncomeBasisPoints(RiskLevel.MEDIUM, AMOUNT, term, SALARY);
+    }
+
+    @Benchmark
+    public int pow() {
+        double r = 0.26 / 12;
+        long installment = Math.round(AMOUNT * (r / (1 - Math.pow(1 + r, -term))));
+        return (int) ((installment * 10_000 + SALARY - 1) / SALARY);
+    }
+
+    @Benchmark
+    public int bigDecimal() {
+        BigDecimal r = new BigDecimal("0.26").divide(BigDecimal.valueOf(12), MathContext.DECIMAL64);
+        BigDecimal discount = BigDecimal.ONE.subtract(
+                BigDecimal.ONE.divide(BigDecimal.ONE.add(r).pow(term), MathContext.DECIMAL64));
+        BigDecimal installment = BigDecimal.valueOf(AMOUNT).multiply(r).divide(discount, MathContext.DECIMAL64)
+                .setScale(0, RoundingMode.HALF_UP);
+        return installment.movePointRight(4).divide(BigDecimal.valueOf(SALARY), 0, RoundingMode.CEILING).intValue();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AffordabilityBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
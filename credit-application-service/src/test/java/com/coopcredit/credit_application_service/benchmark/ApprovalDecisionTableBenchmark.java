@@ -0,0 +1,85 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.domain.model.AffordabilityQuote;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule.Decision;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import com.coopcredit.credit_application_service.domain.service.ApprovalDecisionTable;
+import com.coopcredit.credit_application_service.domain.service.CreditApprovalPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one approval decision as the decision table grows.
+ * {@code rules = 0} is the built-in two-rule table; otherwise the table holds that many
+ * medium-risk rules with disjoint amount bands and the evaluated application matches none,
+ * so every rule of its risk level is scanned before the default applies (worst case).
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.coopcredit.credit_application_service.benchmark.ApprovalDecisionTableBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApprovalDecisionTableBenchmark {
+
+    @Param({"0", "12", "48"})
+    private int rules;
+
+    private ApprovalDecisionTable table;
+    private Money amount;
+    private Money salary;
+
+    @Setup
+    public void setUp() {
+        if (rules == 0) {
+            table = CreditApprovalPolicy.DEFAULT;
+        } else {
+            List<ApprovalRule> generated = new ArrayList<>();
+            for (int i = 0; i < rules; i++) {
+                generated.add(new ApprovalRule("banda-" + i, RiskLevel.MEDIUM,
+                        BigDecimal.valueOf(i * 1_000_000L), BigDecimal.valueOf((i + 1) * 1_000_000L),
+                        6, 60, new BigDecimal("2000000"), 12, null, null, i % 2 == 0 ? Decision.APPROVE : Decision.REJECT));
+            }
+            table = ApprovalDecisionTable.compile(generated, Decision.APPROVE);
+        }
+        amount = Money.of(new BigDecimal("9500000.00"));
+        salary = Money.of(new BigDecimal("1500000"));
+    }
+
+    @Benchmark
+    public ApprovalRule decide() {
+        return table.match(RiskLevel.classify("MEDIO RIESGO"), amount, 36, salary, 30, AffordabilityQuote.UNKNOWN_DEBT_TO_INCOME);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ApprovalDecisionTableBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,52 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Retained heap of one million decided credit applications, as a cache holding them would keep
+ * them: each is created, evaluated and approved in one operation, then persisted (id and
+ * version assigned). Prints the per-instance layout and the footprint of the whole graph by class.
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.args=-Xmx4g \
+ *     -Dexec.mainClass=com.coopcredit.credit_application_service.benchmark.CreditApplicationFootprint
+ * </pre>
+ */
+public final class CreditApplicationFootprint {
+
+    private static final int APPLICATIONS = 1_000_000;
+
+    private CreditApplicationFootprint() {
+    }
+
+    public static void main(String[] args) {
+        Clock clock = Clock.systemDefaultZone();
+        Random random = new Random(42);
+        RiskLevel[] levels = {RiskLevel.HIGH, RiskLevel.MEDIUM, RiskLevel.LOW};
+
+        List<CreditApplication> applications = new ArrayList<>(APPLICATIONS);
+        for (int i = 0; i < APPLICATIONS; i++) {
+            LocalDateTime now = LocalDateTime.now(clock);
+            CreditApplication app = CreditApplication.create(1 + random.nextInt(50_000),
+                    Money.ofMinor(100_000 + random.nextInt(1_000_000_000)), 6 + random.nextInt(60), now);
+            app.updateRiskEvaluation(300 + random.nextInt(600), levels[random.nextInt(levels.length)], now);
+            app.approve(now);
+            applications.add(CreditApplication.reconstruct((long) i + 1, app.getAffiliateId(), app.getAmount(),
+                    app.getTerm(), app.getStatus(), app.getSubmissionDate(), app.getRiskScore(),
+                    app.getRiskLevel(), app.getCreatedAt(), app.getUpdatedAt(), 0L));
+        }
+
+        System.out.println(ClassLayout.parseClass(CreditApplication.class).toPrintable());
+        System.out.println(GraphLayout.parseInstance(applications).toFootprint());
+    }
+}
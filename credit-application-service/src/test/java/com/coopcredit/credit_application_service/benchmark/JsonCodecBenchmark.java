@@ -0,0 +1,97 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.application.dto.AffiliateResponse;
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
+import com.coopcredit.credit_application_service.infrastructure.json.HotPathJsonModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-object cost of the hot-path DTO codecs against Jackson's reflective bean (de)serializers.
+ * <ul>
+ *     <li>{@code codec = reflective}: plain JsonMapper, as before</li>
+ *     <li>{@code codec = handWritten}: JsonMapper with {@link HotPathJsonModule}</li>
+ * </ul>
+ * The GC profiler reports bytes allocated per object ({@code gc.alloc.rate.norm}).
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.coopcredit.credit_application_service.benchmark.JsonCodecBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    @Param({"reflective", "handWritten"})
+    private String codec;
+
+    private JsonMapper jsonMapper;
+    private CreditApplicationResponse application;
+    private AffiliateResponse affiliate;
+    private byte[] createRequest;
+
+    @Setup
+    public void setUp() {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if ("handWritten".equals(codec)) {
+            builder.addModule(new HotPathJsonModule());
+        }
+        jsonMapper = builder.build();
+
+        LocalDateTime now = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+        application = new CreditApplicationResponse(1024L, 42L, new BigDecimal("15000000.00"), 36, "Aprobado",
+                now.toLocalDate(), 742, "RIESGO BAJO", now, now);
+        affiliate = new AffiliateResponse(42L, "María Fernanda Gómez", "1098765432", new BigDecimal("4850000.00"),
+                LocalDate.of(2019, 8, 1), "ACTIVO", now, now);
+        createRequest = "{\"affiliateId\":42,\"amount\":15000000.00,\"term\":36}".getBytes();
+    }
+
+    @Benchmark
+    public byte[] writeCreditApplication() {
+        return jsonMapper.writeValueAsBytes(application);
+    }
+
+    @Benchmark
+    public byte[] writeAffiliate() {
+        return jsonMapper.writeValueAsBytes(affiliate);
+    }
+
+    @Benchmark
+    public CreateCreditApplicationRequest readCreateRequest() {
+        return jsonMapper.readValue(createRequest, CreateCreditApplicationRequest.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,105 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import com.coopcredit.credit_application_service.infrastructure.security.jwt.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication cost of the JWT filter.
+ * <ul>
+ *     <li>{@code legacyThreeParses}: previous filter path (validate, extract username, extract role),
+ *     each building a new parser and decoding the key</li>
+ *     <li>{@code singleParse}: one parse with the prebuilt parser, cache disabled</li>
+ *     <li>{@code cachedVerify}: one parse on first use, cache hits afterwards</li>
+ * </ul>
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.coopcredit.credit_application_service.benchmark.JwtAuthenticationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "c21va2UtdGVzdC1zZWNyZXQta2V5LXdpdGgtZW5vdWdoLWJ5dGVzLWZvci1oczI1Ng==";
+
+    private JwtService uncachedService;
+    private JwtService cachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        uncachedService = new JwtService(SECRET, 3_600_000L, 0);
+        cachedService = new JwtService(SECRET, 3_600_000L, 10_000);
+        token = cachedService.generateToken("analyst@coopcredit.com", "ROLE_ANALISTA");
+    }
+
+    @Benchmark
+    public void legacyThreeParses(Blackhole blackhole) {
+        if (legacyValidate(token)) {
+            blackhole.consume(legacyClaims(token).getSubject());
+            blackhole.consume(legacyClaims(token).get("role", String.class));
+        }
+    }
+
+    @Benchmark
+    public void singleParse(Blackhole blackhole) {
+        blackhole.consume(uncachedService.verify(token));
+    }
+
+    @Benchmark
+    public void cachedVerify(Blackhole blackhole) {
+        blackhole.consume(cachedService.verify(token));
+    }
+
+    private static boolean legacyValidate(String token) {
+        try {
+            legacyClaims(token);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacyKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static Key legacyKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
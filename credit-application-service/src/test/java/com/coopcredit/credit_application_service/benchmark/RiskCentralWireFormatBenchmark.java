@@ -0,0 +1,99 @@
+package com.coopcredit.credit_application_service.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codec cost of the Risk Central exchange per wire format (risk-central.media-type).
+ * The records mirror the documents both services exchange: the evaluation request the
+ * client writes, and the evaluation response it reads.
+ * {@link #main} prints the encoded size of each document before running.
+ * Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.coopcredit.credit_application_service.benchmark.RiskCentralWireFormatBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RiskCentralWireFormatBenchmark {
+
+    public record EvaluationRequest(String document, BigDecimal amount, Integer term) {}
+
+    public record EvaluationResponse(String document, Integer score, String riskLevel, String detail,
+                                     LocalDateTime evaluatedAt) {}
+
+    private static final EvaluationRequest REQUEST =
+            new EvaluationRequest("1098765432", new BigDecimal("15000000.00"), 36);
+    private static final EvaluationResponse RESPONSE = new EvaluationResponse("1098765432", 742, "BAJO RIESGO",
+            "El solicitante presenta bajo riesgo de incumplimiento. Se aprueba el crédito",
+            LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000));
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private byte[] encodedResponse;
+
+    @Setup
+    public void setUp() {
+        mapper = mapper(format);
+        encodedResponse = mapper.writeValueAsBytes(RESPONSE);
+    }
+
+    @Benchmark
+    public byte[] writeRequest() {
+        return mapper.writeValueAsBytes(REQUEST);
+    }
+
+    @Benchmark
+    public EvaluationResponse readResponse() {
+        return mapper.readValue(encodedResponse, EvaluationResponse.class);
+    }
+
+    private static ObjectMapper mapper(String format) {
+        return switch (format) {
+            case "cbor" -> CBORMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+            case "smile" -> SmileMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+            default -> JsonMapper.builder().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES).build();
+        };
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (String format : new String[]{"json", "cbor", "smile"}) {
+            ObjectMapper mapper = mapper(format);
+            System.out.printf("%-5s request %3d bytes, response %3d bytes%n", format,
+                    mapper.writeValueAsBytes(REQUEST).length, mapper.writeValueAsBytes(RESPONSE).length);
+        }
+        new Runner(new OptionsBuilder()
+                .include(RiskCentralWireFormatBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,36 @@
+package com.coopcredit.credit_application_service.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void shouldConvertExactlyToAndFromCents() {
+        Money money = Money.of(new BigDecimal("10000000.5"));
+
+        assertEquals(1_000_000_050L, money.minorUnits());
+        assertEquals(10_000_000L, money.wholeUnits());
+        assertEquals(new BigDecimal("10000000.50"), money.toBigDecimal());
+        assertEquals(Money.of(new BigDecimal("10000000.50")), money);
+    }
+
+    @Test
+    void shouldRejectAmountsThatAreNotWholeCents() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("0.001")));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1E+20")));
+        assertThrows(IllegalArgumentException.class, () -> Money.of(null));
+    }
+
+    @Test
+    void arithmeticShouldFailInsteadOfWrapping() {
+        Money max = Money.ofMinor(Long.MAX_VALUE);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1)));
+        assertThrows(ArithmeticException.class, () -> max.times(2));
+        assertEquals(Money.ofMinor(Long.MAX_VALUE - 1), max.minus(Money.ofMinor(1)));
+    }
+}
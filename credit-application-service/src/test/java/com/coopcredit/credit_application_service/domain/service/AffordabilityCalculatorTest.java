@@ -0,0 +1,63 @@
+package com.coopcredit.credit_application_service.domain.service;
+
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.AffordabilityQuote;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AffordabilityCalculatorTest {
+
+    private static final AffordabilityCalculator CALCULATOR = AffordabilityCalculator.of(
+            Map.of(RiskLevel.HIGH, new BigDecimal("0.32"), RiskLevel.LOW, new BigDecimal("0.18")), 120);
+
+    @Test
+    void installmentShouldMatchTheExactAnnuityFormula() {
+        long amount = 1_500_000_000L;
+        for (int term : new int[] {1, 12, 36, 120, 240}) {
+            BigDecimal r = new BigDecimal("0.18").divide(BigDecimal.valueOf(12), MathContext.DECIMAL128);
+            BigDecimal discount = BigDecimal.ONE.subtract(
+                    BigDecimal.ONE.divide(BigDecimal.ONE.add(r).pow(term), MathContext.DECIMAL128));
+            long expected = BigDecimal.valueOf(amount).multiply(r).divide(discount, MathContext.DECIMAL128)
+                    .setScale(0, RoundingMode.HALF_UP).longValueExact();
+
+            assertEquals(expected, CALCULATOR.monthlyInstallmentMinor(RiskLevel.LOW, amount, term), "term " + term);
+        }
+    }
+
+    @Test
+    void quoteShouldAddUpAndChargeMissingLevelsTheHighestRate() {
+        AffordabilityQuote quote = CALCULATOR.quote(RiskLevel.UNCLASSIFIED,
+                Money.of(new BigDecimal("10000000")), 24, Money.of(new BigDecimal("2500000")));
+
+        assertEquals(new BigDecimal("0.32"), quote.annualRate());
+        assertEquals(quote.monthlyInstallment().times(24), quote.totalPayment());
+        assertEquals(quote.totalPayment().minus(Money.of(new BigDecimal("10000000"))), quote.totalInterest());
+        assertTrue(quote.hasDebtToIncome());
+    }
+
+    @Test
+    void quoteBeyondTheLongRangeShouldBeADomainError() {
+        DomainException ex = assertThrows(DomainException.class, () -> CALCULATOR.quote(RiskLevel.HIGH,
+                Money.of(new BigDecimal("9999999999999.99")), Integer.MAX_VALUE, null));
+
+        assertEquals("QUOTE_OUT_OF_RANGE", ex.getCode());
+    }
+
+    @Test
+    void debtToIncomeShouldRoundUpAndBeUnknownWithoutSalary() {
+        AffordabilityCalculator zeroRate = AffordabilityCalculator.of(Map.of(RiskLevel.LOW, BigDecimal.ZERO), 12);
+
+        assertEquals(3334, zeroRate.debtToIncomeBasisPoints(RiskLevel.LOW, 1_000_000L, 1, 3_000_000L));
+        assertEquals(AffordabilityQuote.UNKNOWN_DEBT_TO_INCOME,
+                zeroRate.debtToIncomeBasisPoints(RiskLevel.LOW, 1_000_000L, 1, 0));
+        assertThrows(DomainException.class, () -> AffordabilityCalculator.of(Map.of(), 12));
+    }
+}
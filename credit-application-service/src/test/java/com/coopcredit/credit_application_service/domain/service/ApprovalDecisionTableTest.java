@@ -0,0 +1,110 @@
+package com.coopcredit.credit_application_service.domain.service;
+
+import com.coopcredit.credit_application_service.domain.exception.DomainException;
+import com.coopcredit.credit_application_service.domain.model.AffordabilityQuote;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule;
+import com.coopcredit.credit_application_service.domain.model.ApprovalRule.Decision;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApprovalDecisionTableTest {
+
+    private static final BigDecimal SALARY_FLOOR = new BigDecimal("3000000");
+    private static final Money SALARY = Money.of(SALARY_FLOOR);
+    private static final Money AMOUNT = Money.of(new BigDecimal("15000000"));
+    private static final int UNKNOWN = AffordabilityQuote.UNKNOWN_DEBT_TO_INCOME;
+
+    @Test
+    void defaultTableShouldKeepTheBuiltInRules() {
+        ApprovalDecisionTable table = CreditApprovalPolicy.DEFAULT;
+
+        assertEquals(Decision.REJECT, decide(table, RiskLevel.classify("ALTO RIESGO"), "1000", 12, 0));
+        assertEquals(Decision.APPROVE, decide(table, RiskLevel.classify("MEDIO RIESGO"), "10000000", 12, 0));
+        assertEquals(Decision.REJECT, decide(table, RiskLevel.classify("MEDIO RIESGO"), "10000000.01", 12, 0));
+        assertEquals(Decision.APPROVE, decide(table, RiskLevel.classify("BAJO RIESGO"), "90000000", 12, 0));
+        assertEquals(Decision.APPROVE, decide(table, RiskLevel.classify("SIN DATOS"), "90000000", 12, 0));
+    }
+
+    @Test
+    void firstMatchingRuleShouldDecideUsingAffiliateAttributes() {
+        ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(
+                new ApprovalRule("medio-antiguo", RiskLevel.MEDIUM, null, new BigDecimal("20000000"), null, 60,
+                        SALARY_FLOOR, 24, null, null, Decision.APPROVE),
+                new ApprovalRule("medio", RiskLevel.MEDIUM, null, null, null, null, null, null, null, null,
+                        Decision.REJECT)
+        ), Decision.APPROVE);
+
+        assertEquals("medio-antiguo", table.match(RiskLevel.MEDIUM, AMOUNT, 36, SALARY, 24, UNKNOWN).name());
+        assertEquals("medio", table.match(RiskLevel.MEDIUM, AMOUNT, 36, SALARY, 23, UNKNOWN).name());
+        assertEquals("medio", table.match(RiskLevel.MEDIUM, AMOUNT, 72, SALARY, 24, UNKNOWN).name());
+        assertEquals("medio", table.match(RiskLevel.MEDIUM, AMOUNT, 36, null, 24, UNKNOWN).name());
+        assertEquals("default", table.match(RiskLevel.LOW, AMOUNT, 36, SALARY, 0, UNKNOWN).name());
+    }
+
+    @Test
+    void shouldRejectRulesWithEmptyBands() {
+        List<ApprovalRule> rules = List.of(new ApprovalRule("vacia", null, new BigDecimal("5"), new BigDecimal("5"),
+                null, null, null, null, null, null, Decision.REJECT));
+
+        DomainException ex = assertThrows(DomainException.class,
+                () -> ApprovalDecisionTable.compile(rules, Decision.APPROVE));
+        assertEquals("INVALID_APPROVAL_RULES", ex.getCode());
+    }
+
+    @Test
+    void shouldRejectBoundsFinerThanACent() {
+        List<ApprovalRule> rules = List.of(new ApprovalRule("fraccion", null, new BigDecimal("1000.005"), null,
+                null, null, null, null, null, null, Decision.REJECT));
+
+        DomainException ex = assertThrows(DomainException.class,
+                () -> ApprovalDecisionTable.compile(rules, Decision.APPROVE));
+        assertEquals("INVALID_APPROVAL_RULES", ex.getCode());
+    }
+
+    @Test
+    void debtToIncomeBandsShouldUseTheConfiguredRates() {
+        ApprovalDecisionTable table = ApprovalDecisionTable.compile(List.of(
+                new ApprovalRule("endeudado", null, null, null, null, null, null, null,
+                        new BigDecimal("0.40"), null, Decision.REJECT)
+        ), Decision.APPROVE);
+        AffordabilityCalculator zeroRate = AffordabilityCalculator.of(
+                Map.of(RiskLevel.LOW, BigDecimal.ZERO), AffordabilityCalculator.DEFAULT_TABULATED_TERMS);
+
+        // 12,000,000 over 10 months at 0% is 1,200,000 a month: exactly 40% of 3,000,000
+        assertEquals("default", table.match(RiskLevel.LOW, Money.of(new BigDecimal("12000000")), 10, SALARY, 0,
+                zeroRate.debtToIncomeBasisPoints(RiskLevel.LOW, 1_200_000_000L, 10, SALARY.minorUnits())).name());
+        assertEquals("endeudado", table.match(RiskLevel.LOW, AMOUNT, 10, SALARY, 0,
+                zeroRate.debtToIncomeBasisPoints(RiskLevel.LOW, 1_200_000_010L, 10, SALARY.minorUnits())).name());
+        assertEquals("endeudado", table.match(RiskLevel.LOW, AMOUNT, 10, null, 0, UNKNOWN).name());
+    }
+
+    @Test
+    void shouldRejectRatiosFinerThanABasisPoint() {
+        List<ApprovalRule> rules = List.of(new ApprovalRule("fraccion", null, null, null, null, null, null, null,
+                null, new BigDecimal("0.40005"), Decision.REJECT));
+
+        DomainException ex = assertThrows(DomainException.class,
+                () -> ApprovalDecisionTable.compile(rules, Decision.APPROVE));
+        assertEquals("INVALID_APPROVAL_RULES", ex.getCode());
+    }
+
+    @Test
+    void seniorityShouldCountWholeMonths() {
+        assertEquals(11, ApprovalDecisionTable.seniorityMonths(LocalDate.of(2024, 3, 15), LocalDate.of(2025, 3, 14)));
+        assertEquals(12, ApprovalDecisionTable.seniorityMonths(LocalDate.of(2024, 3, 15), LocalDate.of(2025, 3, 15)));
+        assertEquals(-1, ApprovalDecisionTable.seniorityMonths(null, LocalDate.of(2025, 3, 15)));
+    }
+
+    private static Decision decide(ApprovalDecisionTable table, RiskLevel level, String amount, int term,
+                                   int seniorityMonths) {
+        return table.match(level, Money.of(new BigDecimal(amount)), term, SALARY, seniorityMonths, UNKNOWN).decision();
+    }
+}
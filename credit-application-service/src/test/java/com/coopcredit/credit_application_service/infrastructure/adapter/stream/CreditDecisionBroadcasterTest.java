@@ -0,0 +1,150 @@
+package com.coopcredit.credit_application_service.infrastructure.adapter.stream;
+
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapperImpl;
+import com.coopcredit.credit_application_service.domain.entity.CreditApplication;
+import com.coopcredit.credit_application_service.domain.model.Money;
+import com.coopcredit.credit_application_service.domain.model.RiskLevel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreditDecisionBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private CreditDecisionBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        broadcaster = new CreditDecisionBroadcaster(new CreditApplicationMapperImpl(), JsonMapper.builder().build(),
+                meterRegistry, 2, 10, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.destroy();
+    }
+
+    @Test
+    void shouldDeliverOnlyDecisionsMatchingTheDocumentFilter() throws InterruptedException {
+        RecordingEmitter all = new RecordingEmitter(null);
+        RecordingEmitter onlyDoc2 = new RecordingEmitter(null);
+        broadcaster.register(null, all);
+        broadcaster.register("DOC2", onlyDoc2);
+
+        broadcaster.publish(decided(1L), "DOC1");
+        all.awaitDecisions(1);
+        broadcaster.publish(decided(2L), "DOC2");
+
+        all.awaitDecisions(2);
+        onlyDoc2.awaitDecisions(1);
+        assertTrue(onlyDoc2.decisions().getFirst().contains("\"affiliateDocument\":\"DOC2\""));
+        assertTrue(onlyDoc2.decisions().getFirst().contains("event:credit-decision"));
+    }
+
+    @Test
+    void shouldPublishOnlyAfterCommit() throws InterruptedException {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        broadcaster.register(null, emitter);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            broadcaster.publish(decided(1L), "DOC1");
+            Thread.sleep(100);
+            assertTrue(emitter.decisions().isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        emitter.awaitDecisions(1);
+    }
+
+    @Test
+    void shouldDropSlowSubscriberWithoutAffectingOthers() throws InterruptedException {
+        CountDownLatch stalled = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(stalled);
+        RecordingEmitter fast = new RecordingEmitter(null);
+        broadcaster.register(null, slow);
+        broadcaster.register(null, fast);
+
+        // Paced so only the stalled subscriber can fall behind its two-event buffer
+        for (int id = 1; id <= 5; id++) {
+            broadcaster.publish(decided((long) id), "DOC1");
+            fast.awaitDecisions(id);
+        }
+
+        assertTrue(slow.completed.await(2, TimeUnit.SECONDS));
+        assertEquals(1, broadcaster.subscriberCount());
+        assertEquals(1.0, meterRegistry.get("credit.decisions.stream.dropped").counter().count());
+        stalled.countDown();
+    }
+
+    private static CreditApplication decided(Long id) {
+        return CreditApplication.reconstruct(id, 1L, Money.of(new BigDecimal("1000000")), 12,
+                CreditApplication.CreditApplicationStatus.APPROVED, LocalDate.now(), 800, RiskLevel.LOW,
+                LocalDateTime.now(), LocalDateTime.now(), 0L);
+    }
+
+    /**
+     * Emitter that records what would be written to the client, optionally stalling every write
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch stall;
+        private final List<String> written = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        RecordingEmitter(CountDownLatch stall) {
+            this.stall = stall;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (stall != null) {
+                try {
+                    stall.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            written.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+
+        List<String> decisions() {
+            return written.stream().filter(event -> event.contains("event:credit-decision")).toList();
+        }
+
+        void awaitDecisions(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+            while (decisions().size() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(expected, decisions().size());
+        }
+    }
+}
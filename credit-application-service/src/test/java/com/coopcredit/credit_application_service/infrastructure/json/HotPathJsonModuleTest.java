@@ -0,0 +1,50 @@
+package com.coopcredit.credit_application_service.infrastructure.json;
+
+import com.coopcredit.credit_application_service.application.dto.AffiliateResponse;
+import com.coopcredit.credit_application_service.application.dto.CreateCreditApplicationRequest;
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationResponse;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotPathJsonModuleTest {
+
+    private final JsonMapper reflective = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+    private final JsonMapper codecs = reflective.rebuild()
+            .addModule(new HotPathJsonModule())
+            .build();
+
+    @Test
+    void shouldWriteTheSameJsonAsTheReflectiveSerializers() {
+        CreditApplicationResponse application = new CreditApplicationResponse(7L, 3L, new BigDecimal("1500000.50"),
+                24, "Aprobado", LocalDate.of(2025, 1, 31), 720, "RIESGO MEDIO",
+                LocalDateTime.of(2025, 1, 31, 10, 0), LocalDateTime.of(2025, 1, 31, 23, 59, 59, 120_000_500));
+        AffiliateResponse affiliate = new AffiliateResponse(3L, "Ana \"Pérez\"", null, new BigDecimal("4200000"),
+                LocalDate.of(2020, 5, 2), "ACTIVO", LocalDateTime.of(2020, 5, 2, 8, 15, 30, 123_000_000),
+                LocalDateTime.of(2024, 12, 1, 0, 0));
+
+        assertEquals(reflective.writeValueAsString(application), codecs.writeValueAsString(application));
+        assertEquals(reflective.writeValueAsString(affiliate), codecs.writeValueAsString(affiliate));
+    }
+
+    @Test
+    void shouldReadCreateRequestLikeTheReflectiveDeserializer() {
+        String json = """
+                {"extra":{"nested":[1,2]},"term":"36","amount":2500000.75,"affiliateId":12}""";
+
+        CreateCreditApplicationRequest request = codecs.readValue(json, CreateCreditApplicationRequest.class);
+
+        assertEquals(reflective.readValue(json, CreateCreditApplicationRequest.class), request);
+        assertEquals(new CreateCreditApplicationRequest(12L, new BigDecimal("2500000.75"), 36), request);
+        assertEquals(new CreateCreditApplicationRequest(null, null, null),
+                codecs.readValue("{}", CreateCreditApplicationRequest.class));
+    }
+}
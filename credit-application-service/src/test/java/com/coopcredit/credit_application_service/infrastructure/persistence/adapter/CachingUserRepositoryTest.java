@@ -0,0 +1,115 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_service.domain.model.Role;
+import com.coopcredit.credit_application_service.domain.model.User;
+import com.coopcredit.credit_application_service.infrastructure.exception.UsernameAlreadyExistsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingUserRepositoryTest {
+
+    @Mock
+    private UserRepositoryAdapter delegate;
+
+    private CachingUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CachingUserRepository(delegate, new SimpleMeterRegistry(), 100,
+                Duration.ofMinutes(5), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        User user = User.reconstruct(1L, "analyst@coopcredit.com", "hash", Role.ROLE_ANALISTA,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(delegate.findByUsername("analyst@coopcredit.com")).thenReturn(Optional.of(user));
+
+        repository.findByUsername("analyst@coopcredit.com");
+        repository.findByUsername("analyst@coopcredit.com");
+        assertTrue(repository.existsByUsername("analyst@coopcredit.com"));
+
+        verify(delegate, times(1)).findByUsername("analyst@coopcredit.com");
+    }
+
+    @Test
+    void shouldCacheUnknownUsernamesAndInvalidateOnSave() {
+        User created = User.create("new@coopcredit.com", "hash", Role.ROLE_AFILIADO);
+        User saved = User.reconstruct(2L, "new@coopcredit.com", "hash", Role.ROLE_AFILIADO,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(delegate.findByUsername("new@coopcredit.com")).thenReturn(Optional.empty(), Optional.of(saved));
+        when(delegate.save(created)).thenReturn(saved);
+
+        assertFalse(repository.findByUsername("new@coopcredit.com").isPresent());
+        assertFalse(repository.findByUsername("new@coopcredit.com").isPresent());
+        repository.save(created);
+        assertTrue(repository.findByUsername("new@coopcredit.com").isPresent());
+
+        verify(delegate, times(2)).findByUsername("new@coopcredit.com");
+    }
+
+    @Test
+    void existsByUsername_shouldNotTrustCachedUnknownUsernames() {
+        when(delegate.findByUsername("taken@coopcredit.com")).thenReturn(Optional.empty());
+        when(delegate.existsByUsername("taken@coopcredit.com")).thenReturn(true);
+
+        assertFalse(repository.findByUsername("taken@coopcredit.com").isPresent());
+        assertTrue(repository.existsByUsername("taken@coopcredit.com"));
+    }
+
+    @Test
+    void save_racingAnInFlightLoad_shouldWinOverItsStaleResult() throws Exception {
+        User created = User.create("racing@coopcredit.com", "hash", Role.ROLE_AFILIADO);
+        User saved = User.reconstruct(4L, "racing@coopcredit.com", "hash", Role.ROLE_AFILIADO,
+                LocalDateTime.now(), LocalDateTime.now());
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch saveDone = new CountDownLatch(1);
+        when(delegate.findByUsername("racing@coopcredit.com")).thenAnswer(invocation -> {
+            loading.countDown();
+            assertTrue(saveDone.await(5, TimeUnit.SECONDS));
+            return Optional.empty();
+        }).thenReturn(Optional.of(saved));
+        when(delegate.save(created)).thenReturn(saved);
+
+        CompletableFuture<Optional<User>> staleLoad =
+                CompletableFuture.supplyAsync(() -> repository.findByUsername("racing@coopcredit.com"));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        repository.save(created);
+        saveDone.countDown();
+
+        assertFalse(staleLoad.get(5, TimeUnit.SECONDS).isPresent());
+        assertTrue(repository.findByUsername("racing@coopcredit.com").isPresent());
+    }
+
+    @Test
+    void save_usernameTaken_shouldStillInvalidateTheCachedEntry() {
+        User created = User.create("taken@coopcredit.com", "hash", Role.ROLE_AFILIADO);
+        User existing = User.reconstruct(3L, "taken@coopcredit.com", "hash", Role.ROLE_AFILIADO,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(delegate.findByUsername("taken@coopcredit.com")).thenReturn(Optional.empty(), Optional.of(existing));
+        when(delegate.save(created)).thenThrow(new UsernameAlreadyExistsException("taken@coopcredit.com"));
+
+        assertFalse(repository.findByUsername("taken@coopcredit.com").isPresent());
+        assertThrows(UsernameAlreadyExistsException.class, () -> repository.save(created));
+        assertTrue(repository.findByUsername("taken@coopcredit.com").isPresent());
+    }
+}
@@ -0,0 +1,123 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_service.application.dto.CreditApplicationMapperImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the retry queue claim against the Flyway schema on an embedded database, with each
+ * claim committing on its own as the worker does. The database is reached through the pooled
+ * data source, as in the dev profile: H2 evaluates check constraints on the session that
+ * created them, which the non-pooled test database closes after the migration.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:claims;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CreditApplicationRepositoryAdapter.class, CreditApplicationMapperImpl.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CreditApplicationRepositoryAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 10, 30);
+
+    @Autowired
+    private CreditApplicationRepositoryAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO affiliates (name, document, salary, registration_date, status, created_at, updated_at) "
+                + "VALUES ('Ana Gomez', '12345678', 5000000, DATE '2023-01-10', 'ACTIVO', ?, ?)",
+                Timestamp.valueOf(NOW), Timestamp.valueOf(NOW));
+        Long affiliateId = jdbcTemplate.queryForObject("SELECT id FROM affiliates WHERE document = '12345678'", Long.class);
+        for (int i = 0; i < 4; i++) {
+            jdbcTemplate.update("INSERT INTO credit_applications (affiliate_id, amount, term, status, submission_date, "
+                    + "risk_attempts, next_risk_attempt_at) VALUES (?, 1000000, 12, 'PENDIENTE', DATE '2025-03-14', 1, ?)",
+                    affiliateId, Timestamp.valueOf(NOW.minusMinutes(i + 1)));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM credit_applications");
+        jdbcTemplate.update("DELETE FROM affiliates");
+    }
+
+    @Test
+    void claimDueRiskRetries_skipsRowsClaimedByAnOpenTransaction() throws Exception {
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+            List<Long> ids = adapter.claimDueRiskRetries(NOW, NOW.plusMinutes(6), 2);
+            claimed.countDown();
+            await(release);
+            return ids;
+        }));
+        assertTrue(claimed.await(10, TimeUnit.SECONDS));
+
+        // Returns without waiting on the open claim; H2 may lock every due row where
+        // PostgreSQL locks only the rows returned, so only the absence of overlap is portable
+        List<Long> second = adapter.claimDueRiskRetries(NOW, NOW.plusMinutes(6), 4);
+        release.countDown();
+        List<Long> firstIds = first.get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, firstIds.size());
+        assertTrue(Collections.disjoint(firstIds, second), () -> firstIds + " " + second);
+        List<Long> rest = adapter.claimDueRiskRetries(NOW, NOW.plusMinutes(6), 4);
+        Set<Long> all = new HashSet<>(firstIds);
+        all.addAll(second);
+        all.addAll(rest);
+        assertEquals(4, all.size());
+        assertEquals(4, firstIds.size() + second.size() + rest.size());
+    }
+
+    @Test
+    void claimDueRiskRetries_claimedRowsAreNotDueAgainUntilTheLeaseExpires() {
+        List<Long> claimed = adapter.claimDueRiskRetries(NOW, NOW.plusMinutes(6), 10);
+
+        assertEquals(4, claimed.size());
+        assertTrue(adapter.claimDueRiskRetries(NOW.plusMinutes(5), NOW.plusMinutes(11), 10).isEmpty());
+        assertEquals(Set.copyOf(claimed),
+                Set.copyOf(adapter.claimDueRiskRetries(NOW.plusMinutes(6), NOW.plusMinutes(12), 10)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
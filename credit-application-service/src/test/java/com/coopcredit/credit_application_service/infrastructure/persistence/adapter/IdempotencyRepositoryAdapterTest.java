@@ -0,0 +1,91 @@
+package com.coopcredit.credit_application_service.infrastructure.persistence.adapter;
+
+import com.coopcredit.credit_application_service.domain.model.IdempotencyRecord;
+import com.coopcredit.credit_application_service.infrastructure.persistence.repository.IdempotencyKeyJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs against the Flyway schema on an embedded database. Every call commits on its own, as in
+ * production, so a failed insert does not poison the rest of the test.
+ */
+@DataJpaTest
+@Import(IdempotencyRepositoryAdapter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyRepositoryAdapterTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 10, 30);
+
+    @Autowired
+    private IdempotencyRepositoryAdapter adapter;
+
+    @Autowired
+    private IdempotencyKeyJpaRepository jpaRepository;
+
+    @AfterEach
+    void cleanUp() {
+        jpaRepository.deleteAll();
+    }
+
+    @Test
+    void shouldStoreBatchResponsesLargerThan10Kb() {
+        String body = IntStream.range(0, 60)
+                .mapToObj(i -> "{\"index\":" + i + ",\"application\":{\"id\":" + (1000 + i)
+                        + ",\"affiliateId\":1,\"amount\":100000.00,\"term\":12,\"status\":\"Aprobado\","
+                        + "\"riskScore\":616,\"riskLevel\":\"MEDIO RIESGO\",\"createdAt\":\"2025-03-14T10:30:00\","
+                        + "\"updatedAt\":\"2025-03-14T10:30:00\"},\"error\":null}")
+                .collect(Collectors.joining(",", "{\"total\":60,\"results\":[", "]}"));
+        assertTrue(body.length() > 10_000);
+        IdempotencyRecord claim = IdempotencyRecord.inProgress("credit-applications-batch/ana", "key-1",
+                "hash", NOW, NOW.plusMinutes(5));
+
+        assertTrue(adapter.saveIfAbsent(claim));
+        adapter.complete(claim.complete(body, NOW.plusHours(24)));
+
+        IdempotencyRecord stored = adapter.find("credit-applications-batch/ana", "key-1").orElseThrow();
+        assertTrue(stored.isCompleted());
+        assertEquals(body, stored.responseBody());
+    }
+
+    @Test
+    void saveIfAbsent_longestUsername_shouldFitTheScope() {
+        String scope = "credit-applications-batch/" + "u".repeat(255);
+        IdempotencyRecord claim = IdempotencyRecord.inProgress(scope, "key-1", "hash", NOW, NOW.plusMinutes(5));
+
+        assertTrue(adapter.saveIfAbsent(claim));
+        assertFalse(adapter.saveIfAbsent(claim));
+        assertTrue(adapter.find(scope, "key-1").isPresent());
+    }
+
+    @Test
+    void saveIfAbsent_keyAlreadyClaimed_shouldReturnFalse() {
+        IdempotencyRecord claim = IdempotencyRecord.inProgress("credit-applications/ana", "key-1",
+                "hash", NOW, NOW.plusMinutes(5));
+
+        assertTrue(adapter.saveIfAbsent(claim));
+        assertFalse(adapter.saveIfAbsent(claim));
+    }
+
+    @Test
+    void saveIfAbsent_otherIntegrityErrors_shouldBeRethrown() {
+        IdempotencyRecord tooLong = IdempotencyRecord.inProgress("credit-applications/ana", "k".repeat(300),
+                "hash", NOW, NOW.plusMinutes(5));
+
+        assertThrows(DataIntegrityViolationException.class, () -> adapter.saveIfAbsent(tooLong));
+    }
+}
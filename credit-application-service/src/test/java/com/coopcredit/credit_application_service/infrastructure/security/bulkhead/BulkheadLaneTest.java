@@ -0,0 +1,62 @@
+package com.coopcredit.credit_application_service.infrastructure.security.bulkhead;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BulkheadLaneTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRejectImmediatelyWhenLaneAndQueueAreFull() throws Exception {
+        BulkheadLane lane = new BulkheadLane("ROLE_AFILIADO",
+                new BulkheadProperties.Lane(1, 0, Duration.ofSeconds(5)), meterRegistry);
+
+        assertTrue(lane.tryEnter());
+        long start = System.nanoTime();
+        assertFalse(lane.tryEnter());
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1), "rejection should not wait");
+        assertEquals(1.0, meterRegistry.get("bulkhead.rejected").tag("lane", "ROLE_AFILIADO").counter().count());
+        assertEquals(1.0, meterRegistry.get("bulkhead.saturation").tag("lane", "ROLE_AFILIADO").gauge().value());
+    }
+
+    @Test
+    void shouldHandOverSlotToQueuedRequest() throws Exception {
+        BulkheadLane lane = new BulkheadLane("ROLE_ANALISTA",
+                new BulkheadProperties.Lane(1, 1, Duration.ofSeconds(5)), meterRegistry);
+        assertTrue(lane.tryEnter());
+
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> {
+            try {
+                return lane.tryEnter();
+            } catch (InterruptedException e) {
+                return false;
+            }
+        });
+        while (meterRegistry.get("bulkhead.queued").tag("lane", "ROLE_ANALISTA").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+        lane.release();
+
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, meterRegistry.get("bulkhead.queued").tag("lane", "ROLE_ANALISTA").gauge().value());
+    }
+
+    @Test
+    void shouldRejectQueuedRequestAfterMaxWait() throws Exception {
+        BulkheadLane lane = new BulkheadLane("ROLE_ADMIN",
+                new BulkheadProperties.Lane(1, 1, Duration.ofMillis(50)), meterRegistry);
+        assertTrue(lane.tryEnter());
+
+        assertFalse(lane.tryEnter());
+        assertEquals(1, meterRegistry.get("bulkhead.wait").tag("lane", "ROLE_ADMIN").timer().count());
+    }
+}
@@ -0,0 +1,111 @@
+package com.coopcredit.credit_application_service.infrastructure.security.jwt;
+
+import com.coopcredit.credit_application_service.domain.model.RefreshToken;
+import com.coopcredit.credit_application_service.domain.model.Role;
+import com.coopcredit.credit_application_service.domain.model.User;
+import com.coopcredit.credit_application_service.domain.port.output.RefreshTokenRepository;
+import com.coopcredit.credit_application_service.domain.port.output.UserRepository;
+import com.coopcredit.credit_application_service.infrastructure.exception.InvalidTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RefreshTokenService(refreshTokenRepository, userRepository, "test-hash-secret", Duration.ofDays(30));
+    }
+
+    @Test
+    void shouldStoreOnlyTheHashOfIssuedTokens() {
+        String token = service.issue("analyst@coopcredit.com", Role.ROLE_ANALISTA);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertNotEquals(token, captor.getValue().tokenHash());
+        assertEquals(64, captor.getValue().tokenHash().length());
+        assertFalse(captor.getValue().revoked());
+    }
+
+    @Test
+    void shouldRotateWithinTheSameFamilyWithTheCurrentRole() {
+        String token = service.issue("analyst@coopcredit.com", Role.ROLE_ANALISTA);
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken stored = captor.getValue();
+        when(refreshTokenRepository.findByTokenHash(stored.tokenHash())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revoke(stored.tokenHash())).thenReturn(true);
+        // Demoted since the token was issued
+        when(userRepository.findByUsername("analyst@coopcredit.com")).thenReturn(Optional.of(User.reconstruct(
+                1L, "analyst@coopcredit.com", "hash", Role.ROLE_AFILIADO, LocalDateTime.now(), LocalDateTime.now())));
+
+        RefreshTokenService.Rotation rotation = service.rotate(token);
+
+        assertEquals("analyst@coopcredit.com", rotation.username());
+        assertEquals(Role.ROLE_AFILIADO, rotation.role());
+        assertNotEquals(token, rotation.refreshToken());
+        verify(refreshTokenRepository, times(2)).save(captor.capture());
+        assertEquals(stored.familyId(), captor.getValue().familyId());
+    }
+
+    @Test
+    void shouldRevokeFamilyWhenRotatedTokenIsReused() {
+        RefreshToken revoked = new RefreshToken("hash", "analyst@coopcredit.com", Role.ROLE_ANALISTA, "family-1",
+                true, LocalDateTime.now(), LocalDateTime.now().plusDays(30));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(revoked));
+
+        assertThrows(InvalidTokenException.class, () -> service.rotate("replayed-token"));
+
+        verify(refreshTokenRepository).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRevokeFamilyWhenUserNoLongerExists() {
+        RefreshToken stored = new RefreshToken("hash", "gone@coopcredit.com", Role.ROLE_ANALISTA, "family-2",
+                false, LocalDateTime.now(), LocalDateTime.now().plusDays(30));
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.of(stored));
+        when(refreshTokenRepository.revoke(anyString())).thenReturn(true);
+        when(userRepository.findByUsername("gone@coopcredit.com")).thenReturn(Optional.empty());
+
+        assertThrows(InvalidTokenException.class, () -> service.rotate("orphan-token"));
+
+        verify(refreshTokenRepository).revokeFamily("family-2");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldRejectUnknownToken() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(InvalidTokenException.class, () -> service.rotate("unknown"));
+    }
+}
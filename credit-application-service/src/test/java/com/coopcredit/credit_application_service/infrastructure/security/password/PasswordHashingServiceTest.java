@@ -0,0 +1,88 @@
+package com.coopcredit.credit_application_service.infrastructure.security.password;
+
+import com.coopcredit.credit_application_service.infrastructure.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (service != null) {
+            service.destroy();
+        }
+    }
+
+    @Test
+    void shouldHashOnExecutorAndRecordLatency() {
+        service = new PasswordHashingService(new PrefixEncoder(), meterRegistry, 1, 4,
+                Duration.ofSeconds(5), Duration.ofSeconds(2));
+        release.countDown();
+
+        assertEquals("hashed:secret", service.encode("secret"));
+        assertTrue(service.matches("secret", "hashed:secret"));
+        assertEquals(1, meterRegistry.get("auth.password.hashing.duration").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        service = new PasswordHashingService(new PrefixEncoder(), meterRegistry, 1, 1,
+                Duration.ofSeconds(5), Duration.ofSeconds(3));
+
+        // Occupy the single thread, then the single queue slot
+        Thread running = new Thread(() -> service.encode("first"));
+        running.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread queued = new Thread(() -> service.encode("second"));
+        queued.start();
+        while (meterRegistry.get("auth.password.hashing.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        ServiceOverloadedException ex = assertThrows(ServiceOverloadedException.class, () -> service.encode("third"));
+        assertEquals(Duration.ofSeconds(3), ex.getRetryAfter());
+        assertEquals(1.0, meterRegistry.get("auth.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        running.join();
+        queued.join();
+    }
+
+    /**
+     * Cheap encoder that blocks until released, standing in for BCrypt
+     */
+    private class PrefixEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.coopcredit.credit_application_service.infrastructure.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void shouldAllowBurstUpToCapacityThenReject() {
+        TokenBucket bucket = new TokenBucket(new RateLimitProperties.Limit(3, 1), 0);
+
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+        assertEquals(0, bucket.tryConsume(0));
+
+        long wait = bucket.tryConsume(0);
+        assertTrue(wait > 0 && wait <= SECOND, "wait should be at most one refill interval: " + wait);
+    }
+
+    @Test
+    void shouldRefillAtConfiguredRateWithoutExceedingCapacity() {
+        TokenBucket bucket = new TokenBucket(new RateLimitProperties.Limit(2, 2), 0);
+        bucket.tryConsume(0);
+        bucket.tryConsume(0);
+
+        // Half a second at 2 tokens/s refills exactly one token
+        assertEquals(0, bucket.tryConsume(SECOND / 2));
+        assertTrue(bucket.tryConsume(SECOND / 2) > 0);
+
+        // A long idle period refills up to capacity only
+        assertEquals(0, bucket.tryConsume(100 * SECOND));
+        assertEquals(0, bucket.tryConsume(100 * SECOND));
+        assertTrue(bucket.tryConsume(100 * SECOND) > 0);
+    }
+}
@@ -0,0 +1,70 @@
+#!/usr/bin/env bash
+# Compare tail latency and memory of the servlet stack (credit-application-service, platform
+# and virtual threads) and the reactive stack (credit-application-reactive, WebFlux + R2DBC)
+# at 1k/5k/10k concurrent clients, on the same PostgreSQL database and risk-central.
+#
+# Prerequisites: JDK 21, k6, all modules packaged (mvn package from the repository root),
+# PostgreSQL running (docker-compose up postgres) and a ROLE_ANALISTA/ROLE_ADMIN access token
+# in $TOKEN (issued by credit-application-service; both stacks share jwt.secret).
+# risk-central-mock-service must already be running on virtual threads, so it does not become
+# the bottleneck at 10k clients:
+#   java -jar risk-central-mock-service/target/*.jar --spring.threads.virtual.enabled=true \
+#     --risk-central.simulated-latency=PT0.1S
+#
+# Usage: TOKEN=... ./load-test/compare-stacks.sh [duration]
+set -euo pipefail
+
+DURATION="${1:-60s}"
+CLIENTS=(1000 5000 10000)
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+SERVLET_JAR="$ROOT/credit-application-service/target/credit-application-service-0.0.1-SNAPSHOT-exec.jar"
+REACTIVE_JAR="$ROOT/credit-application-reactive/target/credit-application-reactive-0.0.1-SNAPSHOT.jar"
+RESULTS="$ROOT/load-test/results/stacks-$(date +%Y%m%d-%H%M%S)"
+mkdir -p "$RESULTS"
+echo "stack,clients,requests_per_second,p95_ms,p99_ms,failed_rate,peak_rss_mb,peak_threads" > "$RESULTS/summary.csv"
+
+: "${TOKEN:?Set TOKEN to a ROLE_ANALISTA or ROLE_ADMIN access token}"
+source "$ROOT/load-test/lib.sh"
+
+# "prod" has no profile-specific file, so both stacks use their base PostgreSQL settings.
+# The same heap cap keeps the memory comparison fair.
+JAVA_OPTS=(-Xmx1g)
+
+for stack in servlet-platform servlet-virtual reactive; do
+    case "$stack" in
+        servlet-*)
+            virtual=false
+            [ "$stack" = servlet-virtual ] && virtual=true
+            # Rate limiting and bulkheads are disabled so they do not cap the comparison
+            java "${JAVA_OPTS[@]}" -jar "$SERVLET_JAR" \
+                --spring.profiles.active=prod \
+                --spring.threads.virtual.enabled="$virtual" \
+                --server.tomcat.max-connections=12000 \
+                --server.tomcat.accept-count=2000 \
+                --rate-limit.enabled=false \
+                --bulkhead.enabled=false \
+                > "$RESULTS/$stack-app.log" 2>&1 &
+            app=$!
+            port=8080
+            started=CreditApplicationServiceApplication
+            ;;
+        reactive)
+            java "${JAVA_OPTS[@]}" -jar "$REACTIVE_JAR" \
+                --spring.profiles.active=prod \
+                > "$RESULTS/$stack-app.log" 2>&1 &
+            app=$!
+            port=8082
+            started=CreditApplicationReactiveApplication
+            ;;
+    esac
+    wait_started "$RESULTS/$stack-app.log" "$started"
+
+    for clients in "${CLIENTS[@]}"; do
+        run_k6 "$stack" "$clients" "http://localhost:$port" "$RESULTS" "$app"
+    done
+
+    kill "$app"
+    wait "$app" 2>/dev/null || true
+done
+
+column -s, -t "$RESULTS/summary.csv"
@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Compare throughput and memory of credit-application-service in platform-thread and
+# virtual-thread mode at 1k/5k/10k concurrent clients.
+#
+# Prerequisites: JDK 21, k6, both services packaged (mvn package), PostgreSQL running
+# (docker-compose up postgres) and a ROLE_ANALISTA/ROLE_ADMIN access token in $TOKEN.
+# risk-central-mock-service must already be running, ideally with a realistic latency:
+#   java -jar risk-central-mock-service/target/*.jar --risk-central.simulated-latency=PT0.1S
+#
+# Usage: TOKEN=... ./load-test/compare-thread-modes.sh [duration]
+set -euo pipefail
+
+DURATION="${1:-60s}"
+CLIENTS=(1000 5000 10000)
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+JAR="$ROOT/credit-application-service/target/credit-application-service-0.0.1-SNAPSHOT-exec.jar"
+RESULTS="$ROOT/load-test/results/$(date +%Y%m%d-%H%M%S)"
+mkdir -p "$RESULTS"
+echo "mode,clients,requests_per_second,p95_ms,p99_ms,failed_rate,peak_rss_mb,peak_threads" > "$RESULTS/summary.csv"
+
+: "${TOKEN:?Set TOKEN to a ROLE_ANALISTA or ROLE_ADMIN access token}"
+source "$ROOT/load-test/lib.sh"
+
+for mode in platform virtual; do
+    virtual=false
+    [ "$mode" = virtual ] && virtual=true
+
+    # Rate limiting and bulkheads are disabled so they do not cap the comparison
+    java -jar "$JAR" \
+        --spring.threads.virtual.enabled="$virtual" \
+        --server.tomcat.max-connections=12000 \
+        --server.tomcat.accept-count=2000 \
+        --rate-limit.enabled=false \
+        --bulkhead.enabled=false \
+        > "$RESULTS/$mode-app.log" 2>&1 &
+    app=$!
+    wait_started "$RESULTS/$mode-app.log" CreditApplicationServiceApplication
+
+    for clients in "${CLIENTS[@]}"; do
+        run_k6 "$mode" "$clients" http://localhost:8080 "$RESULTS" "$app"
+    done
+
+    kill "$app"
+    wait "$app" 2>/dev/null || true
+done
+
+column -s, -t "$RESULTS/summary.csv"
@@ -0,0 +1,49 @@
+# Shared helpers for the load-test comparison scripts (sourced, not executed).
+
+sample_peak() {
+    # Track the peak RSS (kB) and OS thread count of a process while k6 runs
+    local pid=$1 out=$2 rss=0 threads=0
+    while kill -0 "$pid" 2>/dev/null && [ ! -f "$out.stop" ]; do
+        read -r r t < <(ps -o rss=,nlwp= -p "$pid")
+        (( r > rss )) && rss=$r
+        (( t > threads )) && threads=$t
+        sleep 1
+    done
+    echo "$rss $threads" > "$out"
+}
+
+run_k6() {
+    # run_k6 <label> <clients> <base_url> <results_dir> <pid>: one k6 run, appends a row to summary.csv
+    local label=$1 clients=$2 base_url=$3 results=$4 pid=$5
+    local peak="$results/$label-$clients.peak"
+    sample_peak "$pid" "$peak" &
+    local sampler=$!
+
+    k6 run --quiet \
+        -e TOKEN="$TOKEN" -e VUS="$clients" -e DURATION="$DURATION" -e BASE_URL="$base_url" \
+        --summary-export "$results/$label-$clients.json" \
+        "$ROOT/load-test/thread-modes.js"
+
+    touch "$peak.stop"
+    wait "$sampler"
+    local rss threads
+    read -r rss threads < "$peak"
+
+    python3 - "$results/$label-$clients.json" "$label" "$clients" "$rss" "$threads" >> "$results/summary.csv" <<'PY'
+import json, sys
+metrics = json.load(open(sys.argv[1]))["metrics"]
+duration = metrics["http_req_duration"]
+print(",".join([
+    sys.argv[2], sys.argv[3],
+    f'{metrics["http_reqs"]["rate"]:.1f}',
+    f'{duration["p(95)"]:.1f}', f'{duration["p(99)"]:.1f}',
+    f'{metrics["http_req_failed"]["value"]:.4f}',
+    f'{int(sys.argv[4]) / 1024:.0f}', sys.argv[5],
+]))
+PY
+}
+
+wait_started() {
+    # wait_started <log> <application class>
+    until grep -q "Started $2" "$1"; do sleep 1; done
+}
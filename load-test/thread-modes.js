@@ -0,0 +1,46 @@
+// k6 scenario for comparing platform-thread and virtual-thread modes, and the servlet and
+// reactive stacks. Each virtual user submits credit applications in a loop, which exercises
+// the I/O paths: JWT filter, database reads/writes and the call to risk-central.
+//
+// Required env: TOKEN (ROLE_ANALISTA or ROLE_ADMIN access token), VUS, DURATION
+// Optional env: BASE_URL (default http://localhost:8080, the reactive stack listens on 8082)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const HEADERS = {
+    'Content-Type': 'application/json',
+    'Authorization': `Bearer ${__ENV.TOKEN}`,
+};
+
+export const options = {
+    scenarios: {
+        submissions: {
+            executor: 'constant-vus',
+            vus: parseInt(__ENV.VUS || '1000'),
+            duration: __ENV.DURATION || '60s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const document = `LT${Date.now()}`;
+    const res = http.post(`${BASE_URL}/affiliates`, JSON.stringify({
+        name: `Load Test ${document}`,
+        document: document,
+        salary: 8000000,
+        registrationDate: '2020-01-01',
+    }), { headers: HEADERS });
+    check(res, { 'affiliate created': (r) => r.status === 201 });
+    return { affiliateId: res.json('id') };
+}
+
+export default function (data) {
+    const res = http.post(`${BASE_URL}/credit-applications`, JSON.stringify({
+        affiliateId: data.affiliateId,
+        amount: 1000000,
+        term: 12,
+    }), { headers: HEADERS });
+    check(res, { 'submitted': (r) => r.status === 201 });
+}
@@ -2,7 +2,9 @@ package com.coopcredit.risk_central_mock_service.api.controller;
 
 import com.coopcredit.risk_central_mock_service.api.dto.RiskEvaluationRequest;
 import com.coopcredit.risk_central_mock_service.api.dto.RiskEvaluationResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @RestController
@@ -18,12 +21,33 @@ import java.time.LocalDateTime;
 @Validated
 public class RiskCentralController {
 
+    /** Binary JSON encoding from jackson-dataformat-smile */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    private final Duration simulatedLatency;
+
+    /**
+     * @param simulatedLatency artificial delay per evaluation, to mimic a remote bureau in load tests
+     */
+    public RiskCentralController(@Value("${risk-central.simulated-latency:PT0S}") Duration simulatedLatency) {
+        this.simulatedLatency = simulatedLatency;
+    }
+
     /**
      * Evaluate credit risk based on document, amount, and term.
      * Uses a deterministic algorithm based on document hash.
+     * Reads and writes JSON (default), CBOR or Smile, following Content-Type and Accept.
      */
-    @PostMapping
-    public ResponseEntity<RiskEvaluationResponse> evaluateRisk(@Valid @RequestBody RiskEvaluationRequest request) {
+    @PostMapping(
+        consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE},
+        produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<RiskEvaluationResponse> evaluateRisk(@Valid @RequestBody RiskEvaluationRequest request)
+            throws InterruptedException {
+        if (!simulatedLatency.isZero()) {
+            Thread.sleep(simulatedLatency.toMillis());
+        }
+
         // Generate deterministic seed from document
         long seed = Math.abs(request.document().hashCode());
 